@@ -0,0 +1,332 @@
+package com.example.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Throughput of the CPU-bound translation pipeline stages over synthetic locale files.
+ * Each operation processes the whole file, so ops/s times {@code keys} is rows/s; run with
+ * {@code -prof gc} (the profile default) to get {@code gc.alloc.rate.norm}, the bytes
+ * allocated per file.
+ *
+ * <pre>
+ * mvn -B -Pbenchmarks test-compile exec:exec
+ * mvn -B -Pbenchmarks test-compile exec:exec -Djmh.args="protectPlaceholders -p keys=50000 -prof gc"
+ * mvn -B -Pbenchmarks test-compile exec:exec -Djmh.args="validateResults -p keys=100000 -prof gc"
+ * </pre>
+ *
+ * The stages are private, so they are invoked reflectively like in the unit tests; the
+ * per-call overhead is negligible next to a full file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class TranslationPipelineBenchmark {
+    private static final String SOURCE_FILE = "en.json";
+    private static final String OUTPUT_FILE = "fr.json";
+    private static final List<String> UI_LABELS = List.of(
+            "Apply", "Save", "Close", "Cancel", "Clear", "Run", "View", "Lead", "Charge", "Rate",
+            "Open settings", "Sign in", "Sign out", "Next", "Back", "Delete", "Edit", "Share", "Export", "Import"
+    );
+    private static final List<String> WORDS = List.of(
+            "account", "report", "invoice", "customer", "order", "payment", "schedule", "update", "message",
+            "the", "your", "was", "has", "been", "please", "review", "before", "continue", "with", "new"
+    );
+    private static final List<String> PLACEHOLDERS = List.of("{{user.name}}", "{count}", "%1$s", "%d", "<b>", "{date}");
+    private static final List<String> RISKY_TERMS = List.of("lead", "charge", "rate", "run", "clear", "view");
+
+    /** Keys in the synthetic locale file: 30% carry placeholders, 15% repeat a short UI label. */
+    @Param({"1000", "50000", "100000", "500000"})
+    public int keys;
+
+    private Path dataDir;
+    private TranslationService service;
+    private LocaleJsonStreamWriter localeJsonWriter;
+    private RiskyTermsRegistry.RiskyTerms riskyTerms;
+
+    private Method loadRows;
+    private Method flattenRows;
+    private Method preprocessItems;
+    private Method protectPlaceholders;
+    private Method restorePlaceholders;
+    private Method validateResults;
+    private Method mergeWithExistingOrder;
+
+    private List<?> flattenedItems;
+    private List<?> preprocessedItems;
+    private List<?> protectedItems;
+    private List<String> translatedProtectedTexts;
+    private List<String> restoredTexts;
+    private List<Object> translatedItems;
+    private Map<String, String> translatedByFullKey;
+    private Map<String, Map<String, String>> existingSections;
+    private Map<String, Map<String, String>> incomingSections;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataDir = Files.createTempDirectory("translation-benchmark");
+        ObjectMapper mapper = new ObjectMapper();
+        service = newService(dataDir, mapper);
+        localeJsonWriter = new LocaleJsonStreamWriter(mapper.getFactory());
+        riskyTerms = RiskyTermsRegistry.RiskyTerms.of(RISKY_TERMS);
+
+        loadRows = method("loadRows", String.class, String.class);
+        flattenRows = method("flattenRows", List.class);
+        preprocessItems = method("preprocessItems", List.class, RiskyTermsRegistry.RiskyTerms.class);
+        protectPlaceholders = method("protectPlaceholders", List.class);
+        restorePlaceholders = method("restorePlaceholders", List.class, List.class);
+        validateResults = method("validateResults", List.class, List.class, List.class, String.class, String.class, RiskyTermsRegistry.RiskyTerms.class);
+        mergeWithExistingOrder = method("mergeWithExistingOrder", Map.class, Map.class);
+
+        existingSections = syntheticSections(keys, new Random(42));
+        mapper.writeValue(dataDir.resolve(SOURCE_FILE).toFile(), existingSections);
+
+        flattenedItems = flattenPrefixTranslationJson();
+        preprocessedItems = preprocessItems();
+        protectedItems = (List<?>) invoke(protectPlaceholders, preprocessedItems);
+
+        Method protectedText = protectedItems.get(0).getClass().getDeclaredMethod("protectedText");
+        protectedText.setAccessible(true);
+        Method item = protectedItems.get(0).getClass().getDeclaredMethod("item");
+        item.setAccessible(true);
+        Method fullKey = flattenedItems.get(0).getClass().getDeclaredMethod("fullKey");
+        fullKey.setAccessible(true);
+        Method sourceText = flattenedItems.get(0).getClass().getDeclaredMethod("sourceText");
+        sourceText.setAccessible(true);
+
+        // Pseudo-translation keeps the tokens like Google does; every fourth repeated label gets a
+        // different wording so the duplicate-consistency check has findings to report.
+        translatedProtectedTexts = new ArrayList<>(protectedItems.size());
+        for (int i = 0; i < protectedItems.size(); i++) {
+            String text = (String) protectedText.invoke(protectedItems.get(i));
+            String source = (String) sourceText.invoke(item.invoke(protectedItems.get(i)));
+            boolean variant = UI_LABELS.contains(source) && i % 4 == 0;
+            translatedProtectedTexts.add((variant ? "Variante " : "Traduit ") + text);
+        }
+        restoredTexts = restorePlaceholders();
+
+        Constructor<?> translatedItemResult = Class.forName(TranslationService.class.getName() + "$TranslatedItemResult")
+                .getDeclaredConstructor(int.class, String.class, String.class, String.class, boolean.class, String.class);
+        translatedItemResult.setAccessible(true);
+        translatedItems = new ArrayList<>(protectedItems.size());
+        translatedByFullKey = new HashMap<>(protectedItems.size() * 2);
+        incomingSections = new LinkedHashMap<>();
+        for (int i = 0; i < protectedItems.size(); i++) {
+            Object flattened = item.invoke(protectedItems.get(i));
+            String key = (String) fullKey.invoke(flattened);
+            translatedItems.add(translatedItemResult.newInstance(i, key, translatedProtectedTexts.get(i), "google-general", false, ""));
+            translatedByFullKey.put(key, restoredTexts.get(i));
+        }
+
+        // The incoming export lists each section's keys in reverse and adds a few keys the existing file lacks.
+        for (Map.Entry<String, Map<String, String>> section : existingSections.entrySet()) {
+            List<String> sectionKeys = new ArrayList<>(section.getValue().keySet());
+            Map<String, String> incoming = new LinkedHashMap<>();
+            for (int i = sectionKeys.size() - 1; i >= 0; i--) {
+                incoming.put(sectionKeys.get(i), translatedByFullKey.get(section.getKey() + "." + sectionKeys.get(i)));
+            }
+            incoming.put("addedKey", "Nouvelle clé");
+            incomingSections.put(section.getKey(), incoming);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try (Stream<Path> paths = Files.walk(dataDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /** Reads the prefix/key locale JSON into rows and flattens them into translation items. */
+    @Benchmark
+    public List<?> flattenPrefixTranslationJson() throws Exception {
+        return (List<?>) invoke(flattenRows, invoke(loadRows, dataDir.toString(), SOURCE_FILE));
+    }
+
+    @Benchmark
+    public List<?> preprocessItems() throws Exception {
+        return (List<?>) invoke(preprocessItems, flattenedItems, riskyTerms);
+    }
+
+    @Benchmark
+    public List<?> protectPlaceholders() throws Exception {
+        return (List<?>) invoke(protectPlaceholders, preprocessedItems);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<String> restorePlaceholders() throws Exception {
+        return (List<String>) invoke(restorePlaceholders, protectedItems, translatedProtectedTexts);
+    }
+
+    @Benchmark
+    public Object validateResults() throws Exception {
+        return invoke(validateResults, protectedItems, translatedItems, restoredTexts, "en", "fr", riskyTerms);
+    }
+
+    /** Streams the source locale file into the translated output file, as the export does. */
+    @Benchmark
+    public int writeLocaleJson() throws Exception {
+        return localeJsonWriter.write(
+                dataDir.resolve(SOURCE_FILE),
+                dataDir.resolve(OUTPUT_FILE),
+                (section, key) -> translatedByFullKey.get(section + "." + key)
+        );
+    }
+
+    @Benchmark
+    public Object mergeWithExistingOrder() throws Exception {
+        return invoke(mergeWithExistingOrder, existingSections, incomingSections);
+    }
+
+    static Map<String, Map<String, String>> syntheticSections(int keyCount, Random random) {
+        Map<String, Map<String, String>> sections = new LinkedHashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            String section = "section" + (i / 250);
+            int kind = random.nextInt(100);
+            String text;
+            if (kind < 15) {
+                text = UI_LABELS.get(random.nextInt(UI_LABELS.size()));
+            } else if (kind < 45) {
+                text = sentence(random, 3 + random.nextInt(6))
+                        + " " + PLACEHOLDERS.get(random.nextInt(PLACEHOLDERS.size()))
+                        + " " + sentence(random, 2 + random.nextInt(4))
+                        + (random.nextBoolean() ? " " + PLACEHOLDERS.get(random.nextInt(PLACEHOLDERS.size())) : "");
+            } else {
+                text = sentence(random, 4 + random.nextInt(10));
+            }
+            sections.computeIfAbsent(section, ignored -> new LinkedHashMap<>()).put("key" + i, text);
+        }
+        return sections;
+    }
+
+    private static String sentence(Random random, int wordCount) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            String word = WORDS.get(random.nextInt(WORDS.size()));
+            sentence.append(i == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+        }
+        return sentence.toString();
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        Method method = TranslationService.class.getDeclaredMethod(name, parameterTypes);
+        method.setAccessible(true);
+        return method;
+    }
+
+    private Object invoke(Method method, Object... arguments) throws Exception {
+        try {
+            return method.invoke(service, arguments);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause() instanceof Exception cause ? cause : ex;
+        }
+    }
+
+    private static TranslationService newService(Path dataDir, ObjectMapper mapper) throws Exception {
+        TranslationMetrics metrics = new TranslationMetrics(new SimpleMeterRegistry());
+        return new TranslationService(
+                dataDir.toString(),
+                "",
+                "benchmark-project",
+                "global",
+                "https://translation.googleapis.com/v3",
+                "general/translation-llm",
+                false,
+                "",
+                "",
+                "",
+                "",
+                "",
+                "",
+                "",
+                "",
+                "",
+                false,
+                "risky-short",
+                50,
+                3,
+                10,
+                1,
+                "codepoints",
+                30000,
+                2,
+                "en",
+                "en",
+                "",
+                true,
+                true,
+                false,
+                mapper,
+                new RestTemplateBuilder(),
+                new OpenAiTranslationReviewService(
+                        false,
+                        "",
+                        "gpt-5.4",
+                        "https://api.openai.com/v1",
+                        60,
+                        100,
+                        false,
+                        3,
+                        1000,
+                        1,
+                        "low",
+                        "low",
+                        "",
+                        dataDir.resolve("openai-report.csv").toString(),
+                        BigDecimal.ZERO,
+                        BigDecimal.ZERO,
+                        BigDecimal.ZERO,
+                        BigDecimal.ZERO,
+                        mapper,
+                        new RestTemplateBuilder(),
+                        metrics
+                ),
+                new TranslationMemory(false, dataDir.resolve("translation-memory").toString(), 1000, 2000, mapper),
+                new GoogleTranslateConcurrencyLimiter(true, 4, 1, 32, 0.5),
+                // Disabled so every flatten run parses the file instead of hitting the cache.
+                new LocaleFileCache(false, 16),
+                new TranslationCheckpointStore(false, dataDir.resolve("translation-checkpoints").toString(), 1440, mapper),
+                metrics,
+                new TranslationExecutor(4)
+        );
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.web.client.ResourceAccessException;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CancellationException;
 
 @RestControllerAdvice
@@ -30,6 +31,11 @@ public class ApiExceptionHandler {
         return error(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, Object>> handleNotFound(NoSuchElementException ex) {
+        return error(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
     @ExceptionHandler(CancellationException.class)
     public ResponseEntity<Map<String, Object>> handleCancellation(CancellationException ex) {
         return error(HttpStatus.CONFLICT, "Translation was cancelled. No more translation batches will be started.");
@@ -1,11 +1,14 @@
 package com.example.api;
 
+import com.example.api.dto.TranslationComparePage;
+import com.example.api.dto.TranslationComparePageRequest;
 import com.example.api.dto.TranslationCompareRequest;
 import com.example.api.dto.TranslationCompareResult;
 import com.example.api.dto.TranslationCompareTranslateImportRequest;
 import com.example.api.dto.TranslationExportRequest;
 import com.example.api.dto.TranslationExportResult;
 import com.example.api.dto.TranslationFileLoadRequest;
+import com.example.api.dto.TranslationMultiExportRequest;
 import com.example.api.dto.TranslationReviewRequest;
 import com.example.api.dto.TranslationReviewResponse;
 import com.example.api.dto.OpenAiCostEstimateResponse;
@@ -16,11 +19,21 @@ import com.example.api.dto.AdaptiveDatasetSyncResponse;
 import com.example.api.dto.TranslationSaveRequest;
 import com.example.api.dto.SupportedLanguage;
 import com.example.api.dto.TranslationRow;
+import com.example.service.GoogleTranslateConcurrencyLimiter;
+import com.example.service.LocaleFileCache;
+import com.example.service.TranslationFailureRegistry;
+import com.example.service.TranslationJobService;
+import com.example.service.TranslationMemory;
 import com.example.service.TranslationService;
 import com.example.service.OpenAiTranslationReviewService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
@@ -33,8 +46,13 @@ import java.util.Map;
 @RequestMapping("/api/translations")
 public class TranslationController {
 
+    private static final long JOB_EVENTS_TIMEOUT_MS = 30 * 60 * 1000L;
+
     private final TranslationService translationService;
+    private final TranslationJobService translationJobService;
     private final OpenAiTranslationReviewService openAiTranslationReviewService;
+    private final TranslationMemory translationMemory;
+    private final GoogleTranslateConcurrencyLimiter googleConcurrencyLimiter;
     private final String crmDataDirectory;
     private final String crmGlossaryDirectory;
     private final String crmAdaptiveDatasetDirectory;
@@ -46,7 +64,10 @@ public class TranslationController {
 
     public TranslationController(
             TranslationService translationService,
+            TranslationJobService translationJobService,
             OpenAiTranslationReviewService openAiTranslationReviewService,
+            TranslationMemory translationMemory,
+            GoogleTranslateConcurrencyLimiter googleConcurrencyLimiter,
             @Value("${myapp.crm.sourceFilesDirectory:data}") String crmDataDirectory,
             @Value("${myapp.crm.glossaryDirectory:data}") String crmGlossaryDirectory,
             @Value("${myapp.crm.adaptiveDatasetDirectory:data}") String crmAdaptiveDatasetDirectory,
@@ -57,7 +78,10 @@ public class TranslationController {
             @Value("${myapp.selfService.translatedJsonDirectory:data}") String selfServiceTranslatedDirectory
     ) {
         this.translationService = translationService;
+        this.translationJobService = translationJobService;
         this.openAiTranslationReviewService = openAiTranslationReviewService;
+        this.translationMemory = translationMemory;
+        this.googleConcurrencyLimiter = googleConcurrencyLimiter;
         this.crmDataDirectory = crmDataDirectory;
         this.crmGlossaryDirectory = crmGlossaryDirectory;
         this.crmAdaptiveDatasetDirectory = crmAdaptiveDatasetDirectory;
@@ -124,6 +148,7 @@ public class TranslationController {
                     request.getRows(),
                     request.getMode(),
                     request.getPostProcessWithOpenAi(),
+                    Boolean.TRUE.equals(request.getDelta()),
                     translationRequestId
             );
         } finally {
@@ -131,6 +156,125 @@ public class TranslationController {
         }
     }
 
+    @PostMapping("/translate/multi")
+    public List<TranslationExportResult> translateAndStoreMultipleLanguages(
+            @RequestBody TranslationMultiExportRequest request,
+            @RequestHeader(value = "X-Translation-Request-Id", required = false) String translationRequestId
+    ) throws Exception {
+        try {
+            return translationService.translateAndStoreToDirectories(
+                    resolveSourceDirectory(request.getContext()),
+                    resolveTranslatedDirectory(request.getContext()),
+                    request.getFileName(),
+                    request.getTargetLanguages(),
+                    request.getRows(),
+                    request.getMode(),
+                    request.getPostProcessWithOpenAi(),
+                    translationRequestId
+            );
+        } finally {
+            translationService.clearTranslationCancellation(translationRequestId);
+        }
+    }
+
+    @PostMapping("/jobs")
+    public ResponseEntity<TranslationJobService.JobSnapshot> submitTranslationJob(
+            @RequestBody TranslationExportRequest request,
+            @RequestHeader(value = "X-Translation-Request-Id", required = false) String translationRequestId
+    ) {
+        if (request.getRows() == null || request.getRows().isEmpty()) {
+            throw new IllegalArgumentException("No rows provided for translation");
+        }
+        TranslationJobService.JobSnapshot job = translationJobService.submit(
+                translationRequestId,
+                request.getFileName(),
+                request.getTargetLanguage(),
+                request.getRows().size(),
+                translationJobWork(request)
+        );
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @PostMapping("/jobs/{jobId}/resume")
+    public ResponseEntity<TranslationJobService.JobSnapshot> resumeTranslationJob(
+            @PathVariable("jobId") String jobId,
+            @RequestBody TranslationExportRequest request
+    ) {
+        if (request.getRows() == null || request.getRows().isEmpty()) {
+            throw new IllegalArgumentException("No rows provided for translation");
+        }
+        TranslationJobService.JobSnapshot job = translationJobService.resume(
+                jobId,
+                request.getFileName(),
+                request.getTargetLanguage(),
+                request.getRows().size(),
+                translationJobWork(request)
+        );
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping("/jobs/{jobId}/checkpoint")
+    public Map<String, Object> translationJobCheckpoint(@PathVariable("jobId") String jobId) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("jobId", jobId);
+        response.put("journalBytesByTargetLanguage", translationService.translationCheckpoints(jobId));
+        return response;
+    }
+
+    private TranslationJobService.TranslationWork translationJobWork(TranslationExportRequest request) {
+        String sourceDirectory = resolveSourceDirectory(request.getContext());
+        String translatedDirectory = resolveTranslatedDirectory(request.getContext());
+        return jobId -> translationService.translateAndStoreToDirectory(
+                sourceDirectory,
+                translatedDirectory,
+                request.getFileName(),
+                request.getTargetLanguage(),
+                request.getRows(),
+                request.getMode(),
+                request.getPostProcessWithOpenAi(),
+                Boolean.TRUE.equals(request.getDelta()),
+                jobId
+        );
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public TranslationJobService.JobSnapshot translationJobStatus(@PathVariable("jobId") String jobId) {
+        return translationJobService.status(jobId);
+    }
+
+    @GetMapping(value = "/jobs/{jobId}/events", produces = "text/event-stream")
+    public SseEmitter translationJobEvents(@PathVariable("jobId") String jobId) {
+        SseEmitter emitter = new SseEmitter(JOB_EVENTS_TIMEOUT_MS);
+        Runnable unsubscribe = translationJobService.subscribe(jobId, event -> {
+            try {
+                emitter.send(SseEmitter.event().name(event.name()).data(event.snapshot()));
+                if (event.snapshot().status().isFinished()) {
+                    emitter.complete();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        return emitter;
+    }
+
+    @GetMapping("/jobs/{jobId}/result")
+    public ResponseEntity<?> translationJobResult(@PathVariable("jobId") String jobId) {
+        TranslationExportResult result = translationJobService.result(jobId);
+        if (result == null) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(translationJobService.status(jobId));
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/jobs/{jobId}/cancel")
+    public TranslationJobService.JobSnapshot cancelTranslationJob(@PathVariable("jobId") String jobId) {
+        return translationJobService.cancel(jobId);
+    }
+
     @PostMapping("/translate/{requestId}/cancel")
     public Map<String, Object> cancelTranslation(@PathVariable("requestId") String requestId) {
         translationService.cancelTranslationRequest(requestId);
@@ -150,6 +294,18 @@ public class TranslationController {
         );
     }
 
+    @PostMapping("/compare/page")
+    public TranslationComparePage compareFilesPage(@RequestBody TranslationComparePageRequest request) throws Exception {
+        return translationService.compareFilesPage(
+                resolveSourceDirectory(request.getContext()),
+                request.getFileName1(),
+                request.getFileName2(),
+                request.getStatus(),
+                request.getCursor(),
+                request.getLimit()
+        );
+    }
+
     @PostMapping("/compare/translate-import")
     public TranslationExportResult translateImportCompareRows(
             @RequestBody TranslationCompareTranslateImportRequest request,
@@ -233,6 +389,49 @@ public class TranslationController {
                 syncResult.gcsUri()
         );
     }
+
+    @GetMapping("/admin/translation-memory")
+    public TranslationMemory.Stats translationMemoryStats() {
+        return translationMemory.stats();
+    }
+
+    @GetMapping("/admin/isolated-failures")
+    public List<TranslationFailureRegistry.IsolatedFailure> isolatedTranslationFailures() {
+        return translationService.isolatedTranslationFailures();
+    }
+
+    @DeleteMapping("/admin/isolated-failures")
+    public Map<String, Object> clearIsolatedTranslationFailures() {
+        return Map.of("removedEntries", translationService.clearIsolatedTranslationFailures());
+    }
+
+    @GetMapping("/admin/locale-cache")
+    public LocaleFileCache.Stats localeFileCacheStats() {
+        return translationService.localeFileCacheStats();
+    }
+
+    @DeleteMapping("/admin/locale-cache")
+    public Map<String, Object> clearLocaleFileCache() {
+        return Map.of("removedEntries", translationService.clearLocaleFileCache());
+    }
+
+    @GetMapping("/admin/google-concurrency")
+    public GoogleTranslateConcurrencyLimiter.Snapshot googleConcurrencyLimiterSnapshot() {
+        return googleConcurrencyLimiter.snapshot();
+    }
+
+    @DeleteMapping("/admin/translation-memory")
+    public Map<String, Object> invalidateTranslationMemory(
+            @RequestParam("sourceLanguage") String sourceLanguage,
+            @RequestParam("targetLanguage") String targetLanguage
+    ) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("sourceLanguage", sourceLanguage);
+        response.put("targetLanguage", targetLanguage);
+        response.put("removedEntries", translationMemory.invalidateLanguagePair(sourceLanguage, targetLanguage));
+        return response;
+    }
+
     private String resolveSourceDirectory(String context) {
         return "selfService".equalsIgnoreCase(context) ? selfServiceDataDirectory : crmDataDirectory;
     }
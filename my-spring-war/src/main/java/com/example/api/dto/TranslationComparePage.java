@@ -0,0 +1,15 @@
+package com.example.api.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record TranslationComparePage(
+        String file1,
+        String file2,
+        int totalDifferences,
+        Map<String, Integer> statusCounts,
+        String status,
+        List<TranslationCompareDifference> differences,
+        String nextCursor
+) {
+}
@@ -9,6 +9,7 @@ public class TranslationExportRequest {
     private String targetLanguage;
     private String mode;
     private Boolean postProcessWithOpenAi;
+    private Boolean delta;
     private List<TranslationRow> rows;
 
 
@@ -66,4 +67,12 @@ public class TranslationExportRequest {
     public void setPostProcessWithOpenAi(Boolean postProcessWithOpenAi) {
         this.postProcessWithOpenAi = postProcessWithOpenAi;
     }
+
+    public Boolean getDelta() {
+        return delta;
+    }
+
+    public void setDelta(Boolean delta) {
+        this.delta = delta;
+    }
 }
@@ -0,0 +1,69 @@
+package com.example.api.dto;
+
+import java.util.List;
+
+public class TranslationMultiExportRequest {
+    private String path;
+    private String context;
+    private String fileName;
+    private List<String> targetLanguages;
+    private String mode;
+    private Boolean postProcessWithOpenAi;
+    private List<TranslationRow> rows;
+
+
+    public String getContext() {
+        return context;
+    }
+
+    public void setContext(String context) {
+        this.context = context;
+    }
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public List<String> getTargetLanguages() {
+        return targetLanguages;
+    }
+
+    public void setTargetLanguages(List<String> targetLanguages) {
+        this.targetLanguages = targetLanguages;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public List<TranslationRow> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<TranslationRow> rows) {
+        this.rows = rows;
+    }
+
+    public Boolean getPostProcessWithOpenAi() {
+        return postProcessWithOpenAi;
+    }
+
+    public void setPostProcessWithOpenAi(Boolean postProcessWithOpenAi) {
+        this.postProcessWithOpenAi = postProcessWithOpenAi;
+    }
+}
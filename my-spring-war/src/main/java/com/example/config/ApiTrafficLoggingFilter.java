@@ -6,48 +6,80 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class ApiTrafficLoggingFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(ApiTrafficLoggingFilter.class);
-    private static final int MAX_LOG_BODY_LENGTH = 4_000;
+
+    private final int maxBodyBytes;
+    private final List<String> excludedBodyPaths;
+    private final int bodySampleRate;
+    private final AtomicLong requestCounter = new AtomicLong();
+
+    public ApiTrafficLoggingFilter(
+            @Value("${myapp.http.inboundLogging.maxBodyBytes:4000}") int maxBodyBytes,
+            @Value("${myapp.http.inboundLogging.excludedBodyPaths:}") String excludedBodyPaths,
+            @Value("${myapp.http.inboundLogging.bodySampleRate:1}") int bodySampleRate
+    ) {
+        this.maxBodyBytes = Math.max(0, maxBodyBytes);
+        this.excludedBodyPaths = parsePaths(excludedBodyPaths);
+        this.bodySampleRate = Math.max(0, bodySampleRate);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+        if (!shouldCaptureBodies(request)) {
+            long startedAt = System.nanoTime();
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                log.info("Inbound API call <-> method={}, path={}, query={}, status={}, durationMs={}, body=<not captured>",
+                        request.getMethod(),
+                        request.getRequestURI(),
+                        request.getQueryString(),
+                        response.getStatus(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            }
+            return;
+        }
+
+        BoundedCaptureRequestWrapper wrappedRequest = new BoundedCaptureRequestWrapper(request, maxBodyBytes);
+        BoundedCaptureResponseWrapper wrappedResponse = new BoundedCaptureResponseWrapper(response, maxBodyBytes);
 
         try {
             filterChain.doFilter(wrappedRequest, wrappedResponse);
         } finally {
+            wrappedResponse.flushCapturedWriter();
             String requestBody = extractBody(
-                    wrappedRequest.getContentAsByteArray(),
+                    wrappedRequest.capture(),
                     wrappedRequest.getCharacterEncoding(),
                     wrappedRequest.getContentType()
             );
             String responseBody = extractBody(
-                    wrappedResponse.getContentAsByteArray(),
+                    wrappedResponse.capture(),
                     wrappedResponse.getCharacterEncoding(),
                     wrappedResponse.getContentType()
             );
@@ -65,9 +97,30 @@ public class ApiTrafficLoggingFilter extends OncePerRequestFilter {
                     wrappedResponse.getStatus(),
                     extractResponseHeaders(wrappedResponse),
                     responseBody);
+        }
+    }
 
-            wrappedResponse.copyBodyToResponse();
+    private boolean shouldCaptureBodies(HttpServletRequest request) {
+        if (!log.isInfoEnabled() || maxBodyBytes == 0 || bodySampleRate == 0) {
+            return false;
         }
+        String path = request.getRequestURI();
+        for (String excludedPath : excludedBodyPaths) {
+            if (path != null && path.startsWith(excludedPath)) {
+                return false;
+            }
+        }
+        return bodySampleRate == 1 || requestCounter.incrementAndGet() % bodySampleRate == 0;
+    }
+
+    private static List<String> parsePaths(String rawPaths) {
+        if (!StringUtils.hasText(rawPaths)) {
+            return List.of();
+        }
+        return Arrays.stream(rawPaths.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .toList();
     }
 
     private Map<String, List<String>> extractRequestHeaders(HttpServletRequest request) {
@@ -77,14 +130,15 @@ public class ApiTrafficLoggingFilter extends OncePerRequestFilter {
         return headers;
     }
 
-    private Map<String, List<String>> extractResponseHeaders(ContentCachingResponseWrapper response) {
+    private Map<String, List<String>> extractResponseHeaders(HttpServletResponse response) {
         Map<String, List<String>> headers = new LinkedHashMap<>();
         response.getHeaderNames().forEach(name -> headers.put(name, new ArrayList<>(response.getHeaders(name))));
         return headers;
     }
 
-    private String extractBody(byte[] body, String encoding, String contentType) {
-        if (body == null || body.length == 0) {
+    private String extractBody(BoundedByteCapture capture, String encoding, String contentType) {
+        byte[] body = capture.capturedBytes();
+        if (body.length == 0) {
             return "<empty>";
         }
         if (!isLoggableBodyContentType(contentType)) {
@@ -99,11 +153,20 @@ public class ApiTrafficLoggingFilter extends OncePerRequestFilter {
                 ? Charset.forName(normalizedEncoding)
                 : StandardCharsets.UTF_8;
 
-        String text = LogBodyTextDecoder.decode(body, charset);
-        if (text.length() <= MAX_LOG_BODY_LENGTH) {
+        int length = body.length;
+        if (capture.truncated() && StandardCharsets.UTF_8.equals(charset)) {
+            while (length > 0 && (body[length - 1] & 0xC0) == 0x80) {
+                length--;
+            }
+            if (length > 0 && (body[length - 1] & 0xC0) == 0xC0) {
+                length--;
+            }
+        }
+        String text = LogBodyTextDecoder.decode(length == body.length ? body : Arrays.copyOf(body, length), charset);
+        if (!capture.truncated()) {
             return text;
         }
-        return text.substring(0, MAX_LOG_BODY_LENGTH) + " ...<truncated>";
+        return text + " ...<truncated, totalBytes=" + capture.totalBytes() + ">";
     }
 
     private boolean isLoggableBodyContentType(String contentType) {
@@ -0,0 +1,45 @@
+package com.example.config;
+
+import java.util.Arrays;
+
+final class BoundedByteCapture {
+
+    private final byte[] buffer;
+    private int captured;
+    private long totalBytes;
+
+    BoundedByteCapture(int maxBytes) {
+        this.buffer = new byte[Math.max(0, maxBytes)];
+    }
+
+    void append(int value) {
+        if (captured < buffer.length) {
+            buffer[captured++] = (byte) value;
+        }
+        totalBytes++;
+    }
+
+    void append(byte[] bytes, int offset, int length) {
+        if (length <= 0) {
+            return;
+        }
+        int toCopy = Math.min(length, buffer.length - captured);
+        if (toCopy > 0) {
+            System.arraycopy(bytes, offset, buffer, captured, toCopy);
+            captured += toCopy;
+        }
+        totalBytes += length;
+    }
+
+    byte[] capturedBytes() {
+        return Arrays.copyOf(buffer, captured);
+    }
+
+    long totalBytes() {
+        return totalBytes;
+    }
+
+    boolean truncated() {
+        return totalBytes > captured;
+    }
+}
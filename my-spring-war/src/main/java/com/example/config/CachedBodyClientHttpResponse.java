@@ -7,15 +7,22 @@ import org.springframework.http.client.ClientHttpResponse;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 
 public class CachedBodyClientHttpResponse implements ClientHttpResponse {
 
     private final ClientHttpResponse delegate;
     private final byte[] body;
+    private final InputStream remainder;
 
     public CachedBodyClientHttpResponse(ClientHttpResponse delegate, byte[] body) {
+        this(delegate, body, null);
+    }
+
+    public CachedBodyClientHttpResponse(ClientHttpResponse delegate, byte[] prefix, InputStream remainder) {
         this.delegate = delegate;
-        this.body = body;
+        this.body = prefix;
+        this.remainder = remainder;
     }
 
     @Override
@@ -35,7 +42,10 @@ public class CachedBodyClientHttpResponse implements ClientHttpResponse {
 
     @Override
     public InputStream getBody() {
-        return new ByteArrayInputStream(body);
+        if (remainder == null) {
+            return new ByteArrayInputStream(body);
+        }
+        return new SequenceInputStream(new ByteArrayInputStream(body), remainder);
     }
 
     @Override
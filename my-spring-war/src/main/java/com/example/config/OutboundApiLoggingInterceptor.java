@@ -12,24 +12,99 @@ import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 
 public class OutboundApiLoggingInterceptor implements ClientHttpRequestInterceptor {
 
+    public static final String TRANSLATION_REQUEST_ID_HEADER = "X-Translation-Request-Id";
+
     private static final Logger log = LoggerFactory.getLogger(OutboundApiLoggingInterceptor.class);
     private static final int MAX_LOG_BODY_LENGTH = 4_000;
+    private static final Pattern OPENAI_API_KEY_PATTERN = Pattern.compile("(?i)(OPENAI_API_KEY[\"']?\\s*[=:]\\s*[\"']?)[^\\s\",}]+");
+    private static final Pattern BEARER_TOKEN_PATTERN = Pattern.compile("(?i)Bearer\\s+[A-Za-z0-9._\\-]+");
+
+    public enum Mode {
+        FULL,
+        BOUNDED,
+        METADATA;
+
+        public static Mode parse(String rawMode) {
+            String normalized = rawMode == null ? "" : rawMode.trim().toUpperCase(Locale.ROOT);
+            if (normalized.isEmpty()) {
+                return BOUNDED;
+            }
+            try {
+                return Mode.valueOf(normalized);
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Unsupported myapp.http.logging.mode: " + rawMode
+                        + ". Supported values are full, bounded and metadata.");
+            }
+        }
+    }
 
     private final ObjectMapper objectMapper;
+    private final Mode mode;
+    private final int maxBodyBytes;
+    private final int prettyPrintMaxBytes;
+    private final int fullBodySampleRate;
+    private final Set<String> fullBodyRequestIds;
+    private final AtomicLong callCounter = new AtomicLong();
 
     public OutboundApiLoggingInterceptor(ObjectMapper objectMapper) {
+        this(objectMapper, Mode.FULL, MAX_LOG_BODY_LENGTH, Integer.MAX_VALUE, 0, Set.of());
+    }
+
+    public OutboundApiLoggingInterceptor(
+            ObjectMapper objectMapper,
+            Mode mode,
+            int maxBodyBytes,
+            int prettyPrintMaxBytes,
+            int fullBodySampleRate,
+            Set<String> fullBodyRequestIds
+    ) {
         this.objectMapper = objectMapper;
+        this.mode = mode;
+        this.maxBodyBytes = Math.max(0, maxBodyBytes);
+        this.prettyPrintMaxBytes = Math.max(0, prettyPrintMaxBytes);
+        this.fullBodySampleRate = Math.max(0, fullBodySampleRate);
+        this.fullBodyRequestIds = Set.copyOf(fullBodyRequestIds);
     }
 
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        String translationRequestId = request.getHeaders().getFirst(TRANSLATION_REQUEST_ID_HEADER);
+        request.getHeaders().remove(TRANSLATION_REQUEST_ID_HEADER);
+        return switch (resolveMode(translationRequestId)) {
+            case FULL -> interceptWithFullBodies(request, body, execution);
+            case BOUNDED -> interceptWithBoundedBodies(request, body, execution);
+            case METADATA -> interceptWithMetadataOnly(request, body, execution);
+        };
+    }
+
+    Mode resolveMode(String translationRequestId) {
+        if (mode == Mode.FULL) {
+            return Mode.FULL;
+        }
+        if (translationRequestId != null && fullBodyRequestIds.contains(translationRequestId)) {
+            return Mode.FULL;
+        }
+        if (fullBodySampleRate > 0 && callCounter.incrementAndGet() % fullBodySampleRate == 0) {
+            return Mode.FULL;
+        }
+        return mode;
+    }
+
+    private ClientHttpResponse interceptWithFullBodies(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
         log.info("Outbound API request -> method={}, uri={}, headers={}, body={}",
                 request.getMethod(),
                 request.getURI(),
@@ -57,6 +132,84 @@ public class OutboundApiLoggingInterceptor implements ClientHttpRequestIntercept
         }
     }
 
+    private ClientHttpResponse interceptWithBoundedBodies(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (log.isInfoEnabled()) {
+            log.info("Outbound API request -> method={}, uri={}, headers={}, body={}",
+                    request.getMethod(),
+                    request.getURI(),
+                    sanitizeHeaders(request.getHeaders()),
+                    formatBoundedBody(body, body.length, true, request.getHeaders().getContentType()));
+        }
+
+        long startedAt = System.nanoTime();
+        ClientHttpResponse response = execution.execute(request, body);
+        if (!log.isInfoEnabled()) {
+            return response;
+        }
+        try {
+            InputStream responseBody = response.getBody();
+            byte[] prefix = responseBody.readNBytes(maxBodyBytes + 1);
+            boolean complete = prefix.length <= maxBodyBytes;
+            log.info("Outbound API response <- method={}, uri={}, status={}, durationMs={}, headers={}, body={}",
+                    request.getMethod(),
+                    request.getURI(),
+                    response.getStatusCode(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt),
+                    sanitizeHeaders(response.getHeaders()),
+                    formatBoundedBody(prefix, complete ? prefix.length : -1, complete, response.getHeaders().getContentType()));
+            return complete
+                    ? new CachedBodyClientHttpResponse(response, prefix)
+                    : new CachedBodyClientHttpResponse(response, prefix, responseBody);
+        } catch (IOException ex) {
+            log.warn("Outbound API response logging skipped -> method={}, uri={}, reason={}",
+                    request.getMethod(),
+                    request.getURI(),
+                    ex.getMessage());
+            return response;
+        }
+    }
+
+    private ClientHttpResponse interceptWithMetadataOnly(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        long startedAt = System.nanoTime();
+        ClientHttpResponse response = execution.execute(request, body);
+        log.info("Outbound API call <-> method={}, uri={}, status={}, requestBytes={}, durationMs={}",
+                request.getMethod(),
+                request.getURI(),
+                response.getStatusCode(),
+                body.length,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return response;
+    }
+
+    private String formatBoundedBody(byte[] body, int totalBytes, boolean complete, MediaType contentType) {
+        if (body == null || body.length == 0) {
+            return "<empty>";
+        }
+        if (complete && body.length <= prettyPrintMaxBytes) {
+            return prettifyAndTruncateBody(body, contentType);
+        }
+
+        Charset charset = contentType != null && contentType.getCharset() != null
+                ? contentType.getCharset()
+                : StandardCharsets.UTF_8;
+        int length = Math.min(body.length, maxBodyBytes);
+        if (length < body.length && StandardCharsets.UTF_8.equals(charset)) {
+            while (length > 0 && (body[length] & 0xC0) == 0x80) {
+                length--;
+            }
+        }
+        String text = redact(LogBodyTextDecoder.decode(Arrays.copyOf(body, length), charset));
+        if (length == body.length && complete) {
+            return text;
+        }
+        return text + " ...<truncated, totalBytes=" + (totalBytes >= 0 ? totalBytes : ">" + maxBodyBytes) + ">";
+    }
+
+    private String redact(String text) {
+        String redacted = OPENAI_API_KEY_PATTERN.matcher(text).replaceAll("$1***REDACTED***");
+        return BEARER_TOKEN_PATTERN.matcher(redacted).replaceAll("Bearer ***REDACTED***");
+    }
+
     private String prettifyAndTruncateBody(byte[] body, MediaType contentType) {
         if (body == null || body.length == 0) {
             return "<empty>";
@@ -74,9 +227,7 @@ public class OutboundApiLoggingInterceptor implements ClientHttpRequestIntercept
             // Keep the raw body when it is not valid JSON.
         }
 
-        formatted = formatted
-                .replaceAll("(?i)(OPENAI_API_KEY[\"']?\\s*[=:]\\s*[\"']?)[^\\s\",}]+", "$1***REDACTED***")
-                .replaceAll("(?i)Bearer\\s+[A-Za-z0-9._\\-]+", "Bearer ***REDACTED***");
+        formatted = redact(formatted);
 
         if (formatted.length() <= MAX_LOG_BODY_LENGTH) {
             return formatted;
@@ -0,0 +1,176 @@
+package com.example.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateBuilderConfigurer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Configuration
+public class OutboundHttpClientConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboundHttpClientConfig.class);
+
+    private final Duration connectTimeout;
+    private final int maxConnectionsPerHost;
+    private final String maxConnectionsPerHostOverrides;
+    private final boolean warmUpEnabled;
+    private final String warmUpUrls;
+    private final String loggingMode;
+    private final int loggingMaxBodyBytes;
+    private final int loggingPrettyPrintMaxBytes;
+    private final int loggingFullBodySampleRate;
+    private final String loggingFullBodyRequestIds;
+
+    public OutboundHttpClientConfig(
+            @Value("${myapp.http.connectTimeoutMs:15000}") long connectTimeoutMs,
+            @Value("${myapp.http.maxConnectionsPerHost:16}") int maxConnectionsPerHost,
+            @Value("${myapp.http.maxConnectionsPerHostOverrides:}") String maxConnectionsPerHostOverrides,
+            @Value("${myapp.http.warmUpEnabled:true}") boolean warmUpEnabled,
+            @Value("${myapp.http.warmUpUrls:https://translation.googleapis.com/,${openai.base-url:https://api.openai.com/v1}}") String warmUpUrls,
+            @Value("${myapp.http.logging.mode:bounded}") String loggingMode,
+            @Value("${myapp.http.logging.maxBodyBytes:4000}") int loggingMaxBodyBytes,
+            @Value("${myapp.http.logging.prettyPrintMaxBytes:16384}") int loggingPrettyPrintMaxBytes,
+            @Value("${myapp.http.logging.fullBodySampleRate:0}") int loggingFullBodySampleRate,
+            @Value("${myapp.http.logging.fullBodyRequestIds:}") String loggingFullBodyRequestIds
+    ) {
+        this.connectTimeout = Duration.ofMillis(connectTimeoutMs);
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.maxConnectionsPerHostOverrides = maxConnectionsPerHostOverrides;
+        this.warmUpEnabled = warmUpEnabled;
+        this.warmUpUrls = warmUpUrls;
+        this.loggingMode = loggingMode;
+        this.loggingMaxBodyBytes = loggingMaxBodyBytes;
+        this.loggingPrettyPrintMaxBytes = loggingPrettyPrintMaxBytes;
+        this.loggingFullBodySampleRate = loggingFullBodySampleRate;
+        this.loggingFullBodyRequestIds = loggingFullBodyRequestIds;
+    }
+
+    @Bean
+    public HttpClient outboundHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Bean
+    public PerHostConcurrencyLimitInterceptor perHostConcurrencyLimitInterceptor() {
+        return new PerHostConcurrencyLimitInterceptor(maxConnectionsPerHost, parseHostOverrides(maxConnectionsPerHostOverrides));
+    }
+
+    @Bean
+    public OutboundApiLoggingInterceptor outboundApiLoggingInterceptor(ObjectMapper objectMapper) {
+        return new OutboundApiLoggingInterceptor(
+                objectMapper,
+                OutboundApiLoggingInterceptor.Mode.parse(loggingMode),
+                loggingMaxBodyBytes,
+                loggingPrettyPrintMaxBytes,
+                loggingFullBodySampleRate,
+                Set.copyOf(parseList(loggingFullBodyRequestIds))
+        );
+    }
+
+    @Bean
+    public RestTemplateBuilder restTemplateBuilder(
+            RestTemplateBuilderConfigurer configurer,
+            HttpClient outboundHttpClient,
+            PerHostConcurrencyLimitInterceptor perHostConcurrencyLimitInterceptor,
+            OutboundApiLoggingInterceptor outboundApiLoggingInterceptor
+    ) {
+        return configurer.configure(new RestTemplateBuilder())
+                .requestFactory(settings -> {
+                    JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(outboundHttpClient);
+                    if (settings.readTimeout() != null) {
+                        requestFactory.setReadTimeout(settings.readTimeout());
+                    }
+                    return requestFactory;
+                })
+                .additionalInterceptors(perHostConcurrencyLimitInterceptor, outboundApiLoggingInterceptor);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpConnections() {
+        if (!warmUpEnabled) {
+            return;
+        }
+        HttpClient httpClient = outboundHttpClient();
+        for (String url : parseList(warmUpUrls)) {
+            URI uri;
+            try {
+                uri = URI.create(url);
+            } catch (IllegalArgumentException ex) {
+                log.warn("Skipping invalid outbound warm-up URL {}: {}", url, ex.getMessage());
+                continue;
+            }
+            long startedAt = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                    .timeout(connectTimeout)
+                    .build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+                        if (error != null) {
+                            log.warn("Outbound connection warm-up failed host={}, elapsedMs={}, reason={}",
+                                    uri.getHost(), elapsedMs, error.getMessage());
+                        } else {
+                            log.info("Outbound connection warmed up host={}, protocol={}, status={}, elapsedMs={}",
+                                    uri.getHost(), response.version(), response.statusCode(), elapsedMs);
+                        }
+                    });
+        }
+    }
+
+    static Map<String, Integer> parseHostOverrides(String rawOverrides) {
+        Map<String, Integer> overrides = new LinkedHashMap<>();
+        for (String entry : parseList(rawOverrides)) {
+            int separator = entry.indexOf('=');
+            if (separator < 1 || separator == entry.length() - 1) {
+                throw new IllegalStateException("Invalid myapp.http.maxConnectionsPerHostOverrides entry: " + entry
+                        + ". Expected host=limit");
+            }
+            String host = entry.substring(0, separator).trim().toLowerCase(Locale.ROOT);
+            int limit;
+            try {
+                limit = Integer.parseInt(entry.substring(separator + 1).trim());
+            } catch (NumberFormatException ex) {
+                throw new IllegalStateException("Invalid connection limit for host " + host + ": " + entry, ex);
+            }
+            if (limit <= 0) {
+                throw new IllegalStateException("Connection limit for host " + host + " must be greater than zero");
+            }
+            overrides.put(host, limit);
+        }
+        return overrides;
+    }
+
+    private static List<String> parseList(String rawValue) {
+        if (rawValue == null || rawValue.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(rawValue.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+}
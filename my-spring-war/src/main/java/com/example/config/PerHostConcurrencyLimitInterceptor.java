@@ -0,0 +1,147 @@
+package com.example.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of in-flight requests per host. With the shared HTTP/2 client
+ * requests to one host are multiplexed over pooled connections, so this is the
+ * per-host equivalent of a connection pool's max-connections setting. The permit is
+ * held until the response body has been read to the end or the response is closed.
+ */
+public class PerHostConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final int defaultMaxConcurrentRequests;
+    private final Map<String, Integer> maxConcurrentRequestsByHost;
+    private final Map<String, Semaphore> permitsByHost = new ConcurrentHashMap<>();
+
+    public PerHostConcurrencyLimitInterceptor(int defaultMaxConcurrentRequests, Map<String, Integer> maxConcurrentRequestsByHost) {
+        if (defaultMaxConcurrentRequests <= 0) {
+            throw new IllegalStateException("Max connections per host must be greater than zero");
+        }
+        this.defaultMaxConcurrentRequests = defaultMaxConcurrentRequests;
+        this.maxConcurrentRequestsByHost = Map.copyOf(maxConcurrentRequestsByHost);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Semaphore permits = permitsFor(request.getURI().getHost());
+        try {
+            permits.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection to " + request.getURI().getHost());
+        }
+        try {
+            return new PermitReleasingResponse(execution.execute(request, body), permits);
+        } catch (IOException | RuntimeException | Error ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    int maxConcurrentRequestsFor(String host) {
+        String normalizedHost = host == null ? "" : host.toLowerCase(Locale.ROOT);
+        return maxConcurrentRequestsByHost.getOrDefault(normalizedHost, defaultMaxConcurrentRequests);
+    }
+
+    int availablePermitsFor(String host) {
+        return permitsFor(host).availablePermits();
+    }
+
+    private Semaphore permitsFor(String host) {
+        String normalizedHost = host == null ? "" : host.toLowerCase(Locale.ROOT);
+        return permitsByHost.computeIfAbsent(normalizedHost, key -> new Semaphore(maxConcurrentRequestsFor(key), true));
+    }
+
+    private static final class PermitReleasingResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private InputStream body;
+
+        private PermitReleasingResponse(ClientHttpResponse delegate, Semaphore permits) {
+            this.delegate = delegate;
+            this.permits = permits;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new FilterInputStream(delegate.getBody()) {
+                    @Override
+                    public int read() throws IOException {
+                        int value = super.read();
+                        if (value < 0) {
+                            release();
+                        }
+                        return value;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        int count = super.read(buffer, offset, length);
+                        if (count < 0) {
+                            release();
+                        }
+                        return count;
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            release();
+                        }
+                    }
+                };
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                release();
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
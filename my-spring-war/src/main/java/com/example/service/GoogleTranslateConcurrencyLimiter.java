@@ -0,0 +1,193 @@
+package com.example.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Process-wide AIMD limit on in-flight Google Translate calls. Every 429/503 multiplies
+ * the limit by the configured decrease factor (at most once per window of in-flight
+ * requests, never below the minimum) and each run of {@code limit} successful calls
+ * raises it by one, so concurrent translation requests share a single view of the
+ * project's quota.
+ */
+@Service
+public class GoogleTranslateConcurrencyLimiter {
+    private static final Logger log = LoggerFactory.getLogger(GoogleTranslateConcurrencyLimiter.class);
+    private static final long ACQUIRE_POLL_MS = 200;
+
+    public enum Outcome {
+        SUCCESS,
+        OVERLOADED,
+        IGNORED
+    }
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double decreaseFactor;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    private int limit;
+    private int inFlight;
+    private int queued;
+    private int successesSinceIncrease;
+    private long generation;
+    private long successes;
+    private long overloads;
+    private long limitDecreases;
+    private long limitIncreases;
+
+    public GoogleTranslateConcurrencyLimiter(
+            @Value("${myapp.google.concurrencyLimiter.enabled:true}") boolean enabled,
+            @Value("${myapp.google.concurrencyLimiter.initialLimit:4}") int initialLimit,
+            @Value("${myapp.google.concurrencyLimiter.minLimit:1}") int minLimit,
+            @Value("${myapp.google.concurrencyLimiter.maxLimit:32}") int maxLimit,
+            @Value("${myapp.google.concurrencyLimiter.decreaseFactor:0.5}") double decreaseFactor
+    ) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalStateException("Google concurrency limiter requires 0 < minLimit <= maxLimit");
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalStateException("Google concurrency limiter initialLimit must be between minLimit and maxLimit");
+        }
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalStateException("Google concurrency limiter decreaseFactor must be between 0 and 1");
+        }
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.decreaseFactor = decreaseFactor;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Blocks until a permit is available. {@code cancellationCheck} runs between
+     * waits so a cancelled translation stops queueing for quota.
+     */
+    public Permit acquire(Runnable cancellationCheck) {
+        if (!enabled) {
+            return new Permit(-1);
+        }
+        lock.lock();
+        try {
+            queued++;
+            try {
+                while (inFlight >= limit) {
+                    cancellationCheck.run();
+                    permitReleased.await(ACQUIRE_POLL_MS, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a Google Translate permit", ex);
+            } finally {
+                queued--;
+            }
+            inFlight++;
+            return new Permit(generation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(Permit permit, Outcome outcome) {
+        if (!enabled || permit.generation() < 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            inFlight--;
+            if (outcome == Outcome.SUCCESS) {
+                successes++;
+                onSuccess();
+            } else if (outcome == Outcome.OVERLOADED) {
+                overloads++;
+                onOverload(permit);
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static Outcome outcomeForStatus(int statusCode) {
+        if (statusCode == 429 || statusCode == 503) {
+            return Outcome.OVERLOADED;
+        }
+        return statusCode >= 200 && statusCode < 300 ? Outcome.SUCCESS : Outcome.IGNORED;
+    }
+
+    public Snapshot snapshot() {
+        lock.lock();
+        try {
+            return new Snapshot(
+                    enabled,
+                    limit,
+                    minLimit,
+                    maxLimit,
+                    inFlight,
+                    queued,
+                    successes,
+                    overloads,
+                    limitDecreases,
+                    limitIncreases
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSuccess() {
+        if (limit >= maxLimit) {
+            successesSinceIncrease = 0;
+            return;
+        }
+        successesSinceIncrease++;
+        if (successesSinceIncrease >= limit) {
+            successesSinceIncrease = 0;
+            limit++;
+            limitIncreases++;
+            log.debug("Google Translate concurrency limit increased to {}", limit);
+        }
+    }
+
+    private void onOverload(Permit permit) {
+        // Requests started before the last decrease were sent at the old limit;
+        // their 429s must not shrink the limit a second time.
+        if (permit.generation() < generation) {
+            return;
+        }
+        int previousLimit = limit;
+        limit = Math.max(minLimit, (int) Math.floor(limit * decreaseFactor));
+        successesSinceIncrease = 0;
+        generation++;
+        if (limit != previousLimit) {
+            limitDecreases++;
+        }
+        log.warn("Google Translate quota pressure: concurrency limit {} -> {}, inFlight={}, queued={}",
+                previousLimit, limit, inFlight, queued);
+    }
+
+    public record Permit(long generation) {
+    }
+
+    public record Snapshot(
+            boolean enabled,
+            int limit,
+            int minLimit,
+            int maxLimit,
+            int inFlight,
+            int queued,
+            long successes,
+            long overloads,
+            long limitDecreases,
+            long limitIncreases
+    ) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.service;
+
+import com.example.api.dto.TranslationCompareDifference;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Sorted key paths of two locale files, merged on demand. Building the index sorts each
+ * side once and counts differences per status; a page is then a binary search to the
+ * cursor followed by a merge walk that stops after {@code limit} matching differences.
+ */
+public class LocaleCompareIndex {
+    public static final String MISSING_IN_FILE_1 = "Missing in file 1";
+    public static final String MISSING_IN_FILE_2 = "Missing in file 2";
+    public static final String DIFFERENT_VALUES = "Different values";
+    private static final List<String> STATUSES = List.of(MISSING_IN_FILE_1, MISSING_IN_FILE_2, DIFFERENT_VALUES);
+
+    private final Map<String, Map<String, String>> sections1;
+    private final Map<String, Map<String, String>> sections2;
+    private final String[] keys1;
+    private final String[] values1;
+    private final String[] keys2;
+    private final String[] values2;
+    private final Map<String, Integer> statusCounts;
+
+    public LocaleCompareIndex(Map<String, Map<String, String>> sections1, Map<String, Map<String, String>> sections2) {
+        this.sections1 = sections1;
+        this.sections2 = sections2;
+        Map<String, String> flattened1 = flatten(sections1);
+        Map<String, String> flattened2 = flatten(sections2);
+        this.keys1 = sortedKeys(flattened1);
+        this.values1 = valuesFor(keys1, flattened1);
+        this.keys2 = sortedKeys(flattened2);
+        this.values2 = valuesFor(keys2, flattened2);
+
+        int[] counts = new int[STATUSES.size()];
+        walk(0, 0, null, Integer.MAX_VALUE, difference -> counts[STATUSES.indexOf(difference.status())]++);
+        Map<String, Integer> statusCounts = new LinkedHashMap<>();
+        for (int i = 0; i < STATUSES.size(); i++) {
+            statusCounts.put(STATUSES.get(i), counts[i]);
+        }
+        this.statusCounts = Collections.unmodifiableMap(statusCounts);
+    }
+
+    /** True when this index was built from exactly these (cached, immutable) section maps. */
+    public boolean isFor(Map<String, Map<String, String>> sections1, Map<String, Map<String, String>> sections2) {
+        return this.sections1 == sections1 && this.sections2 == sections2;
+    }
+
+    public Map<String, Integer> statusCounts() {
+        return statusCounts;
+    }
+
+    public int totalDifferences() {
+        return statusCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public static String normalizeStatus(String status) {
+        if (status == null || status.isBlank() || "ALL".equalsIgnoreCase(status.trim())) {
+            return null;
+        }
+        for (String knownStatus : STATUSES) {
+            if (knownStatus.equalsIgnoreCase(status.trim())) {
+                return knownStatus;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported compare status: " + status + ". Expected one of " + STATUSES);
+    }
+
+    /**
+     * Returns up to {@code limit} differences after {@code cursor} (exclusive), optionally
+     * restricted to one status. The next cursor is null once the merge reaches the end.
+     */
+    public Page page(String cursor, String status, int limit) {
+        String afterKey = decodeCursor(cursor);
+        int start1 = afterKey == null ? 0 : firstIndexAfter(keys1, afterKey);
+        int start2 = afterKey == null ? 0 : firstIndexAfter(keys2, afterKey);
+        List<TranslationCompareDifference> differences = new ArrayList<>(Math.min(limit, 1024));
+        boolean hasMore = walk(start1, start2, status, limit, differences::add);
+        String nextCursor = hasMore && !differences.isEmpty()
+                ? encodeCursor(differences.get(differences.size() - 1).keyPath())
+                : null;
+        return new Page(differences, nextCursor);
+    }
+
+    /** Merges both sorted key arrays; returns true when it stopped at the limit with keys left to visit. */
+    private boolean walk(
+            int index1,
+            int index2,
+            String status,
+            int limit,
+            Consumer<TranslationCompareDifference> sink
+    ) {
+        int emitted = 0;
+        while (index1 < keys1.length || index2 < keys2.length) {
+            int order = index1 >= keys1.length ? 1
+                    : index2 >= keys2.length ? -1
+                    : keys1[index1].compareTo(keys2[index2]);
+            TranslationCompareDifference difference;
+            if (order < 0) {
+                difference = new TranslationCompareDifference(keys1[index1], values1[index1], "", MISSING_IN_FILE_2);
+                index1++;
+            } else if (order > 0) {
+                difference = new TranslationCompareDifference(keys2[index2], "", values2[index2], MISSING_IN_FILE_1);
+                index2++;
+            } else {
+                String value1 = values1[index1];
+                String value2 = values2[index2];
+                difference = Objects.equals(value1, value2)
+                        ? null
+                        : new TranslationCompareDifference(keys1[index1], value1, value2, DIFFERENT_VALUES);
+                index1++;
+                index2++;
+            }
+            if (difference == null || (status != null && !status.equals(difference.status()))) {
+                continue;
+            }
+            if (emitted == limit) {
+                return true;
+            }
+            sink.accept(difference);
+            emitted++;
+        }
+        return false;
+    }
+
+    private static int firstIndexAfter(String[] keys, String afterKey) {
+        int position = Arrays.binarySearch(keys, afterKey);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    private static Map<String, String> flatten(Map<String, Map<String, String>> sections) {
+        Map<String, String> flattened = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, String>> sectionEntry : sections.entrySet()) {
+            String section = sectionEntry.getKey();
+            for (Map.Entry<String, String> keyEntry : sectionEntry.getValue().entrySet()) {
+                flattened.put(section + "." + keyEntry.getKey(), keyEntry.getValue());
+            }
+        }
+        return flattened;
+    }
+
+    private static String[] sortedKeys(Map<String, String> flattened) {
+        String[] keys = flattened.keySet().toArray(String[]::new);
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    private static String[] valuesFor(String[] keys, Map<String, String> flattened) {
+        String[] values = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = flattened.get(keys[i]);
+        }
+        return values;
+    }
+
+    private static String encodeCursor(String keyPath) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(keyPath.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid compare cursor", ex);
+        }
+    }
+
+    public record Page(List<TranslationCompareDifference> differences, String nextCursor) {
+    }
+}
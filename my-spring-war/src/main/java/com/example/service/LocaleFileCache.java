@@ -0,0 +1,294 @@
+package com.example.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-process LRU cache of parsed locale files ({@code section -> key -> text}), keyed by
+ * path and validated against the file's mtime and size. Directories holding cached files
+ * are watched so external edits drop their entries right away; the mtime/size check
+ * still covers file systems where watch events are unreliable. Cached maps are
+ * unmodifiable and shared between callers.
+ */
+@Service
+public class LocaleFileCache {
+    private static final Logger log = LoggerFactory.getLogger(LocaleFileCache.class);
+    private static final long ENTRY_OVERHEAD_BYTES = 96;
+
+    @FunctionalInterface
+    public interface Loader {
+        Map<String, Map<String, String>> load(Path file) throws IOException;
+    }
+
+    private final boolean enabled;
+    private final long maxWeightBytes;
+    private final LinkedHashMap<Path, CachedFile> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Path> watchedDirectories = new HashSet<>();
+
+    private long totalWeightBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+    private long oversized;
+    private WatchService watchService;
+
+    public LocaleFileCache(
+            @Value("${myapp.localeCache.enabled:true}") boolean enabled,
+            @Value("${myapp.localeCache.maxMegabytes:128}") long maxMegabytes
+    ) {
+        if (maxMegabytes <= 0) {
+            throw new IllegalStateException("Locale cache max megabytes must be greater than zero");
+        }
+        this.enabled = enabled;
+        this.maxWeightBytes = maxMegabytes * 1024 * 1024;
+    }
+
+    /**
+     * True when a file of this size is expected to fit in the cache. Callers that can
+     * stream a file instead of materialising it should do so for files that do not fit.
+     */
+    public boolean accepts(Path file) throws IOException {
+        // Parsed UTF-16 strings plus map entries take roughly twice the UTF-8 file size.
+        return enabled && Files.size(file) * 2 <= maxWeightBytes;
+    }
+
+    public Map<String, Map<String, String>> get(Path file, Loader loader) throws IOException {
+        Path path = file.toAbsolutePath().normalize();
+        if (!enabled) {
+            return loader.load(path);
+        }
+
+        // Attributes are read before loading so a concurrent write leaves a stale stamp,
+        // never stale content with a fresh one.
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        synchronized (this) {
+            CachedFile cached = entries.get(path);
+            if (cached != null && cached.matches(attributes)) {
+                hits++;
+                return cached.sections();
+            }
+            if (cached != null) {
+                remove(path);
+                invalidations++;
+            }
+            misses++;
+        }
+
+        Map<String, Map<String, String>> sections = freeze(loader.load(path));
+        long weight = estimateWeight(sections);
+        watch(path.getParent());
+        synchronized (this) {
+            if (weight > maxWeightBytes) {
+                oversized++;
+                return sections;
+            }
+            CachedFile previous = entries.put(path, new CachedFile(sections, attributes.lastModifiedTime(), attributes.size(), weight));
+            if (previous != null) {
+                totalWeightBytes -= previous.weightBytes();
+            }
+            totalWeightBytes += weight;
+            evictOverBudget();
+        }
+        return sections;
+    }
+
+    public synchronized void invalidate(Path file) {
+        if (remove(file.toAbsolutePath().normalize())) {
+            invalidations++;
+        }
+    }
+
+    public synchronized int clear() {
+        int removed = entries.size();
+        entries.clear();
+        totalWeightBytes = 0;
+        return removed;
+    }
+
+    public synchronized Stats stats() {
+        long lookups = hits + misses;
+        return new Stats(
+                enabled,
+                entries.size(),
+                totalWeightBytes,
+                maxWeightBytes,
+                hits,
+                misses,
+                lookups == 0 ? 0.0 : (double) hits / lookups,
+                evictions,
+                invalidations,
+                oversized,
+                watchedDirectories.size()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        WatchService service;
+        synchronized (watchedDirectories) {
+            service = watchService;
+            watchService = null;
+            watchedDirectories.clear();
+        }
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException ex) {
+                log.debug("Failed to close locale cache watch service: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private boolean remove(Path path) {
+        CachedFile removed = entries.remove(path);
+        if (removed == null) {
+            return false;
+        }
+        totalWeightBytes -= removed.weightBytes();
+        return true;
+    }
+
+    private void evictOverBudget() {
+        Iterator<Map.Entry<Path, CachedFile>> iterator = entries.entrySet().iterator();
+        while (totalWeightBytes > maxWeightBytes && iterator.hasNext()) {
+            Map.Entry<Path, CachedFile> eldest = iterator.next();
+            totalWeightBytes -= eldest.getValue().weightBytes();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    private synchronized void invalidateDirectory(Path directory) {
+        Iterator<Map.Entry<Path, CachedFile>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, CachedFile> entry = iterator.next();
+            if (directory.equals(entry.getKey().getParent())) {
+                totalWeightBytes -= entry.getValue().weightBytes();
+                iterator.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    private void watch(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        synchronized (watchedDirectories) {
+            if (watchedDirectories.contains(directory)) {
+                return;
+            }
+            try {
+                if (watchService == null) {
+                    WatchService service = FileSystems.getDefault().newWatchService();
+                    Thread watcher = new Thread(() -> processWatchEvents(service), "locale-cache-watcher");
+                    watcher.setDaemon(true);
+                    watcher.start();
+                    watchService = service;
+                }
+                directory.register(
+                        watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE
+                );
+                watchedDirectories.add(directory);
+            } catch (IOException ex) {
+                log.warn("Locale cache cannot watch {}; relying on mtime checks: {}", directory, ex.getMessage());
+            }
+        }
+    }
+
+    private void processWatchEvents(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW || !(event.context() instanceof Path changed)) {
+                        invalidateDirectory(directory);
+                    } else {
+                        invalidate(directory.resolve(changed));
+                    }
+                }
+                if (!key.reset()) {
+                    invalidateDirectory(directory);
+                    synchronized (watchedDirectories) {
+                        watchedDirectories.remove(directory);
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // Shut down.
+        }
+    }
+
+    private static Map<String, Map<String, String>> freeze(Map<String, Map<String, String>> sections) {
+        Map<String, Map<String, String>> frozen = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, String>> section : sections.entrySet()) {
+            frozen.put(section.getKey(), Collections.unmodifiableMap(section.getValue()));
+        }
+        return Collections.unmodifiableMap(frozen);
+    }
+
+    private static long estimateWeight(Map<String, Map<String, String>> sections) {
+        long weight = 0;
+        for (Map.Entry<String, Map<String, String>> section : sections.entrySet()) {
+            weight += ENTRY_OVERHEAD_BYTES + 2L * section.getKey().length();
+            for (Map.Entry<String, String> entry : section.getValue().entrySet()) {
+                weight += ENTRY_OVERHEAD_BYTES + 2L * (entry.getKey().length() + entry.getValue().length());
+            }
+        }
+        return weight;
+    }
+
+    private record CachedFile(
+            Map<String, Map<String, String>> sections,
+            FileTime lastModified,
+            long size,
+            long weightBytes
+    ) {
+        private boolean matches(BasicFileAttributes attributes) {
+            return lastModified.equals(attributes.lastModifiedTime()) && size == attributes.size();
+        }
+    }
+
+    public record Stats(
+            boolean enabled,
+            int entries,
+            long weightBytes,
+            long maxWeightBytes,
+            long hits,
+            long misses,
+            double hitRate,
+            long evictions,
+            long invalidations,
+            long oversized,
+            int watchedDirectories
+    ) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Reads two-level locale files ({@code {"section": {"key": "text"}}}) token by token,
+ * handing each string entry to a callback instead of materialising the document as
+ * nested maps. Non-object sections and non-string values are skipped with a warning.
+ */
+public class LocaleJsonStreamReader {
+    private static final Logger log = LoggerFactory.getLogger(LocaleJsonStreamReader.class);
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(String section, String key, String text);
+    }
+
+    private final JsonFactory jsonFactory;
+
+    public LocaleJsonStreamReader(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Streams every string entry of {@code file} to {@code consumer} in document order.
+     * Returns false when the file is empty or its root is {@code null}.
+     *
+     * @throws IllegalArgumentException when the root is not a JSON object
+     */
+    public boolean read(Path file, EntryConsumer consumer) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(file.toFile())) {
+            JsonToken rootToken = parser.nextToken();
+            if (rootToken == null || rootToken == JsonToken.VALUE_NULL) {
+                return false;
+            }
+            if (rootToken != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Invalid JSON format: expected object at root");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String section = parser.currentName();
+                JsonToken sectionToken = parser.nextToken();
+                if (sectionToken != JsonToken.START_OBJECT) {
+                    log.warn("Ignoring non-object prefix value while reading {} at prefix '{}': {}",
+                            file.getFileName(), section, describe(sectionToken));
+                    parser.skipChildren();
+                    continue;
+                }
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.currentName();
+                    JsonToken valueToken = parser.nextToken();
+                    if (valueToken != JsonToken.VALUE_STRING) {
+                        log.warn("Ignoring non-string translation value while reading {} at '{}.{}': {}",
+                                file.getFileName(), section, key, describe(valueToken));
+                        parser.skipChildren();
+                        continue;
+                    }
+                    consumer.accept(section, key, parser.getText());
+                }
+            }
+            return true;
+        }
+    }
+
+    private static String describe(JsonToken token) {
+        if (token == null) {
+            return "end of input";
+        }
+        return switch (token) {
+            case VALUE_NULL -> "null";
+            case START_OBJECT -> "object";
+            case START_ARRAY -> "array";
+            case VALUE_TRUE, VALUE_FALSE -> "boolean";
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> "number";
+            default -> token.name();
+        };
+    }
+}
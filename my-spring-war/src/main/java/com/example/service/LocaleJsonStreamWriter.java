@@ -0,0 +1,92 @@
+package com.example.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Writes a translated copy of a two-level locale file by walking the source tokens and
+ * emitting only the entries the lookup has a value for, in source order. Sections with
+ * no translated entries are left out, as are non-object sections and non-string values.
+ * Nothing but the current token is held in memory.
+ */
+public class LocaleJsonStreamWriter {
+
+    @FunctionalInterface
+    public interface ValueLookup {
+        /** Returns the value to write for this entry, or null to leave it out. */
+        String valueFor(String section, String key);
+    }
+
+    private final JsonFactory jsonFactory;
+
+    public LocaleJsonStreamWriter(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Streams {@code sourceFile} into {@code outputFile} (via a temporary sibling that is
+     * moved into place once complete) and returns the number of entries written.
+     */
+    public int write(Path sourceFile, Path outputFile, ValueLookup lookup) throws IOException {
+        Path tempFile = outputFile.resolveSibling(outputFile.getFileName() + ".tmp");
+        int written;
+        try (JsonParser parser = jsonFactory.createParser(sourceFile.toFile());
+             JsonGenerator generator = jsonFactory.createGenerator(Files.newOutputStream(tempFile))) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+            written = copyTranslated(parser, generator, lookup);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(tempFile);
+            throw ex;
+        }
+        Files.move(tempFile, outputFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return written;
+    }
+
+    private int copyTranslated(JsonParser parser, JsonGenerator generator, ValueLookup lookup) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Invalid source JSON format: expected object at root");
+        }
+        int written = 0;
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String section = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            // The section is opened lazily so sections without translations are omitted.
+            boolean sectionOpen = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.currentName();
+                if (parser.nextToken() != JsonToken.VALUE_STRING) {
+                    parser.skipChildren();
+                    continue;
+                }
+                String value = lookup.valueFor(section, key);
+                if (value == null) {
+                    continue;
+                }
+                if (!sectionOpen) {
+                    generator.writeObjectFieldStart(section);
+                    sectionOpen = true;
+                }
+                generator.writeStringField(key, value);
+                written++;
+            }
+            if (sectionOpen) {
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndObject();
+        return written;
+    }
+}
@@ -9,8 +9,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpStatusCodeException;
@@ -34,6 +32,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -82,6 +81,7 @@ public class OpenAiTranslationReviewService {
     private final BigDecimal maxEstimatedCostUsd;
     private final ObjectMapper mapper;
     private final RestTemplate restTemplate;
+    private final TranslationMetrics translationMetrics;
 
     public OpenAiTranslationReviewService(
             @Value("${openai.enabled:true}") boolean enabled,
@@ -103,7 +103,8 @@ public class OpenAiTranslationReviewService {
             @Value("${openai.outputPricePer1M:0}") BigDecimal outputPricePer1M,
             @Value("${openai.maxEstimatedCostUsd:0}") BigDecimal maxEstimatedCostUsd,
             ObjectMapper mapper,
-            RestTemplateBuilder restTemplateBuilder
+            RestTemplateBuilder restTemplateBuilder,
+            TranslationMetrics translationMetrics
     ) {
         this.enabled = enabled;
         this.apiKey = apiKey == null ? "" : apiKey.trim();
@@ -126,12 +127,9 @@ public class OpenAiTranslationReviewService {
         this.outputPricePer1M = positiveOrZero(outputPricePer1M);
         this.maxEstimatedCostUsd = positiveOrZero(maxEstimatedCostUsd);
         this.mapper = mapper;
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        this.translationMetrics = translationMetrics;
         this.restTemplate = restTemplateBuilder
-                .setConnectTimeout(Duration.ofSeconds(15))
                 .setReadTimeout(Duration.ofSeconds(timeoutSeconds))
-                .requestFactory(() -> new BufferingClientHttpRequestFactory(requestFactory))
-                .additionalInterceptors(new OutboundApiLoggingInterceptor(mapper))
                 .build();
     }
 
@@ -177,6 +175,23 @@ public class OpenAiTranslationReviewService {
             String context,
             List<TranslationReviewItem> items,
             BooleanSupplier cancellationRequested
+    ) {
+        return reviewTranslations(sourceLanguage, targetLanguage, context, items, null, cancellationRequested, reviewedBatch -> { });
+    }
+
+    /**
+     * {@code batchReviewed} receives the items of each batch OpenAI actually reviewed, as soon
+     * as that batch completes (possibly from a worker thread). Fallback items are not reported.
+     * A non-blank {@code translationRequestId} is sent as the outbound logging correlation header.
+     */
+    public TranslationReviewResponse reviewTranslations(
+            String sourceLanguage,
+            String targetLanguage,
+            String context,
+            List<TranslationReviewItem> items,
+            String translationRequestId,
+            BooleanSupplier cancellationRequested,
+            Consumer<List<ReviewedTranslationItem>> batchReviewed
     ) {
         throwIfCancelled(cancellationRequested);
         List<TranslationReviewItem> selectedItems = items == null ? List.of() : items;
@@ -193,14 +208,15 @@ public class OpenAiTranslationReviewService {
         if (maxConcurrentRequests <= 1 || batches.size() <= 1) {
             for (List<TranslationReviewItem> batch : batches) {
                 throwIfCancelled(cancellationRequested);
-                BatchReviewResult batchResult = reviewBatch(sourceLanguage, targetLanguage, context, batch, cancellationRequested);
+                BatchReviewResult batchResult = reviewBatch(sourceLanguage, targetLanguage, context, batch, translationRequestId, cancellationRequested, batchReviewed);
                 reviewed.addAll(batchResult.reviewedItems());
                 usageSummary = usageSummary.plus(batchResult.usageSummary());
             }
         } else {
             log.info("Processing OpenAI review with bounded concurrency: batchCount={}, maxConcurrentRequests={}",
                     batches.size(), maxConcurrentRequests);
-            BatchReviewResult batchResult = reviewBatchesConcurrently(sourceLanguage, targetLanguage, context, batches, cancellationRequested);
+            BatchReviewResult batchResult = reviewBatchesConcurrently(
+                    sourceLanguage, targetLanguage, context, batches, translationRequestId, cancellationRequested, batchReviewed);
             reviewed.addAll(batchResult.reviewedItems());
             usageSummary = usageSummary.plus(batchResult.usageSummary());
         }
@@ -225,7 +241,9 @@ public class OpenAiTranslationReviewService {
             String targetLanguage,
             String context,
             List<List<TranslationReviewItem>> batches,
-            BooleanSupplier cancellationRequested
+            String translationRequestId,
+            BooleanSupplier cancellationRequested,
+            Consumer<List<ReviewedTranslationItem>> batchReviewed
     ) {
         int workerCount = Math.min(maxConcurrentRequests, batches.size());
         ExecutorService executor = Executors.newFixedThreadPool(workerCount);
@@ -241,7 +259,7 @@ public class OpenAiTranslationReviewService {
                 while (submitted < batches.size() && inFlight < workerCount) {
                     throwIfCancelled(cancellationRequested);
                     List<TranslationReviewItem> batch = batches.get(submitted++);
-                    completionService.submit(() -> reviewBatch(sourceLanguage, targetLanguage, context, batch, cancellationRequested));
+                    completionService.submit(() -> reviewBatch(sourceLanguage, targetLanguage, context, batch, translationRequestId, cancellationRequested, batchReviewed));
                     inFlight++;
                 }
 
@@ -285,28 +303,47 @@ public class OpenAiTranslationReviewService {
             String targetLanguage,
             String context,
             List<TranslationReviewItem> batch,
-            BooleanSupplier cancellationRequested
+            String translationRequestId,
+            BooleanSupplier cancellationRequested,
+            Consumer<List<ReviewedTranslationItem>> batchReviewed
     ) {
+        long startedAt = System.nanoTime();
+        String outcome = "fallback";
         try {
             throwIfCancelled(cancellationRequested);
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.setBearerAuth(apiKey);
+            if (translationRequestId != null && !translationRequestId.isBlank()) {
+                headers.set(OutboundApiLoggingInterceptor.TRANSLATION_REQUEST_ID_HEADER, translationRequestId);
+            }
             Map<String, Object> body = buildRequest(sourceLanguage, targetLanguage, context, batch);
             ResponseEntity<JsonNode> entity = executeWithRetry(headers, body, batch.size(), cancellationRequested);
             throwIfCancelled(cancellationRequested);
             List<ReviewedTranslationItem> parsed = parseResponse(entity.getBody(), batch);
             UsageSummary usageSummary = logUsage(entity.getBody(), batch.size(), parsed);
+            translationMetrics.openAiUsage(
+                    usageSummary.inputTokens(),
+                    usageSummary.cachedInputTokens(),
+                    usageSummary.outputTokens(),
+                    usageSummary.estimatedCostUsd()
+            );
+            outcome = "success";
             writeReport(sourceLanguage, targetLanguage, context, batch, entity.getBody(), parsed, usageSummary);
+            batchReviewed.accept(parsed);
             return new BatchReviewResult(parsed, usageSummary);
         } catch (CancellationException ex) {
+            outcome = "cancelled";
             throw ex;
         } catch (Exception ex) {
             log.warn("OpenAI translation review failed, falling back to Google output. reason={}", ex.getMessage());
             if (failOnError) {
+                outcome = "error";
                 throw ex;
             }
             return new BatchReviewResult(toFallbackItems(batch), UsageSummary.empty());
+        } finally {
+            translationMetrics.openAiBatch(batch.size(), System.nanoTime() - startedAt, outcome);
         }
     }
 
@@ -332,6 +369,7 @@ public class OpenAiTranslationReviewService {
                 long backoff = retryBackoffMs * (1L << retriesUsed);
                 log.warn("Retrying OpenAI review batch after transient failure attempt={} batchSize={} retryInMs={}",
                         retriesUsed + 1, batchSize, backoff);
+                translationMetrics.openAiRetry();
                 sleep(backoff, cancellationRequested);
                 retriesUsed++;
             }
@@ -0,0 +1,107 @@
+package com.example.service;
+
+import java.util.Locale;
+
+/**
+ * Hand-written matcher for the placeholder syntax protected before translation. It
+ * recognises exactly what the regex
+ * {@code \{\{[^{}]+}}|\{[^{}]+}|%\d*\$?[sdfoxegc]|<[^>]+>} finds with
+ * {@code Matcher.find()}, but scans each string once without allocating.
+ */
+final class PlaceholderScanner {
+    private static final String FORMAT_CONVERSIONS = "sdfoxegc";
+
+    private PlaceholderScanner() {
+    }
+
+    /** Cheap pre-check: a string without any of these characters holds no placeholder. */
+    static boolean mayContainPlaceholder(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '{' || c == '%' || c == '<') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns the end (exclusive) of the placeholder starting at {@code start}, or -1 if none starts there. */
+    static int placeholderEnd(String text, int start) {
+        char first = text.charAt(start);
+        if (first == '{') {
+            int doubleBraceEnd = start + 1 < text.length() && text.charAt(start + 1) == '{'
+                    ? braceBodyEnd(text, start + 2, true)
+                    : -1;
+            return doubleBraceEnd >= 0 ? doubleBraceEnd : braceBodyEnd(text, start + 1, false);
+        }
+        if (first == '%') {
+            int i = start + 1;
+            while (i < text.length() && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+                i++;
+            }
+            if (i < text.length() && text.charAt(i) == '$') {
+                i++;
+            }
+            return i < text.length() && FORMAT_CONVERSIONS.indexOf(text.charAt(i)) >= 0 ? i + 1 : -1;
+        }
+        if (first == '<') {
+            int close = text.indexOf('>', start + 1);
+            return close > start + 1 ? close + 1 : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Builds the protected token for a placeholder: the inner name upper-cased with every
+     * run of non-alphanumerics turned into one underscore, e.g. {@code {user name}} becomes
+     * {@code __PH_USER_NAME__}. {@code suffix} above 1 is appended to keep tokens unique.
+     */
+    static void appendToken(StringBuilder target, String prefix, String placeholder, int suffix) {
+        int innerStart = 0;
+        int innerEnd = placeholder.length();
+        if (placeholder.startsWith("{{") && placeholder.endsWith("}}")) {
+            innerStart = 2;
+            innerEnd -= 2;
+        } else if (placeholder.startsWith("{") && placeholder.endsWith("}")) {
+            innerStart = 1;
+            innerEnd -= 1;
+        }
+        String inner = placeholder.substring(innerStart, Math.max(innerStart, innerEnd)).toUpperCase(Locale.ROOT);
+        target.append(prefix);
+        int nameStart = target.length();
+        boolean pendingSeparator = false;
+        for (int i = 0; i < inner.length(); i++) {
+            char c = inner.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                if (pendingSeparator && target.length() > nameStart) {
+                    target.append('_');
+                }
+                pendingSeparator = false;
+                target.append(c);
+            } else {
+                pendingSeparator = true;
+            }
+        }
+        if (target.length() == nameStart) {
+            target.append("TOKEN");
+        }
+        if (suffix > 1) {
+            target.append('_').append(suffix);
+        }
+        target.append("__");
+    }
+
+    private static int braceBodyEnd(String text, int bodyStart, boolean doubleBrace) {
+        int i = bodyStart;
+        while (i < text.length() && text.charAt(i) != '{' && text.charAt(i) != '}') {
+            i++;
+        }
+        if (i == bodyStart || i >= text.length() || text.charAt(i) != '}') {
+            return -1;
+        }
+        if (!doubleBrace) {
+            return i + 1;
+        }
+        return i + 1 < text.length() && text.charAt(i + 1) == '}' ? i + 2 : -1;
+    }
+}
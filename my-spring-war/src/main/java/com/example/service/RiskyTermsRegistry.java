@@ -0,0 +1,105 @@
+package com.example.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Compiled risky-terms files, one per resolved path. A lookup only stats the file; it is
+ * re-read and re-compiled when its modification time or size changes, and the new
+ * {@link RiskyTerms} replaces the old one in a single swap so a run never sees a
+ * half-loaded list. If a reload fails the previous terms stay active.
+ */
+public class RiskyTermsRegistry {
+    private static final Logger log = LoggerFactory.getLogger(RiskyTermsRegistry.class);
+
+    private final Map<Path, LoadedTerms> termsByFile = new ConcurrentHashMap<>();
+
+    public RiskyTerms get(Path riskyTermsFile) {
+        Path file = riskyTermsFile.toAbsolutePath().normalize();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException ex) {
+            termsByFile.remove(file);
+            return RiskyTerms.NONE;
+        } catch (IOException ex) {
+            log.warn("Failed to read risky terms file attributes {}: {}", file, ex.getMessage());
+            LoadedTerms previous = termsByFile.get(file);
+            return previous == null ? RiskyTerms.NONE : previous.terms();
+        }
+
+        LoadedTerms current = termsByFile.get(file);
+        if (current != null && current.isCurrent(attributes)) {
+            return current.terms();
+        }
+        return termsByFile.compute(file, (ignored, existing) ->
+                existing != null && existing.isCurrent(attributes) ? existing : load(file, attributes, existing)
+        ).terms();
+    }
+
+    private LoadedTerms load(Path file, BasicFileAttributes attributes, LoadedTerms previous) {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            RiskyTerms loaded = RiskyTerms.of(lines
+                    .map(String::trim)
+                    .filter(line -> !line.startsWith("#"))
+                    .toList());
+            log.info("Loaded risky terms from {}: terms={}, version={}", file, loaded.terms().size(), loaded.version());
+            return new LoadedTerms(loaded, attributes.lastModifiedTime(), attributes.size());
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Failed to load risky terms from {}: {}", file, ex.getMessage());
+            // Keep serving the last good list, but remember these attributes so a broken file is not re-read on every run.
+            RiskyTerms fallback = previous == null ? RiskyTerms.NONE : previous.terms();
+            return new LoadedTerms(fallback, attributes.lastModifiedTime(), attributes.size());
+        }
+    }
+
+    private static String contentVersion(Collection<String> terms) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String term : terms) {
+                digest.update(term.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 12);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /** An immutable, compiled term list. {@code version} is a content hash of the normalized terms. */
+    public record RiskyTerms(List<String> terms, TermMatcher matcher, String version) {
+        public static final RiskyTerms NONE = new RiskyTerms(List.of(), TermMatcher.EMPTY, "none");
+
+        /** Normalizes and de-duplicates the terms (blank ones are dropped) and compiles them. */
+        public static RiskyTerms of(Collection<String> rawTerms) {
+            TermMatcher matcher = TermMatcher.compile(rawTerms);
+            return matcher.isEmpty() ? NONE : new RiskyTerms(matcher.terms(), matcher, contentVersion(matcher.terms()));
+        }
+
+        public boolean isEmpty() {
+            return terms.isEmpty();
+        }
+    }
+
+    private record LoadedTerms(RiskyTerms terms, FileTime lastModified, long size) {
+        private boolean isCurrent(BasicFileAttributes attributes) {
+            return lastModified.equals(attributes.lastModifiedTime()) && size == attributes.size();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.service;
+
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Aho-Corasick automaton over a fixed list of terms. Terms and texts are compared in
+ * their {@link #normalize normalized} form, so matching is case-insensitive and treats
+ * any whitespace run as a single space. One pass over a text finds every term it
+ * contains, however many terms were compiled in.
+ */
+public final class TermMatcher {
+    public static final TermMatcher EMPTY = new TermMatcher(List.of());
+
+    private final List<String> terms;
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final int[] failure;
+    // Term ids ending at each state, including those reached through failure links.
+    private final int[][] outputs;
+
+    private TermMatcher(List<String> terms) {
+        this.terms = List.copyOf(terms);
+        List<List<Integer>> ownOutputs = new ArrayList<>();
+        transitions.add(new HashMap<>());
+        ownOutputs.add(new ArrayList<>());
+        for (int termId = 0; termId < this.terms.size(); termId++) {
+            String term = this.terms.get(termId);
+            int state = 0;
+            for (int i = 0; i < term.length(); i++) {
+                Integer next = transitions.get(state).get(term.charAt(i));
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.get(state).put(term.charAt(i), next);
+                    transitions.add(new HashMap<>());
+                    ownOutputs.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            ownOutputs.get(state).add(termId);
+        }
+
+        this.failure = new int[transitions.size()];
+        this.outputs = new int[transitions.size()][];
+        outputs[0] = toArray(ownOutputs.get(0));
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(0).values()) {
+            failure[child] = 0;
+            queue.add(child);
+        }
+        // Breadth-first, so a state's failure target is complete before its children need it.
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            List<Integer> stateOutputs = ownOutputs.get(state);
+            for (int inherited : outputs[failure[state]]) {
+                stateOutputs.add(inherited);
+            }
+            outputs[state] = toArray(stateOutputs);
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure[state];
+                while (fallback != 0 && !transitions.get(fallback).containsKey(edge.getKey())) {
+                    fallback = failure[fallback];
+                }
+                Integer target = transitions.get(fallback).get(edge.getKey());
+                failure[child] = target == null || target == child ? 0 : target;
+                queue.add(child);
+            }
+        }
+    }
+
+    /** Compiles the given terms after normalizing them; blank and repeated terms are dropped. */
+    public static TermMatcher compile(Collection<String> terms) {
+        if (terms == null || terms.isEmpty()) {
+            return EMPTY;
+        }
+        Set<String> normalizedTerms = new LinkedHashSet<>();
+        for (String term : terms) {
+            String normalized = normalize(term);
+            if (!normalized.isEmpty()) {
+                normalizedTerms.add(normalized);
+            }
+        }
+        return normalizedTerms.isEmpty() ? EMPTY : new TermMatcher(new ArrayList<>(normalizedTerms));
+    }
+
+    /** Lower-cases (root locale), collapses whitespace runs to one space and trims. */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String lowerCased = text.toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(lowerCased.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < lowerCased.length(); i++) {
+            char c = lowerCased.charAt(i);
+            if (isRegexWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c);
+        }
+        return normalized.toString().trim();
+    }
+
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    public List<String> terms() {
+        return terms;
+    }
+
+    /** True when the already-normalized text contains at least one term. */
+    public boolean containsAny(String normalizedText) {
+        if (terms.isEmpty() || normalizedText == null) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0; i < normalizedText.length(); i++) {
+            state = step(state, normalizedText.charAt(i));
+            if (outputs[state].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Term ids (indexes into {@link #terms()}) contained in the already-normalized text. */
+    public BitSet findAll(String normalizedText) {
+        BitSet found = new BitSet(terms.size());
+        if (terms.isEmpty() || normalizedText == null) {
+            return found;
+        }
+        int state = 0;
+        for (int i = 0; i < normalizedText.length(); i++) {
+            state = step(state, normalizedText.charAt(i));
+            for (int termId : outputs[state]) {
+                found.set(termId);
+            }
+        }
+        return found;
+    }
+
+    private int step(int state, char c) {
+        while (true) {
+            Integer next = transitions.get(state).get(c);
+            if (next != null) {
+                return next;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = failure[state];
+        }
+    }
+
+    // Same set as the regex \s used by the previous replaceAll-based normalization.
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,352 @@
+package com.example.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Append-only JSONL journals of paid-for translation work, one per translation request
+ * and target language. Each completed Google batch and OpenAI review batch is appended
+ * and flushed as it finishes; a later run with the same request id replays the journal
+ * and only sends the missing texts. Journals are deleted once their run succeeds, so a
+ * journal on disk always belongs to a failed, cancelled or interrupted run; those are
+ * purged once they have not been written to for the retention period.
+ */
+@Service
+public class TranslationCheckpointStore {
+    private static final Logger log = LoggerFactory.getLogger(TranslationCheckpointStore.class);
+    private static final String JOURNAL_SUFFIX = ".jsonl";
+    private static final Pattern UNSAFE_FILE_NAME_CHARS = Pattern.compile("[^A-Za-z0-9._-]");
+
+    private final boolean enabled;
+    private final Path directory;
+    private final Duration retention;
+    private final ObjectMapper mapper;
+    private final Map<Path, Checkpoint> openCheckpoints = new ConcurrentHashMap<>();
+
+    public TranslationCheckpointStore(
+            @Value("${myapp.translation.checkpoints.enabled:true}") boolean enabled,
+            @Value("${myapp.translation.checkpoints.directory:data/translation-checkpoints}") String directory,
+            @Value("${myapp.translation.checkpoints.retentionMinutes:1440}") long retentionMinutes,
+            ObjectMapper mapper
+    ) throws IOException {
+        this.enabled = enabled;
+        this.directory = Path.of(directory == null || directory.isBlank() ? "data/translation-checkpoints" : directory.trim())
+                .toAbsolutePath();
+        this.retention = Duration.ofMinutes(Math.max(0, retentionMinutes));
+        this.mapper = mapper;
+        if (enabled) {
+            Files.createDirectories(this.directory);
+            purgeExpiredJournals();
+        }
+    }
+
+    /**
+     * Opens the journal for this request and target language, replaying it when its
+     * fingerprint matches the current source rows. A journal written for different rows
+     * or settings is discarded. Returns {@link Checkpoint#NONE} when checkpoints are
+     * disabled or the run has no request id.
+     */
+    public Checkpoint open(String translationRequestId, String targetLanguage, String fingerprint) {
+        if (!enabled || translationRequestId == null || translationRequestId.isBlank()) {
+            return Checkpoint.NONE;
+        }
+        purgeExpiredJournals();
+        Path journal = journalFile(translationRequestId, targetLanguage);
+        Checkpoint checkpoint = new Checkpoint(journal, mapper);
+        try {
+            if (Files.exists(journal) && !checkpoint.replay(fingerprint)) {
+                log.warn("Discarding checkpoint journal {} written for different source rows", journal.getFileName());
+                Files.delete(journal);
+            }
+            checkpoint.startWriting(fingerprint);
+        } catch (IOException ex) {
+            log.warn("Translation checkpoints unavailable for request {}: {}", translationRequestId, ex.getMessage());
+            return Checkpoint.NONE;
+        }
+        Checkpoint previous = openCheckpoints.put(journal, checkpoint);
+        if (previous != null) {
+            previous.close();
+        }
+        if (checkpoint.replayedEntries() > 0) {
+            log.info("Resuming translation request {} target={} from checkpoint: googleTexts={}, reviewedItems={}",
+                    translationRequestId, targetLanguage, checkpoint.replayedGoogleTexts(), checkpoint.replayedReviews());
+        }
+        return checkpoint;
+    }
+
+    /** Closes the journal and keeps it on disk so the run can be resumed. */
+    public void release(Checkpoint checkpoint) {
+        if (checkpoint == Checkpoint.NONE) {
+            return;
+        }
+        openCheckpoints.remove(checkpoint.journal, checkpoint);
+        checkpoint.close();
+    }
+
+    /** Closes and deletes the journal after a successful run. */
+    public void complete(Checkpoint checkpoint) {
+        if (checkpoint == Checkpoint.NONE) {
+            return;
+        }
+        release(checkpoint);
+        try {
+            Files.deleteIfExists(checkpoint.journal);
+        } catch (IOException ex) {
+            log.warn("Failed to delete checkpoint journal {}: {}", checkpoint.journal.getFileName(), ex.getMessage());
+        }
+    }
+
+    public boolean hasCheckpoint(String translationRequestId) {
+        return !journals(translationRequestId).isEmpty();
+    }
+
+    /** Target language -> journal size in bytes, for every journal kept for this request. */
+    public Map<String, Long> journals(String translationRequestId) {
+        if (!enabled || translationRequestId == null || translationRequestId.isBlank()) {
+            return Map.of();
+        }
+        String prefix = safeFileName(translationRequestId.trim()) + "__";
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(prefix))
+                    .filter(path -> path.getFileName().toString().endsWith(JOURNAL_SUFFIX))
+                    .collect(Collectors.toMap(
+                            path -> {
+                                String name = path.getFileName().toString();
+                                return name.substring(prefix.length(), name.length() - JOURNAL_SUFFIX.length());
+                            },
+                            path -> path.toFile().length(),
+                            (first, second) -> first,
+                            LinkedHashMap::new
+                    ));
+        } catch (IOException ex) {
+            return Map.of();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        openCheckpoints.values().forEach(Checkpoint::close);
+        openCheckpoints.clear();
+    }
+
+    private void purgeExpiredJournals() {
+        FileTime cutoff = FileTime.from(Instant.now().minus(retention));
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> path.getFileName().toString().endsWith(JOURNAL_SUFFIX))
+                    .filter(path -> !openCheckpoints.containsKey(path))
+                    .forEach(path -> {
+                        try {
+                            if (Files.getLastModifiedTime(path).compareTo(cutoff) < 0) {
+                                Files.deleteIfExists(path);
+                                log.info("Purged expired checkpoint journal {}", path.getFileName());
+                            }
+                        } catch (IOException ex) {
+                            log.warn("Failed to purge checkpoint journal {}: {}", path.getFileName(), ex.getMessage());
+                        }
+                    });
+        } catch (IOException ex) {
+            log.warn("Failed to list checkpoint journals in {}: {}", directory, ex.getMessage());
+        }
+    }
+
+    private Path journalFile(String translationRequestId, String targetLanguage) {
+        String name = safeFileName(translationRequestId.trim()) + "__" + safeFileName(targetLanguage) + JOURNAL_SUFFIX;
+        return directory.resolve(name).normalize();
+    }
+
+    private static String safeFileName(String value) {
+        return UNSAFE_FILE_NAME_CHARS.matcher(value == null ? "" : value).replaceAll("_");
+    }
+
+    public static class Checkpoint {
+        public static final Checkpoint NONE = new Checkpoint(null, null);
+
+        private final Path journal;
+        private final ObjectMapper mapper;
+        private final Map<String, Map<String, String>> googleByScope = new HashMap<>();
+        private final Map<String, ReviewEntry> reviewsByKey = new HashMap<>();
+        private int replayedEntries;
+        private int replayedGoogleTexts;
+        private int replayedReviews;
+        private long replayedLength;
+        private BufferedWriter writer;
+
+        private Checkpoint(Path journal, ObjectMapper mapper) {
+            this.journal = journal;
+            this.mapper = mapper;
+        }
+
+        public synchronized String googleTranslation(String scope, String protectedText) {
+            return googleByScope.getOrDefault(scope, Map.of()).get(protectedText);
+        }
+
+        /** Returns the reviewed text when this key was reviewed with the same input translation. */
+        public synchronized String reviewedText(String fullKey, String translatedText) {
+            ReviewEntry entry = reviewsByKey.get(fullKey);
+            return entry != null && entry.input().equals(translatedText) ? entry.output() : null;
+        }
+
+        public void recordGoogleBatch(String scope, Map<String, String> translationsByProtectedText) {
+            if (this == NONE || translationsByProtectedText.isEmpty()) {
+                return;
+            }
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("type", "google");
+            record.put("scope", scope);
+            record.put("translations", translationsByProtectedText);
+            synchronized (this) {
+                googleByScope.computeIfAbsent(scope, ignored -> new HashMap<>()).putAll(translationsByProtectedText);
+                append(record);
+            }
+        }
+
+        /** Records reviewed texts keyed by full key; each value is {input translation, reviewed text}. */
+        public void recordReviewBatch(Map<String, ReviewEntry> reviews) {
+            if (this == NONE || reviews.isEmpty()) {
+                return;
+            }
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("type", "review");
+            record.put("reviews", reviews);
+            synchronized (this) {
+                reviewsByKey.putAll(reviews);
+                append(record);
+            }
+        }
+
+        public synchronized int replayedEntries() {
+            return replayedEntries;
+        }
+
+        public synchronized int replayedGoogleTexts() {
+            return replayedGoogleTexts;
+        }
+
+        public synchronized int replayedReviews() {
+            return replayedReviews;
+        }
+
+        private boolean replay(String fingerprint) throws IOException {
+            byte[] bytes = Files.readAllBytes(journal);
+            boolean headerMatched = false;
+            int lineStart = 0;
+            while (lineStart < bytes.length) {
+                int lineEnd = lineStart;
+                while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                // A run killed mid-write leaves at most one torn trailing line; it is cut off before appending.
+                JsonNode record = lineEnd == bytes.length
+                        ? null
+                        : readLine(new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+                if (record == null) {
+                    break;
+                }
+                if (!headerMatched) {
+                    if (!fingerprint.equals(record.path("fingerprint").asText())) {
+                        return false;
+                    }
+                    headerMatched = true;
+                } else {
+                    replayRecord(record);
+                }
+                lineStart = lineEnd + 1;
+            }
+            replayedLength = lineStart;
+            return headerMatched;
+        }
+
+        private void replayRecord(JsonNode record) {
+            if ("google".equals(record.path("type").asText())) {
+                Map<String, String> translations = googleByScope.computeIfAbsent(
+                        record.path("scope").asText(), ignored -> new HashMap<>());
+                record.path("translations").fields().forEachRemaining(entry -> {
+                    translations.put(entry.getKey(), entry.getValue().asText());
+                    replayedGoogleTexts++;
+                });
+            } else if ("review".equals(record.path("type").asText())) {
+                record.path("reviews").fields().forEachRemaining(entry -> {
+                    reviewsByKey.put(entry.getKey(), new ReviewEntry(
+                            entry.getValue().path("input").asText(),
+                            entry.getValue().path("output").asText()
+                    ));
+                    replayedReviews++;
+                });
+            }
+            replayedEntries++;
+        }
+
+        private void startWriting(String fingerprint) throws IOException {
+            boolean newJournal = !Files.exists(journal);
+            if (!newJournal && Files.size(journal) > replayedLength) {
+                try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                    channel.truncate(replayedLength);
+                }
+            }
+            writer = Files.newBufferedWriter(journal, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (newJournal) {
+                append(Map.of("type", "header", "fingerprint", fingerprint));
+            }
+        }
+
+        private JsonNode readLine(String line) {
+            try {
+                return mapper.readTree(line);
+            } catch (IOException ex) {
+                return null;
+            }
+        }
+
+        private void append(Object record) {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.write(mapper.writeValueAsString(record));
+                writer.newLine();
+                writer.flush();
+            } catch (IOException ex) {
+                log.warn("Failed to append to checkpoint journal {}: {}", journal.getFileName(), ex.getMessage());
+            }
+        }
+
+        private synchronized void close() {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.close();
+            } catch (IOException ex) {
+                log.debug("Failed to close checkpoint journal {}: {}", journal.getFileName(), ex.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    public record ReviewEntry(String input, String output) {
+    }
+}
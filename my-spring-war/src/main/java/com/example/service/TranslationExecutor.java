@@ -0,0 +1,69 @@
+package com.example.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide worker pool for the fan-out inside one translation: target languages,
+ * route groups, Google batches and 5xx split segments. The pool never grows beyond
+ * {@code maxThreads}. A task submitted while every worker is busy runs on the submitting
+ * thread instead of queueing, so nested fan-out can neither deadlock on a full pool nor
+ * create extra threads.
+ */
+@Service
+public class TranslationExecutor implements Executor {
+    private final ThreadPoolExecutor executor;
+
+    public TranslationExecutor(@Value("${myapp.translation.executor.maxThreads:32}") int maxThreads) {
+        if (maxThreads <= 0) {
+            throw new IllegalStateException("Translation executor max threads must be greater than zero");
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                0,
+                maxThreads,
+                60,
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "translation-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    if (pool.isShutdown()) {
+                        throw new RejectedExecutionException("Translation executor is shut down");
+                    }
+                    runnable.run();
+                }
+        );
+    }
+
+    public <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    public int largestPoolSize() {
+        return executor.getLargestPoolSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
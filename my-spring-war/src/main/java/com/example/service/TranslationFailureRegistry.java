@@ -0,0 +1,91 @@
+package com.example.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers source strings that Google Translate rejected on their own (after
+ * bisecting a failed batch). Once a string has failed {@code isolateAfterFailures}
+ * times, later batches send it separately instead of paying for another split
+ * cascade. A successful translation forgets the string again. Bounded; the least
+ * recently failed entries are dropped first.
+ */
+public class TranslationFailureRegistry {
+    private static final int MAX_REPORTED_TEXT_LENGTH = 200;
+
+    private final int maxEntries;
+    private final int isolateAfterFailures;
+    private final LinkedHashMap<Key, IsolatedFailure> failures = new LinkedHashMap<>(16, 0.75f, true);
+
+    public TranslationFailureRegistry(int maxEntries, int isolateAfterFailures) {
+        this.maxEntries = maxEntries;
+        this.isolateAfterFailures = isolateAfterFailures;
+    }
+
+    public synchronized boolean isIsolated(String sourceLanguage, String targetLanguage, String text) {
+        IsolatedFailure failure = failures.get(new Key(sourceLanguage, targetLanguage, text));
+        return failure != null && failure.failureCount() >= isolateAfterFailures;
+    }
+
+    public synchronized void recordSuccess(String sourceLanguage, String targetLanguage, List<String> texts) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        for (String text : texts) {
+            failures.remove(new Key(sourceLanguage, targetLanguage, text));
+        }
+    }
+
+    public synchronized IsolatedFailure recordFailure(String sourceLanguage, String targetLanguage, String text, int statusCode) {
+        Key key = new Key(sourceLanguage, targetLanguage, text);
+        IsolatedFailure previous = failures.get(key);
+        IsolatedFailure failure = new IsolatedFailure(
+                sourceLanguage,
+                targetLanguage,
+                text.length() > MAX_REPORTED_TEXT_LENGTH ? text.substring(0, MAX_REPORTED_TEXT_LENGTH) + "..." : text,
+                text.codePointCount(0, text.length()),
+                statusCode,
+                previous == null ? 1 : previous.failureCount() + 1,
+                previous == null ? Instant.now().toString() : previous.firstFailedAt(),
+                Instant.now().toString()
+        );
+        failures.put(key, failure);
+        if (failures.size() > maxEntries) {
+            Map.Entry<Key, IsolatedFailure> eldest = failures.entrySet().iterator().next();
+            failures.remove(eldest.getKey());
+        }
+        return failure;
+    }
+
+    public synchronized List<IsolatedFailure> report() {
+        List<IsolatedFailure> report = new ArrayList<>(failures.values());
+        report.sort(Comparator.comparingInt(IsolatedFailure::failureCount).reversed()
+                .thenComparing(IsolatedFailure::lastFailedAt, Comparator.reverseOrder()));
+        return report;
+    }
+
+    public synchronized int clear() {
+        int removed = failures.size();
+        failures.clear();
+        return removed;
+    }
+
+    private record Key(String sourceLanguage, String targetLanguage, String text) {
+    }
+
+    public record IsolatedFailure(
+            String sourceLanguage,
+            String targetLanguage,
+            String text,
+            int codepoints,
+            int statusCode,
+            int failureCount,
+            String firstFailedAt,
+            String lastFailedAt
+    ) {
+    }
+}
@@ -0,0 +1,484 @@
+package com.example.service;
+
+import com.example.api.dto.TranslationExportResult;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs translate-and-store requests on a bounded background pool so the HTTP
+ * thread returns immediately. Each job keeps a progress snapshot fed by
+ * {@link TranslationProgressListener} callbacks and fans events out to any
+ * subscribers (the SSE endpoint). Finished jobs are dropped after the retention period.
+ * On shutdown running jobs are given a drain period and then cancelled, which leaves
+ * their checkpoint journal behind so {@link #resume} can pick them up again.
+ */
+@Service
+public class TranslationJobService {
+    private static final Logger log = LoggerFactory.getLogger(TranslationJobService.class);
+    private static final long SHUTDOWN_CANCEL_GRACE_SECONDS = 5;
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    @FunctionalInterface
+    public interface TranslationWork {
+        TranslationExportResult run(String translationRequestId) throws Exception;
+    }
+
+    private final TranslationService translationService;
+    private final Duration retention;
+    private final long shutdownDrainSeconds;
+    private final ExecutorService executor;
+    private final Map<String, TranslationJob> jobs = new ConcurrentHashMap<>();
+    private volatile boolean acceptingJobs = true;
+
+    public TranslationJobService(
+            TranslationService translationService,
+            @Value("${myapp.translation.jobs.maxConcurrentJobs:2}") int maxConcurrentJobs,
+            @Value("${myapp.translation.jobs.retentionMinutes:60}") long retentionMinutes,
+            @Value("${myapp.translation.jobs.shutdownDrainSeconds:30}") long shutdownDrainSeconds
+    ) {
+        if (maxConcurrentJobs <= 0) {
+            throw new IllegalStateException("Translation jobs max concurrent jobs must be greater than zero");
+        }
+        this.translationService = translationService;
+        this.retention = Duration.ofMinutes(Math.max(0, retentionMinutes));
+        this.shutdownDrainSeconds = Math.max(0, shutdownDrainSeconds);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrentJobs, runnable -> {
+            Thread thread = new Thread(runnable, "translation-job-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public JobSnapshot submit(String requestedJobId, String fileName, String targetLanguage, int rowCount, TranslationWork work) {
+        String jobId = requestedJobId == null || requestedJobId.isBlank() ? UUID.randomUUID().toString() : requestedJobId.trim();
+        return submit(jobId, fileName, targetLanguage, rowCount, work, false);
+    }
+
+    /**
+     * Re-runs a failed, cancelled or interrupted job under the same id so the translation
+     * pipeline replays that id's checkpoint journal and only requests the missing texts.
+     */
+    public JobSnapshot resume(String jobId, String fileName, String targetLanguage, int rowCount, TranslationWork work) {
+        if (jobId == null || jobId.isBlank() || !translationService.hasTranslationCheckpoint(jobId)) {
+            throw new NoSuchElementException("No translation checkpoint found for job: " + jobId);
+        }
+        return submit(jobId.trim(), fileName, targetLanguage, rowCount, work, true);
+    }
+
+    private JobSnapshot submit(String jobId, String fileName, String targetLanguage, int rowCount, TranslationWork work, boolean resumed) {
+        if (!acceptingJobs) {
+            throw new IllegalStateException("Translation jobs are shutting down");
+        }
+        purgeExpiredJobs();
+        TranslationJob job = new TranslationJob(jobId, fileName, targetLanguage, rowCount);
+        TranslationJob current = jobs.compute(jobId, (id, existing) ->
+                existing == null || (resumed && existing.isFinished()) ? job : existing);
+        if (current != job) {
+            throw new IllegalArgumentException(resumed
+                    ? "Translation job is still running: " + jobId
+                    : "Translation job already exists: " + jobId);
+        }
+        job.future = executor.submit(() -> run(job, work));
+        log.info("Translation job {} jobId={}, file={}, target={}, rows={}",
+                resumed ? "resumed" : "submitted", jobId, fileName, targetLanguage, rowCount);
+        return job.snapshot();
+    }
+
+    public JobSnapshot status(String jobId) {
+        return requireJob(jobId).snapshot();
+    }
+
+    /**
+     * Returns the result of a succeeded job, or null while it is still queued or running.
+     * A failed or cancelled job rethrows its failure so the API maps it like a synchronous call.
+     */
+    public TranslationExportResult result(String jobId) {
+        TranslationJob job = requireJob(jobId);
+        synchronized (job) {
+            return switch (job.status) {
+                case QUEUED, RUNNING -> null;
+                case SUCCEEDED -> job.result;
+                case CANCELLED -> throw new CancellationException("Translation request was cancelled by user");
+                case FAILED -> throw job.failure instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new IllegalStateException("Translation job failed", job.failure);
+            };
+        }
+    }
+
+    /**
+     * Cancels a queued job outright and asks a running one to stop at its next batch
+     * boundary. A finished job is returned unchanged.
+     */
+    public JobSnapshot cancel(String jobId) {
+        TranslationJob job = requireJob(jobId);
+        if (job.cancelIfQueued()) {
+            Future<?> future = job.future;
+            if (future != null) {
+                future.cancel(false);
+            }
+            return job.snapshot();
+        }
+        requestCancellationIfRunning(job);
+        return job.snapshot();
+    }
+
+    /**
+     * Registers a subscriber for job events and immediately sends it the current
+     * snapshot. Returns a handle that removes the subscriber.
+     */
+    public Runnable subscribe(String jobId, Consumer<JobEvent> subscriber) {
+        TranslationJob job = requireJob(jobId);
+        return job.subscribe(subscriber);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        acceptingJobs = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownDrainSeconds, TimeUnit.SECONDS)) {
+                // Cancelled pipelines stop between batches, so every completed batch stays journaled.
+                jobs.values().stream()
+                        .filter(job -> !job.isFinished())
+                        .forEach(job -> {
+                            log.info("Cancelling translation job jobId={} for shutdown; resume it to continue", job.jobId);
+                            if (!job.cancelIfQueued()) {
+                                requestCancellationIfRunning(job);
+                            }
+                        });
+                executor.awaitTermination(SHUTDOWN_CANCEL_GRACE_SECONDS, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void run(TranslationJob job, TranslationWork work) {
+        if (!job.start()) {
+            return;
+        }
+        translationService.registerProgressListener(job.jobId, job);
+        try {
+            TranslationExportResult result = work.run(job.jobId);
+            job.finish(Status.SUCCEEDED, result, null, "Saved " + result.getOutputFile());
+        } catch (CancellationException ex) {
+            job.finish(Status.CANCELLED, null, null, ex.getMessage());
+        } catch (Exception ex) {
+            log.warn("Translation job failed jobId={}, reason={}", job.jobId, ex.getMessage());
+            job.finish(Status.FAILED, null, ex, ex.getMessage());
+        } finally {
+            translationService.removeProgressListener(job.jobId);
+            translationService.clearTranslationCancellation(job.jobId);
+        }
+    }
+
+    private void requestCancellationIfRunning(TranslationJob job) {
+        // run() clears the flag after finish(), so setting it under the job lock never outlives the run.
+        synchronized (job) {
+            if (job.status == Status.RUNNING) {
+                translationService.cancelTranslationRequest(job.jobId);
+            }
+        }
+    }
+
+    private TranslationJob requireJob(String jobId) {
+        TranslationJob job = jobId == null ? null : jobs.get(jobId.trim());
+        if (job == null) {
+            throw new NoSuchElementException("Translation job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private void purgeExpiredJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedBefore(cutoff));
+    }
+
+    private static final class TranslationJob implements TranslationProgressListener {
+        private final String jobId;
+        private final String fileName;
+        private final String targetLanguage;
+        private final int rowCount;
+        private final Instant submittedAt = Instant.now();
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private volatile Future<?> future;
+
+        private Status status = Status.QUEUED;
+        private int queuedItems;
+        private int completedItems;
+        private int retries;
+        private String lastRoute;
+        private String message = "Queued";
+        private Instant startedAt;
+        private Instant finishedAt;
+        private TranslationExportResult result;
+        private Exception failure;
+
+        private TranslationJob(String jobId, String fileName, String targetLanguage, int rowCount) {
+            this.jobId = jobId;
+            this.fileName = fileName;
+            this.targetLanguage = targetLanguage;
+            this.rowCount = rowCount;
+        }
+
+        @Override
+        public void onItemsQueued(String route, int items) {
+            List<Subscriber> targets;
+            synchronized (this) {
+                queuedItems += items;
+                lastRoute = route;
+                message = "Translating " + items + " strings via " + route;
+                targets = publish("progress");
+            }
+            deliver(targets);
+        }
+
+        @Override
+        public void onItemsCompleted(String route, int items) {
+            List<Subscriber> targets;
+            synchronized (this) {
+                completedItems += items;
+                lastRoute = route;
+                message = "Translated " + completedItems + " of " + queuedItems + " strings";
+                targets = publish("progress");
+            }
+            deliver(targets);
+        }
+
+        @Override
+        public void onRetry(int start, int end, String statusOrType, int attempt) {
+            List<Subscriber> targets;
+            synchronized (this) {
+                retries++;
+                message = "Retrying range [" + start + ", " + end + ") after " + statusOrType + " (attempt " + attempt + ")";
+                targets = publish("retry");
+            }
+            deliver(targets);
+        }
+
+        private boolean start() {
+            List<Subscriber> targets;
+            synchronized (this) {
+                if (status != Status.QUEUED) {
+                    return false;
+                }
+                status = Status.RUNNING;
+                startedAt = Instant.now();
+                message = "Running";
+                targets = publish("status");
+            }
+            deliver(targets);
+            return true;
+        }
+
+        private boolean cancelIfQueued() {
+            List<Subscriber> targets;
+            synchronized (this) {
+                if (status != Status.QUEUED) {
+                    return false;
+                }
+                status = Status.CANCELLED;
+                message = "Cancelled before start";
+                finishedAt = Instant.now();
+                targets = publish("cancelled");
+                subscribers.clear();
+            }
+            deliver(targets);
+            return true;
+        }
+
+        private void finish(Status finalStatus, TranslationExportResult finalResult, Exception finalFailure, String finalMessage) {
+            List<Subscriber> targets;
+            synchronized (this) {
+                if (status.isFinished()) {
+                    return;
+                }
+                status = finalStatus;
+                result = finalResult;
+                failure = finalFailure;
+                message = finalMessage;
+                finishedAt = Instant.now();
+                targets = publish(finalStatus.name().toLowerCase());
+                subscribers.clear();
+            }
+            deliver(targets);
+        }
+
+        private Runnable subscribe(Consumer<JobEvent> consumer) {
+            Subscriber subscriber = new Subscriber(consumer);
+            boolean finished;
+            synchronized (this) {
+                finished = status.isFinished();
+                subscriber.enqueue(new JobEvent(finished ? status.name().toLowerCase() : "status", snapshot()));
+                if (!finished) {
+                    subscribers.add(subscriber);
+                }
+            }
+            subscriber.drain();
+            if (finished || subscriber.isClosed()) {
+                subscribers.remove(subscriber);
+                return () -> { };
+            }
+            return () -> {
+                subscriber.close();
+                subscribers.remove(subscriber);
+            };
+        }
+
+        /**
+         * Queues the event for every current subscriber; called with the job lock held so each
+         * subscriber sees events in state order. Delivery happens in {@link #deliver} after the
+         * lock is released, so a slow SSE client never blocks the translation pipeline. The final
+         * event is queued in the same critical section as the finished status and delivered before
+         * {@link #finish} returns; later subscribers get the finished snapshot on subscribe.
+         */
+        private List<Subscriber> publish(String eventName) {
+            JobEvent event = new JobEvent(eventName, snapshot());
+            for (Subscriber subscriber : subscribers) {
+                subscriber.enqueue(event);
+            }
+            return List.copyOf(subscribers);
+        }
+
+        private void deliver(List<Subscriber> targets) {
+            for (Subscriber subscriber : targets) {
+                subscriber.drain();
+                if (subscriber.isClosed()) {
+                    subscribers.remove(subscriber);
+                }
+            }
+        }
+
+        private synchronized boolean isFinished() {
+            return status.isFinished();
+        }
+
+        private synchronized boolean finishedBefore(Instant cutoff) {
+            return finishedAt != null && finishedAt.isBefore(cutoff);
+        }
+
+        private synchronized JobSnapshot snapshot() {
+            return new JobSnapshot(
+                    jobId,
+                    status,
+                    fileName,
+                    targetLanguage,
+                    rowCount,
+                    queuedItems,
+                    completedItems,
+                    retries,
+                    lastRoute,
+                    message,
+                    submittedAt.toString(),
+                    startedAt == null ? null : startedAt.toString(),
+                    finishedAt == null ? null : finishedAt.toString()
+            );
+        }
+    }
+
+    /**
+     * Per-subscriber event queue. Whichever thread wins the drain flag delivers queued events
+     * in order; a subscriber that throws is closed and receives nothing further.
+     */
+    private static final class Subscriber {
+        private final Consumer<JobEvent> consumer;
+        private final ConcurrentLinkedQueue<JobEvent> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(Consumer<JobEvent> consumer) {
+            this.consumer = consumer;
+        }
+
+        private void enqueue(JobEvent event) {
+            if (!closed) {
+                pending.add(event);
+            }
+        }
+
+        private void drain() {
+            while (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+                try {
+                    JobEvent event;
+                    while ((event = pending.poll()) != null) {
+                        if (closed) {
+                            continue;
+                        }
+                        try {
+                            consumer.accept(event);
+                        } catch (RuntimeException ex) {
+                            close();
+                        }
+                    }
+                } finally {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void close() {
+            closed = true;
+            pending.clear();
+        }
+
+        private boolean isClosed() {
+            return closed;
+        }
+    }
+
+    public record JobSnapshot(
+            String jobId,
+            Status status,
+            String fileName,
+            String targetLanguage,
+            int rows,
+            int queuedItems,
+            int completedItems,
+            int retries,
+            String route,
+            String message,
+            String submittedAt,
+            String startedAt,
+            String finishedAt
+    ) {
+    }
+
+    public record JobEvent(String name, JobSnapshot snapshot) {
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Disk-backed memory of Google translations keyed by language pair, route, model,
+ * glossary/dataset resource and the protected source text. Entries are kept in
+ * access order and the least recently used ones are evicted once maxEntries is reached.
+ * Each language pair is persisted to its own JSON file so a single pair can be
+ * invalidated after a glossary or adaptive dataset sync. Changes only mark their pair
+ * dirty; a background flusher writes dirty pairs every flushIntervalMs and on shutdown,
+ * so Google batch workers never wait on disk I/O.
+ */
+@Service
+public class TranslationMemory {
+    private static final Logger log = LoggerFactory.getLogger(TranslationMemory.class);
+    private static final String MEMORY_FILE_SUFFIX = ".json";
+    private static final String MEMORY_FILE_PAIR_SEPARATOR = "__";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int maxEntries;
+    private final ObjectMapper mapper;
+    private final LinkedHashMap<String, String> languagePairByEntryKey = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Map<String, String>> translationsByLanguagePair = new HashMap<>();
+    private final Set<String> dirtyLanguagePairs = new LinkedHashSet<>();
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService flusher;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public TranslationMemory(
+            @Value("${myapp.translationMemory.enabled:true}") boolean enabled,
+            @Value("${myapp.translationMemory.directory:data/translation-memory}") String directory,
+            @Value("${myapp.translationMemory.maxEntries:200000}") int maxEntries,
+            @Value("${myapp.translationMemory.flushIntervalMs:2000}") long flushIntervalMs,
+            ObjectMapper mapper
+    ) throws Exception {
+        if (maxEntries <= 0) {
+            throw new IllegalStateException("Translation memory max entries must be greater than zero");
+        }
+        if (flushIntervalMs <= 0) {
+            throw new IllegalStateException("Translation memory flush interval must be greater than zero");
+        }
+        this.enabled = enabled;
+        this.directory = Path.of(directory == null || directory.isBlank() ? "data/translation-memory" : directory.trim())
+                .toAbsolutePath();
+        this.maxEntries = maxEntries;
+        this.mapper = mapper;
+        if (enabled) {
+            Files.createDirectories(this.directory);
+            loadPersistedEntries();
+            this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "translation-memory-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String lookup(Scope scope, String protectedSourceText) {
+        if (!enabled) {
+            return null;
+        }
+        String entryKey = entryKey(scope, protectedSourceText);
+        synchronized (this) {
+            String languagePair = languagePairByEntryKey.get(entryKey);
+            if (languagePair != null) {
+                String translation = translationsByLanguagePair.getOrDefault(languagePair, Map.of()).get(entryKey);
+                if (translation != null) {
+                    hits.incrementAndGet();
+                    return translation;
+                }
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void storeAll(Scope scope, Map<String, String> translationsByProtectedSourceText) {
+        if (!enabled || translationsByProtectedSourceText == null || translationsByProtectedSourceText.isEmpty()) {
+            return;
+        }
+        String languagePair = languagePair(scope.sourceLanguage(), scope.targetLanguage());
+        synchronized (this) {
+            dirtyLanguagePairs.add(languagePair);
+            Map<String, String> pairTranslations = translationsByLanguagePair.computeIfAbsent(languagePair, key -> new HashMap<>());
+            for (Map.Entry<String, String> entry : translationsByProtectedSourceText.entrySet()) {
+                if (entry.getKey() == null || entry.getValue() == null) {
+                    continue;
+                }
+                String entryKey = entryKey(scope, entry.getKey());
+                pairTranslations.put(entryKey, entry.getValue());
+                languagePairByEntryKey.put(entryKey, languagePair);
+            }
+            dirtyLanguagePairs.addAll(evictOverflow());
+        }
+    }
+
+    public synchronized int invalidateLanguagePair(String sourceLanguage, String targetLanguage) {
+        if (!enabled) {
+            return 0;
+        }
+        String sourceBase = baseLanguage(normalizeLanguage(sourceLanguage));
+        String targetBase = baseLanguage(normalizeLanguage(targetLanguage));
+        int removed = 0;
+        for (String languagePair : new ArrayList<>(translationsByLanguagePair.keySet())) {
+            String[] parts = languagePair.split(MEMORY_FILE_PAIR_SEPARATOR, 2);
+            if (parts.length != 2 || !baseLanguage(parts[0]).equals(sourceBase) || !baseLanguage(parts[1]).equals(targetBase)) {
+                continue;
+            }
+            Map<String, String> pairTranslations = translationsByLanguagePair.remove(languagePair);
+            pairTranslations.keySet().forEach(languagePairByEntryKey::remove);
+            removed += pairTranslations.size();
+            dirtyLanguagePairs.add(languagePair);
+        }
+        log.info("Invalidated {} translation memory entries for language pair {}->{}", removed, sourceLanguage, targetLanguage);
+        return removed;
+    }
+
+    public synchronized Stats stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long lookups = hitCount + missCount;
+        Map<String, Integer> entriesByLanguagePair = new TreeMap<>();
+        translationsByLanguagePair.forEach((pair, translations) -> entriesByLanguagePair.put(pair.replace(MEMORY_FILE_PAIR_SEPARATOR, "->"), translations.size()));
+        return new Stats(
+                enabled,
+                languagePairByEntryKey.size(),
+                maxEntries,
+                hitCount,
+                missCount,
+                evictions.get(),
+                lookups == 0 ? 0.0 : (double) hitCount / lookups,
+                entriesByLanguagePair
+        );
+    }
+
+    /**
+     * Writes every dirty language pair. The pair maps are copied under the memory lock and
+     * written outside it, so lookups and stores only wait for the copy, never for the disk.
+     */
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (flushLock) {
+            Map<String, Map<String, String>> snapshots = new LinkedHashMap<>();
+            synchronized (this) {
+                for (String languagePair : dirtyLanguagePairs) {
+                    Map<String, String> pairTranslations = translationsByLanguagePair.get(languagePair);
+                    snapshots.put(languagePair, pairTranslations == null ? Map.of() : new HashMap<>(pairTranslations));
+                }
+                dirtyLanguagePairs.clear();
+            }
+            snapshots.forEach((languagePair, translations) -> {
+                if (!persistLanguagePair(languagePair, translations)) {
+                    synchronized (this) {
+                        dirtyLanguagePairs.add(languagePair);
+                    }
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    private List<String> evictOverflow() {
+        List<String> changedLanguagePairs = new ArrayList<>();
+        Iterator<Map.Entry<String, String>> iterator = languagePairByEntryKey.entrySet().iterator();
+        while (languagePairByEntryKey.size() > maxEntries && iterator.hasNext()) {
+            Map.Entry<String, String> eldest = iterator.next();
+            iterator.remove();
+            Map<String, String> pairTranslations = translationsByLanguagePair.get(eldest.getValue());
+            if (pairTranslations != null) {
+                pairTranslations.remove(eldest.getKey());
+                if (pairTranslations.isEmpty()) {
+                    translationsByLanguagePair.remove(eldest.getValue());
+                }
+            }
+            evictions.incrementAndGet();
+            if (!changedLanguagePairs.contains(eldest.getValue())) {
+                changedLanguagePairs.add(eldest.getValue());
+            }
+        }
+        return changedLanguagePairs;
+    }
+
+    private void loadPersistedEntries() {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> memoryFiles = files
+                    .filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(MEMORY_FILE_SUFFIX))
+                    .sorted()
+                    .toList();
+            for (Path file : memoryFiles) {
+                String fileName = file.getFileName().toString();
+                String languagePair = fileName.substring(0, fileName.length() - MEMORY_FILE_SUFFIX.length());
+                if (!languagePair.contains(MEMORY_FILE_PAIR_SEPARATOR)) {
+                    continue;
+                }
+                try {
+                    Map<String, String> persisted = mapper.readValue(file.toFile(), new TypeReference<Map<String, String>>() {
+                    });
+                    Map<String, String> pairTranslations = translationsByLanguagePair.computeIfAbsent(languagePair, key -> new HashMap<>());
+                    for (Map.Entry<String, String> entry : persisted.entrySet()) {
+                        if (languagePairByEntryKey.size() >= maxEntries) {
+                            break;
+                        }
+                        if (entry.getKey() != null && entry.getValue() != null) {
+                            pairTranslations.put(entry.getKey(), entry.getValue());
+                            languagePairByEntryKey.put(entry.getKey(), languagePair);
+                        }
+                    }
+                } catch (Exception ex) {
+                    log.warn("Ignoring unreadable translation memory file {}: {}", file, ex.getMessage());
+                }
+            }
+            if (!languagePairByEntryKey.isEmpty()) {
+                log.info("Loaded {} translation memory entries from {}", languagePairByEntryKey.size(), directory);
+            }
+        } catch (Exception ex) {
+            log.warn("Failed to load translation memory from {}: {}", directory, ex.getMessage());
+        }
+    }
+
+    private boolean persistLanguagePair(String languagePair, Map<String, String> pairTranslations) {
+        Path file = directory.resolve(languagePair + MEMORY_FILE_SUFFIX);
+        try {
+            if (pairTranslations.isEmpty()) {
+                Files.deleteIfExists(file);
+                return true;
+            }
+            Path tempFile = directory.resolve(languagePair + MEMORY_FILE_SUFFIX + ".tmp");
+            mapper.writeValue(tempFile.toFile(), new TreeMap<>(pairTranslations));
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (Exception ex) {
+            log.warn("Failed to persist translation memory file {}: {}", file, ex.getMessage());
+            return false;
+        }
+    }
+
+    private String entryKey(Scope scope, String protectedSourceText) {
+        String raw = String.join("\u0000",
+                normalizeLanguage(scope.sourceLanguage()),
+                normalizeLanguage(scope.targetLanguage()),
+                Objects.requireNonNullElse(scope.route(), ""),
+                Objects.requireNonNullElse(scope.model(), ""),
+                Objects.requireNonNullElse(scope.resource(), ""),
+                Objects.requireNonNullElse(protectedSourceText, ""));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(raw.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private String languagePair(String sourceLanguage, String targetLanguage) {
+        return normalizeLanguage(sourceLanguage) + MEMORY_FILE_PAIR_SEPARATOR + normalizeLanguage(targetLanguage);
+    }
+
+    private String normalizeLanguage(String languageCode) {
+        String normalized = languageCode == null ? "" : languageCode.trim().toLowerCase(Locale.ROOT).replace('_', '-');
+        return normalized.replaceAll("[^a-z0-9-]", "");
+    }
+
+    private String baseLanguage(String languageCode) {
+        int separator = languageCode.indexOf('-');
+        return separator > 0 ? languageCode.substring(0, separator) : languageCode;
+    }
+
+    public record Scope(String sourceLanguage, String targetLanguage, String route, String model, String resource) {
+    }
+
+    public record Stats(
+            boolean enabled,
+            int entries,
+            int maxEntries,
+            long hits,
+            long misses,
+            long evictions,
+            double hitRatio,
+            Map<String, Integer> entriesByLanguagePair
+    ) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for the translation pipeline and its upstream calls, exposed through
+ * Actuator ({@code /actuator/metrics}, {@code /actuator/prometheus}). Timers publish
+ * percentile histograms when {@code management.metrics.distribution.percentiles-histogram.translation}
+ * is on.
+ */
+@Component
+public class TranslationMetrics {
+    public static final String STAGE_DURATION = "translation.stage.duration";
+    public static final String CANCELLATIONS = "translation.cancellations";
+    public static final String GOOGLE_BATCH_DURATION = "translation.google.batch.duration";
+    public static final String GOOGLE_BATCH_SIZE = "translation.google.batch.size";
+    public static final String GOOGLE_RETRIES = "translation.google.retries";
+    public static final String GOOGLE_SPLITS = "translation.google.splits";
+    public static final String OPENAI_BATCH_DURATION = "translation.openai.batch.duration";
+    public static final String OPENAI_BATCH_SIZE = "translation.openai.batch.size";
+    public static final String OPENAI_RETRIES = "translation.openai.retries";
+    public static final String OPENAI_TOKENS = "translation.openai.tokens";
+    public static final String OPENAI_COST = "translation.openai.cost";
+
+    private final MeterRegistry registry;
+
+    public TranslationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @FunctionalInterface
+    public interface StageWork<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * Times one pipeline stage (preprocess, protect, translate, restore, review, validate,
+     * write). A stage that ends in a cancellation also counts towards {@value #CANCELLATIONS}.
+     */
+    public <T, E extends Exception> T stage(String stage, StageWork<T, E> work) throws E {
+        long startedAt = System.nanoTime();
+        String outcome = "success";
+        try {
+            return work.run();
+        } catch (CancellationException ex) {
+            outcome = "cancelled";
+            Counter.builder(CANCELLATIONS)
+                    .description("Translation runs cancelled, by the pipeline stage that observed it")
+                    .tag("stage", stage)
+                    .register(registry)
+                    .increment();
+            throw ex;
+        } catch (Exception ex) {
+            outcome = "error";
+            throw ex;
+        } finally {
+            Timer.builder(STAGE_DURATION)
+                    .description("Duration of a translation pipeline stage for one target language")
+                    .tag("stage", stage)
+                    .tag("outcome", outcome)
+                    .register(registry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** One Google batch including its retries and splits; {@code size} is the number of texts. */
+    public void googleBatch(String route, int size, long durationNanos, boolean succeeded) {
+        Timer.builder(GOOGLE_BATCH_DURATION)
+                .description("Google Translate batch latency including retries and splits")
+                .tag("route", route)
+                .tag("outcome", succeeded ? "success" : "error")
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(GOOGLE_BATCH_SIZE)
+                .description("Texts per Google Translate batch")
+                .baseUnit("texts")
+                .tag("route", route)
+                .register(registry)
+                .record(size);
+    }
+
+    public void googleRetry(String statusOrType) {
+        Counter.builder(GOOGLE_RETRIES)
+                .description("Google Translate requests retried after a transient failure")
+                .tag("reason", statusOrType)
+                .register(registry)
+                .increment();
+    }
+
+    /** {@code reason} is {@code server-error} for a 5xx halving or {@code isolated-failure} for known bad strings. */
+    public void googleSplit(String reason) {
+        Counter.builder(GOOGLE_SPLITS)
+                .description("Google Translate batches split into smaller requests")
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    /** {@code outcome} is {@code success}, {@code fallback}, {@code error} or {@code cancelled}. */
+    public void openAiBatch(int size, long durationNanos, String outcome) {
+        Timer.builder(OPENAI_BATCH_DURATION)
+                .description("OpenAI review batch latency including retries")
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(OPENAI_BATCH_SIZE)
+                .description("Items per OpenAI review batch")
+                .baseUnit("items")
+                .register(registry)
+                .record(size);
+    }
+
+    public void openAiRetry() {
+        Counter.builder(OPENAI_RETRIES)
+                .description("OpenAI review requests retried after a transient failure")
+                .register(registry)
+                .increment();
+    }
+
+    /** {@code inputTokens} includes the cached ones, as reported by the API. */
+    public void openAiUsage(long inputTokens, long cachedInputTokens, long outputTokens, BigDecimal estimatedCostUsd) {
+        tokens("input", inputTokens);
+        tokens("cached_input", cachedInputTokens);
+        tokens("output", outputTokens);
+        Counter.builder(OPENAI_COST)
+                .description("Estimated OpenAI review cost from the configured token prices")
+                .baseUnit("usd")
+                .register(registry)
+                .increment(estimatedCostUsd == null ? 0 : estimatedCostUsd.doubleValue());
+    }
+
+    private void tokens(String type, long count) {
+        Counter.builder(OPENAI_TOKENS)
+                .description("OpenAI review tokens")
+                .baseUnit("tokens")
+                .tag("type", type)
+                .register(registry)
+                .increment(count);
+    }
+}
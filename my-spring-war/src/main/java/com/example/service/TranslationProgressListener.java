@@ -0,0 +1,28 @@
+package com.example.service;
+
+/**
+ * Receives per-batch progress for a single translation request. Callbacks may
+ * arrive concurrently from batch worker threads.
+ */
+public interface TranslationProgressListener {
+
+    TranslationProgressListener NONE = new TranslationProgressListener() {
+        @Override
+        public void onItemsQueued(String route, int items) {
+        }
+
+        @Override
+        public void onItemsCompleted(String route, int items) {
+        }
+
+        @Override
+        public void onRetry(int start, int end, String statusOrType, int attempt) {
+        }
+    };
+
+    void onItemsQueued(String route, int items);
+
+    void onItemsCompleted(String route, int items);
+
+    void onRetry(int start, int end, String statusOrType, int attempt);
+}
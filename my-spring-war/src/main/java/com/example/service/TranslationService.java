@@ -1,10 +1,11 @@
 package com.example.service;
 
 import com.example.config.OutboundApiLoggingInterceptor;
-import com.example.api.dto.TranslationCompareDifference;
+import com.example.api.dto.TranslationComparePage;
 import com.example.api.dto.TranslationCompareResult;
 import com.example.api.dto.TranslationExportResult;
 import com.example.api.dto.TranslationRow;
+import com.example.api.dto.ReviewedTranslationItem;
 import com.example.api.dto.TranslationReviewItem;
 import com.example.api.dto.TranslationReviewResponse;
 import com.example.api.dto.SupportedLanguage;
@@ -21,8 +22,6 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.ResourceAccessException;
 import org.slf4j.Logger;
@@ -32,8 +31,12 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.nio.file.Files;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
@@ -44,9 +47,12 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -54,11 +60,18 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.TreeSet;
 import java.util.Objects;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
@@ -68,11 +81,23 @@ public class TranslationService {
 
     private final Path defaultDataDir;
     private final ObjectMapper mapper;
+    private final LocaleJsonStreamReader localeJsonReader;
+    private final LocaleJsonStreamWriter localeJsonWriter;
     private final RestTemplate restTemplate;
     private final OpenAiTranslationReviewService openAiTranslationReviewService;
+    private final TranslationMemory translationMemory;
+    private final TranslationExecutor translationExecutor;
+    private final GoogleTranslateConcurrencyLimiter googleConcurrencyLimiter;
+    private final LocaleFileCache localeFileCache;
+    private final TranslationCheckpointStore checkpointStore;
+    private final TranslationMetrics translationMetrics;
+    private volatile LocaleCompareIndex lastCompareIndex;
+    private final RiskyTermsRegistry riskyTermsRegistry = new RiskyTermsRegistry();
+    private final TranslationFailureRegistry translationFailureRegistry = new TranslationFailureRegistry(MAX_ISOLATED_FAILURES, ISOLATE_AFTER_FAILURES);
     private final String googleCredentialsPath;
     private final String googleProjectId;
     private final String googleLocation;
+    private final String googleApiBaseUrl;
     private final String googleTranslationModel;
     private final boolean googleGlossaryEnabled;
     private final String googleGlossaryId;
@@ -87,8 +112,13 @@ public class TranslationService {
     private final boolean googleAdaptiveDatasetEnabled;
     private final AdaptiveDatasetRoutingStrategy googleAdaptiveDatasetRoutingStrategy;
     private final int googleBatchSize;
+    private final BatchPackingMode googleBatchPacking;
+    private final int googleMaxCodepointsPerBatch;
+    private final int maxConcurrentLanguages;
+    private final Semaphore languageSlots;
     private final int googleRetryAttempts;
     private final long googleRetryBackoffMs;
+    private final int googleMaxConcurrentBatches;
     private final String supportedLanguagesDisplayLocale;
     private final String referenceLanguageFile;
     private final String riskyTermsFile;
@@ -98,19 +128,26 @@ public class TranslationService {
     private final Map<String, String> activeGlossariesByLanguagePair = new ConcurrentHashMap<>();
     private final Map<String, String> activeAdaptiveDatasetsByLanguagePair = new ConcurrentHashMap<>();
     private final Set<String> cancelledTranslationRequests = ConcurrentHashMap.newKeySet();
+    private final Map<String, TranslationProgressListener> progressListeners = new ConcurrentHashMap<>();
+    private final Map<String, TranslationCheckpointStore.Checkpoint> activeCheckpoints = new ConcurrentHashMap<>();
     private GoogleCredentials googleCredentials;
     private AccessToken cachedAccessToken;
-    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile(
-            "\\{\\{[^{}]+}}|\\{[^{}]+}|%\\d*\\$?[sdfoxegc]|<[^>]+>"
-    );
     private static final String PLACEHOLDER_TOKEN_PREFIX = "__PH_";
     private static final String ADAPTIVE_DATASETS_REGISTRY_FILE = "adaptive-datasets.json";
+    private static final int MAX_ISOLATED_FAILURES = 1000;
+    private static final int ISOLATE_AFTER_FAILURES = 2;
+    private static final String SOURCE_MANIFEST_SUFFIX = ".source-manifest.json";
+    private static final String ISOLATED_UPSTREAM_FAILURE = "isolated-upstream-failure";
+    private static final int DEFAULT_COMPARE_PAGE_SIZE = 200;
+    private static final int MAX_COMPARE_PAGE_SIZE = 1000;
     private static final Pattern PROTECTED_PLACEHOLDER_TOKEN_PATTERN = Pattern.compile("__PH_[A-Z0-9_]+__");
+    private static final int VALIDATION_CHUNK_SIZE = 2048;
     private static final DateTimeFormatter GENERATED_FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
     private static final Set<String> UI_FOCUSED_PREFIXES = Set.of("b", "m", "l");
     private static final Set<String> DEFAULT_AMBIGUOUS_TERMS = Set.of(
             "close", "clear", "apply", "lead", "charge", "rate", "run", "view", "basket", "shopping cart"
     );
+    private static final TermMatcher AMBIGUOUS_TERM_MATCHER = TermMatcher.compile(DEFAULT_AMBIGUOUS_TERMS);
     // Based on Google Cloud Translation "Translation LLM supported languages".
     // Google documents this is also the supported-language set for Adaptive Translation.
     private static final Set<String> ADAPTIVE_TRANSLATION_LANGUAGE_CODES = Set.of(
@@ -125,11 +162,17 @@ public class TranslationService {
         ALL
     }
 
+    private enum BatchPackingMode {
+        COUNT,
+        CODEPOINTS
+    }
+
     public TranslationService(
             @Value("${myapp.dataDir}") String defaultDataDir,
             @Value("${myapp.google.credentialsPath:}") String googleCredentialsPath,
             @Value("${myapp.google.projectId}") String googleProjectId,
             @Value("${myapp.google.location:global}") String googleLocation,
+            @Value("${myapp.google.apiBaseUrl:https://translation.googleapis.com/v3}") String googleApiBaseUrl,
             @Value("${myapp.google.model:general/translation-llm}") String googleTranslationModel,
             @Value("${myapp.google.glossaryEnabled:false}") boolean googleGlossaryEnabled,
             @Value("${myapp.google.glossaryId:}") String googleGlossaryId,
@@ -146,6 +189,10 @@ public class TranslationService {
             @Value("${myapp.google.batchSize:50}") int googleBatchSize,
             @Value("${myapp.google.retryAttempts:3}") int googleRetryAttempts,
             @Value("${myapp.google.retryBackoffMs:500}") long googleRetryBackoffMs,
+            @Value("${myapp.google.maxConcurrentBatches:1}") int googleMaxConcurrentBatches,
+            @Value("${myapp.google.batchPacking:codepoints}") String googleBatchPacking,
+            @Value("${myapp.google.maxCodepointsPerBatch:30000}") int googleMaxCodepointsPerBatch,
+            @Value("${myapp.translation.maxConcurrentLanguages:2}") int maxConcurrentLanguages,
             @Value("${myapp.google.supportedLanguagesDisplayLocale:en}") String supportedLanguagesDisplayLocale,
             @Value("${myapp.referenceLanguageFile:en}") String referenceLanguageFile,
             @Value("${myapp.riskyTermsFile:risky-terms.txt}") String riskyTermsFile,
@@ -154,12 +201,19 @@ public class TranslationService {
             @Value("${translation.openai-post-processing.enabled:true}") boolean openAiPostProcessingEnabled,
             ObjectMapper mapper,
             RestTemplateBuilder restTemplateBuilder,
-            OpenAiTranslationReviewService openAiTranslationReviewService
+            OpenAiTranslationReviewService openAiTranslationReviewService,
+            TranslationMemory translationMemory,
+            GoogleTranslateConcurrencyLimiter googleConcurrencyLimiter,
+            LocaleFileCache localeFileCache,
+            TranslationCheckpointStore checkpointStore,
+            TranslationMetrics translationMetrics,
+            TranslationExecutor translationExecutor
     ) throws Exception {
         this.defaultDataDir = Path.of(defaultDataDir).toAbsolutePath();
         this.googleCredentialsPath = googleCredentialsPath;
         this.googleProjectId = googleProjectId;
         this.googleLocation = googleLocation;
+        this.googleApiBaseUrl = stripTrailingSlash(googleApiBaseUrl);
         this.googleTranslationModel = googleTranslationModel;
         this.googleGlossaryEnabled = googleGlossaryEnabled;
         this.googleGlossaryId = googleGlossaryId;
@@ -174,8 +228,13 @@ public class TranslationService {
         this.googleAdaptiveDatasetEnabled = googleAdaptiveDatasetEnabled;
         this.googleAdaptiveDatasetRoutingStrategy = parseAdaptiveDatasetRoutingStrategy(googleAdaptiveDatasetRoutingStrategy);
         this.googleBatchSize = googleBatchSize;
+        this.googleBatchPacking = parseBatchPackingMode(googleBatchPacking);
+        this.googleMaxCodepointsPerBatch = googleMaxCodepointsPerBatch;
+        this.maxConcurrentLanguages = maxConcurrentLanguages;
+        this.languageSlots = new Semaphore(maxConcurrentLanguages, true);
         this.googleRetryAttempts = googleRetryAttempts;
         this.googleRetryBackoffMs = googleRetryBackoffMs;
+        this.googleMaxConcurrentBatches = googleMaxConcurrentBatches;
         this.supportedLanguagesDisplayLocale = supportedLanguagesDisplayLocale;
         this.referenceLanguageFile = referenceLanguageFile;
         this.riskyTermsFile = riskyTermsFile;
@@ -184,21 +243,36 @@ public class TranslationService {
         this.openAiPostProcessingEnabled = openAiPostProcessingEnabled;
         requireValidBatchSize();
         requireValidRetrySettings();
+        requireValidMaxConcurrentBatches();
+        requireValidMaxConcurrentLanguages();
         validateGlossaryConfiguration();
         this.mapper = mapper;
+        this.localeJsonReader = new LocaleJsonStreamReader(mapper.getFactory());
+        this.localeJsonWriter = new LocaleJsonStreamWriter(mapper.getFactory());
         this.openAiTranslationReviewService = openAiTranslationReviewService;
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-
+        this.translationMemory = translationMemory;
+        this.googleConcurrencyLimiter = googleConcurrencyLimiter;
+        this.localeFileCache = localeFileCache;
+        this.checkpointStore = checkpointStore;
+        this.translationMetrics = translationMetrics;
+        this.translationExecutor = translationExecutor;
         this.restTemplate = restTemplateBuilder
-                .setConnectTimeout(Duration.ofSeconds(15))
                 .setReadTimeout(Duration.ofSeconds(60))
-                .requestFactory(() -> new BufferingClientHttpRequestFactory(requestFactory))
-                .additionalInterceptors(new OutboundApiLoggingInterceptor(mapper))
                 .build();
         Files.createDirectories(this.defaultDataDir);
         loadPersistedAdaptiveDatasets();
     }
 
+    private BatchPackingMode parseBatchPackingMode(String rawMode) {
+        String normalized = rawMode == null ? "" : rawMode.trim().toLowerCase(Locale.ROOT);
+        return switch (normalized) {
+            case "", "codepoints", "characters" -> BatchPackingMode.CODEPOINTS;
+            case "count" -> BatchPackingMode.COUNT;
+            default -> throw new IllegalArgumentException("Unsupported myapp.google.batchPacking: "
+                    + rawMode + ". Supported values are count and codepoints.");
+        };
+    }
+
     private AdaptiveDatasetRoutingStrategy parseAdaptiveDatasetRoutingStrategy(String rawStrategy) {
         String normalized = rawStrategy == null ? "" : rawStrategy.trim().toLowerCase(Locale.ROOT);
         return switch (normalized) {
@@ -265,22 +339,65 @@ public class TranslationService {
         }
 
         Path englishFile = resolveJsonFile(customPath, normalizeReferenceLanguageFile(referenceLanguageFile));
+        if (localeFileCache.accepts(file)) {
+            return loadRowsFromSections(
+                    localeFileCache.get(file, this::streamSectionMap),
+                    englishFile.equals(file) ? null : readSectionMap(englishFile)
+            );
+        }
+        boolean sourceIsReference = englishFile.equals(file);
+
+        // section -> key -> row position; a repeated key keeps its first position and last text,
+        // matching how the files were read into maps before.
+        List<TranslationRow> rows = new ArrayList<>();
+        Map<String, Map<String, Integer>> rowIndex = new HashMap<>();
+        boolean hasContent = localeJsonReader.read(file, (section, key, text) -> {
+            Integer existing = rowIndex.computeIfAbsent(section, ignored -> new HashMap<>()).putIfAbsent(key, rows.size());
+            if (existing != null) {
+                rows.get(existing).setText(text);
+                if (sourceIsReference) {
+                    rows.get(existing).setEnglishReference(text);
+                }
+                return;
+            }
+            rows.add(new TranslationRow(section, key, text, sourceIsReference ? text : ""));
+        });
+        if (!hasContent) {
+            return List.of();
+        }
 
-        Object raw = mapper.readValue(file.toFile(), Object.class);
-        if (raw == null) return List.of();
-
-        if (!(raw instanceof Map<?, ?> top)) {
-            throw new IllegalArgumentException("Invalid JSON format: expected object at root");
+        if (!sourceIsReference && Files.exists(englishFile)) {
+            try {
+                localeJsonReader.read(englishFile, (section, key, text) -> {
+                    Integer position = rowIndex.getOrDefault(section, Map.of()).get(key);
+                    if (position != null) {
+                        rows.get(position).setEnglishReference(text);
+                    }
+                });
+            } catch (IllegalArgumentException ex) {
+                log.warn("Ignoring reference file {}: {}", englishFile.getFileName(), ex.getMessage());
+            }
         }
+        return rows;
+    }
 
-        List<TranslationItem> sourceItems = flattenPrefixTranslationJson(top, file);
-        Map<String, Map<String, String>> englishBySection = readSectionMap(englishFile);
-        List<TranslationRow> rows = new ArrayList<>(sourceItems.size());
-        for (TranslationItem item : sourceItems) {
-            String englishReference = englishBySection
-                    .getOrDefault(item.prefix(), Map.of())
-                    .getOrDefault(item.key(), "");
-            rows.add(new TranslationRow(item.prefix(), item.key(), item.sourceText(), englishReference));
+    private List<TranslationRow> loadRowsFromSections(
+            Map<String, Map<String, String>> sourceSections,
+            Map<String, Map<String, String>> referenceSections
+    ) {
+        List<TranslationRow> rows = new ArrayList<>();
+        for (Map.Entry<String, Map<String, String>> section : sourceSections.entrySet()) {
+            Map<String, String> referenceSection = referenceSections == null
+                    ? section.getValue()
+                    : referenceSections.getOrDefault(section.getKey(), Map.of());
+            for (Map.Entry<String, String> entry : section.getValue().entrySet()) {
+                rows.add(new TranslationRow(
+                        section.getKey(),
+                        entry.getKey(),
+                        entry.getValue(),
+                        referenceSection.getOrDefault(entry.getKey(), "")
+                ));
+            }
         }
         return rows;
     }
@@ -302,44 +419,26 @@ public class TranslationService {
             return Map.of();
         }
 
-        Object raw = mapper.readValue(file.toFile(), Object.class);
-        if (!(raw instanceof Map<?, ?> top)) {
+        try {
+            return localeFileCache.get(file, this::streamSectionMap);
+        } catch (IllegalArgumentException ex) {
             return Map.of();
         }
+    }
 
-        List<TranslationItem> items = flattenPrefixTranslationJson(top, file);
+    private Map<String, Map<String, String>> streamSectionMap(Path file) throws IOException {
         Map<String, Map<String, String>> result = new LinkedHashMap<>();
-        for (TranslationItem item : items) {
-            result.computeIfAbsent(item.prefix(), ignored -> new LinkedHashMap<>())
-                    .put(item.key(), item.sourceText());
-        }
+        localeJsonReader.read(file, (section, key, text) ->
+                result.computeIfAbsent(section, ignored -> new LinkedHashMap<>()).put(key, text));
         return result;
     }
 
-    private List<TranslationItem> flattenPrefixTranslationJson(Map<?, ?> top, Path sourceFile) {
-        List<TranslationItem> items = new ArrayList<>();
-        int index = 0;
-        for (Map.Entry<?, ?> prefixEntry : top.entrySet()) {
-            String prefix = String.valueOf(prefixEntry.getKey());
-            Object keyValues = prefixEntry.getValue();
-            if (!(keyValues instanceof Map<?, ?> nestedMap)) {
-                log.warn("Ignoring non-object prefix value while reading {} at prefix '{}': {}",
-                        sourceFile.getFileName(), prefix, keyValues == null ? "null" : keyValues.getClass().getSimpleName());
-                continue;
-            }
+    public LocaleFileCache.Stats localeFileCacheStats() {
+        return localeFileCache.stats();
+    }
 
-            for (Map.Entry<?, ?> keyEntry : nestedMap.entrySet()) {
-                String key = String.valueOf(keyEntry.getKey());
-                Object sourceText = keyEntry.getValue();
-                if (!(sourceText instanceof String text)) {
-                    log.warn("Ignoring non-string translation value while reading {} at '{}.{}': {}",
-                            sourceFile.getFileName(), prefix, key, sourceText == null ? "null" : sourceText.getClass().getSimpleName());
-                    continue;
-                }
-                items.add(new TranslationItem(index++, prefix, key, prefix + "." + key, text));
-            }
-        }
-        return items;
+    public int clearLocaleFileCache() {
+        return localeFileCache.clear();
     }
 
     public TranslationExportResult translateAndStore(String customPath, String fileName, String targetLanguage, List<TranslationRow> rows) throws Exception {
@@ -376,6 +475,35 @@ public class TranslationService {
             String translationMode,
             Boolean postProcessWithOpenAi,
             String translationRequestId
+    ) throws Exception {
+        return translateAndStoreToDirectory(
+                sourcePath,
+                outputPath,
+                fileName,
+                targetLanguage,
+                rows,
+                translationMode,
+                postProcessWithOpenAi,
+                false,
+                translationRequestId
+        );
+    }
+
+    /**
+     * With deltaOnly, rows whose source text hash matches the manifest written by the
+     * previous run for this target language reuse that run's translation; only new or
+     * changed rows go through the translation pipeline.
+     */
+    public TranslationExportResult translateAndStoreToDirectory(
+            String sourcePath,
+            String outputPath,
+            String fileName,
+            String targetLanguage,
+            List<TranslationRow> rows,
+            String translationMode,
+            Boolean postProcessWithOpenAi,
+            boolean deltaOnly,
+            String translationRequestId
     ) throws Exception {
         if (rows == null || rows.isEmpty()) {
             throw new IllegalArgumentException("No rows provided for translation");
@@ -386,36 +514,314 @@ public class TranslationService {
         throwIfTranslationCancelled(translationRequestId);
 
         String sourceLanguage = resolveSourceLanguage(fileName, rows);
-        TranslationPipelineResult pipelineResult = runTranslationPipeline(
+        Path outputDirectory = resolveDataDir(outputPath);
+        List<TranslationRow> rowsToTranslate = rows;
+        Map<String, String> reusedTranslations = Map.of();
+        if (deltaOnly) {
+            reusedTranslations = reusablePreviousTranslations(
+                    outputDirectory, targetLanguage, translationMode, applyOpenAiPostProcessing(postProcessWithOpenAi), rows);
+            Set<String> reusedKeys = reusedTranslations.keySet();
+            rowsToTranslate = rows.stream()
+                    .filter(row -> !reusedKeys.contains(row.getSection() + "." + row.getKey()))
+                    .toList();
+            log.info("Delta translation target={}, rows={}, reused={}, toTranslate={}",
+                    targetLanguage, rows.size(), reusedTranslations.size(), rowsToTranslate.size());
+        }
+        TranslationPipelineResult pipelineResult = rowsToTranslate.isEmpty()
+                ? new TranslationPipelineResult(List.of(), createValidationSkippedReport(List.of(), List.of(), List.of(), RiskyTermsRegistry.RiskyTerms.NONE), Set.of())
+                : runTranslationPipeline(
                 sourcePath,
-                rows,
+                rowsToTranslate,
                 sourceLanguage,
                 targetLanguage,
                 translationMode,
                 postProcessWithOpenAi,
                 translationRequestId
         );
-        List<String> translatedTexts = pipelineResult.translatedTexts();
+        Path sourceFile = resolveJsonFile(sourcePath, fileName);
+        List<TranslationRow> translatedRows = rowsToTranslate;
+        Map<String, String> reused = reusedTranslations;
+        return translationMetrics.stage("write", () -> writeTranslatedOutput(
+                sourceFile,
+                rows,
+                translatedRows,
+                reused,
+                outputDirectory,
+                targetLanguage,
+                translationMode,
+                applyOpenAiPostProcessing(postProcessWithOpenAi),
+                pipelineResult
+        ));
+    }
 
-        if (translatedTexts.size() != rows.size()) {
-            throw new IllegalStateException("Google Translate returned an unexpected number of translated strings");
+    /**
+     * Translates the same rows into several target languages. The rows are
+     * preprocessed once; languages then run concurrently,
+     * bounded by myapp.translation.maxConcurrentLanguages across all requests.
+     */
+    public List<TranslationExportResult> translateAndStoreToDirectories(
+            String sourcePath,
+            String outputPath,
+            String fileName,
+            List<String> targetLanguages,
+            List<TranslationRow> rows,
+            String translationMode,
+            Boolean postProcessWithOpenAi,
+            String translationRequestId
+    ) throws Exception {
+        if (rows == null || rows.isEmpty()) {
+            throw new IllegalArgumentException("No rows provided for translation");
+        }
+        List<String> languages = targetLanguages == null ? List.of() : targetLanguages.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(language -> !language.isEmpty())
+                .distinct()
+                .toList();
+        if (languages.isEmpty()) {
+            throw new IllegalArgumentException("targetLanguages is required");
+        }
+        throwIfTranslationCancelled(translationRequestId);
+
+        String sourceLanguage = resolveSourceLanguage(fileName, rows);
+        Path sourceFile = resolveJsonFile(sourcePath, fileName);
+        Path outputDirectory = resolveDataDir(outputPath);
+        PreparedSource preparedSource = prepareSource(sourcePath, rows);
+
+        List<TranslationExportResult> results = new ArrayList<>(Collections.nCopies(languages.size(), null));
+        List<Future<TranslationExportResult>> futures = new ArrayList<>(languages.size());
+        try {
+            for (String targetLanguage : languages) {
+                futures.add(translationExecutor.submit(() -> {
+                    acquireLanguageSlot(translationRequestId);
+                    try {
+                        long startedAt = System.nanoTime();
+                        TranslationPipelineResult pipelineResult = translatePreparedSource(
+                                preparedSource,
+                                sourceLanguage,
+                                targetLanguage,
+                                translationMode,
+                                postProcessWithOpenAi,
+                                translationRequestId
+                        );
+                        TranslationExportResult result = translationMetrics.stage("write", () -> writeTranslatedOutput(
+                                sourceFile, rows, rows, Map.of(), outputDirectory, targetLanguage, translationMode,
+                                applyOpenAiPostProcessing(postProcessWithOpenAi), pipelineResult));
+                        log.info("Target language {} finished rows={}, durationMs={}",
+                                targetLanguage, rows.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                        return result;
+                    } finally {
+                        languageSlots.release();
+                    }
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                results.set(i, awaitFuture(futures.get(i), translationRequestId));
+            }
+            return results;
+        } finally {
+            cancelUnfinished(futures);
+        }
+    }
+
+    private void acquireLanguageSlot(String translationRequestId) throws InterruptedException {
+        while (!languageSlots.tryAcquire(200, TimeUnit.MILLISECONDS)) {
+            throwIfTranslationCancelled(translationRequestId);
         }
+    }
+
+    /**
+     * Waits for a task on the shared translation executor, polling so a cancellation of the
+     * request is noticed while sibling tasks are still running. Task failures are rethrown as-is.
+     */
+    private <T> T awaitFuture(Future<T> future, String translationRequestId) {
+        try {
+            while (true) {
+                throwIfTranslationCancelled(translationRequestId);
+                try {
+                    return future.get(200, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException ignored) {
+                    // keep polling
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Translation was interrupted");
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Translation task failed", cause);
+        }
+    }
+
+    private static void cancelUnfinished(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
 
-        Map<String, String> translatedByFullKey = new LinkedHashMap<>();
+    private TranslationExportResult writeTranslatedOutput(
+            Path sourceFile,
+            List<TranslationRow> rows,
+            List<TranslationRow> translatedRows,
+            Map<String, String> reusedTranslations,
+            Path outputDirectory,
+            String targetLanguage,
+            String translationMode,
+            boolean applyOpenAi,
+            TranslationPipelineResult pipelineResult
+    ) throws Exception {
+        List<String> translatedTexts = pipelineResult.translatedTexts();
+        if (translatedTexts.size() != translatedRows.size()) {
+            throw new IllegalStateException("Google Translate returned an unexpected number of translated strings");
+        }
+        // Values line up with rows; translatedRows is rows minus the reused ones, in the same order.
+        String[] translatedValues = new String[rows.size()];
+        Map<String, Map<String, Integer>> positionsBySection = new HashMap<>();
+        int nextTranslated = 0;
         for (int i = 0; i < rows.size(); i++) {
             TranslationRow row = rows.get(i);
-            translatedByFullKey.put(row.getSection() + "." + row.getKey(), translatedTexts.get(i));
+            String reused = reusedTranslations.get(row.getSection() + "." + row.getKey());
+            translatedValues[i] = reused != null ? reused : translatedTexts.get(nextTranslated++);
+            positionsBySection.computeIfAbsent(row.getSection(), ignored -> new HashMap<>()).put(row.getKey(), i);
         }
 
-        Path sourceFile = resolveJsonFile(sourcePath, fileName);
-        Path outputDirectory = resolveDataDir(outputPath);
         Path outputFile = resolveGeneratedJsonFile(outputDirectory, targetLanguage);
-        Object sourcePayload = mapper.readValue(sourceFile.toFile(), Object.class);
-        Object translatedPayload = rebuildTranslatedPayload(sourcePayload, translatedByFullKey);
-        mapper.writerWithDefaultPrettyPrinter().writeValue(outputFile.toFile(), translatedPayload);
+        localeJsonWriter.write(sourceFile, outputFile, (section, key) -> {
+            Integer position = positionsBySection.getOrDefault(section, Map.of()).get(key);
+            return position == null ? null : translatedValues[position];
+        });
         writeValidationReport(outputFile, pipelineResult.validationReport());
+        writeSourceManifest(outputDirectory, outputFile, targetLanguage, translationMode, applyOpenAi, rows,
+                pipelineResult.untranslatedKeys());
+
+        return new TranslationExportResult(outputFile.toAbsolutePath().toString(), targetLanguage, rows.size());
+    }
+
+    private Map<String, String> reusablePreviousTranslations(
+            Path outputDirectory,
+            String targetLanguage,
+            String translationMode,
+            boolean applyOpenAi,
+            List<TranslationRow> rows
+    ) {
+        Path manifestFile = outputDirectory.resolve(targetLanguage + SOURCE_MANIFEST_SUFFIX).normalize();
+        if (!Files.exists(manifestFile)) {
+            log.info("No source manifest for target={} in {}; translating all rows", targetLanguage, outputDirectory);
+            return Map.of();
+        }
+        try {
+            Map<?, ?> manifest = mapper.readValue(manifestFile.toFile(), Map.class);
+            if (!Objects.equals(normalizeManifestMode(translationMode), manifest.get("translationMode"))) {
+                log.info("Translation mode changed since the last run for target={}; translating all rows", targetLanguage);
+                return Map.of();
+            }
+            if (!Objects.equals(applyOpenAi, manifest.get("postProcessWithOpenAi"))) {
+                log.info("OpenAI post-processing changed since the last run for target={}; translating all rows", targetLanguage);
+                return Map.of();
+            }
+            Object outputFileName = manifest.get("outputFile");
+            Path previousOutput = outputFileName == null ? null : outputDirectory.resolve(outputFileName.toString()).normalize();
+            if (previousOutput == null || !previousOutput.startsWith(outputDirectory) || !Files.exists(previousOutput)) {
+                log.info("Previous output {} for target={} is missing; translating all rows", outputFileName, targetLanguage);
+                return Map.of();
+            }
+            Map<?, ?> sourceHashes = manifest.get("sourceHashes") instanceof Map<?, ?> hashes ? hashes : Map.of();
+            Object previousPayload = mapper.readValue(previousOutput.toFile(), Object.class);
+            Map<?, ?> previousSections = previousPayload instanceof Map<?, ?> sections ? sections : Map.of();
+
+            Map<String, String> reused = new LinkedHashMap<>();
+            for (TranslationRow row : rows) {
+                String fullKey = row.getSection() + "." + row.getKey();
+                if (!sourceTextHash(row.getText()).equals(sourceHashes.get(fullKey))) {
+                    continue;
+                }
+                if (previousSections.get(row.getSection()) instanceof Map<?, ?> section
+                        && section.get(row.getKey()) instanceof String previousTranslation) {
+                    reused.put(fullKey, previousTranslation);
+                }
+            }
+            return reused;
+        } catch (Exception ex) {
+            log.warn("Ignoring unreadable source manifest {}: {}", manifestFile, ex.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void writeSourceManifest(
+            Path outputDirectory,
+            Path outputFile,
+            String targetLanguage,
+            String translationMode,
+            boolean applyOpenAi,
+            List<TranslationRow> rows,
+            Set<String> untranslatedKeys
+    ) throws Exception {
+        Map<String, String> sourceHashes = new TreeMap<>();
+        for (TranslationRow row : rows) {
+            String fullKey = row.getSection() + "." + row.getKey();
+            if (!untranslatedKeys.contains(fullKey)) {
+                sourceHashes.put(fullKey, sourceTextHash(row.getText()));
+            }
+        }
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("outputFile", outputFile.getFileName().toString());
+        manifest.put("targetLanguage", targetLanguage);
+        manifest.put("translationMode", normalizeManifestMode(translationMode));
+        manifest.put("postProcessWithOpenAi", applyOpenAi);
+        manifest.put("generatedAt", Instant.now().toString());
+        manifest.put("sourceHashes", sourceHashes);
+        Path manifestFile = outputDirectory.resolve(targetLanguage + SOURCE_MANIFEST_SUFFIX).normalize();
+        Path tempFile = manifestFile.resolveSibling(manifestFile.getFileName() + ".tmp");
+        mapper.writerWithDefaultPrettyPrinter().writeValue(tempFile.toFile(), manifest);
+        Files.move(tempFile, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private boolean applyOpenAiPostProcessing(Boolean postProcessWithOpenAi) {
+        return postProcessWithOpenAi != null ? postProcessWithOpenAi : openAiPostProcessingEnabled;
+    }
+
+    private String normalizeManifestMode(String translationMode) {
+        return translationMode == null || translationMode.isBlank() ? "adaptive" : translationMode.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private String sourceTextHash(String sourceText) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(Objects.requireNonNullElse(sourceText, "").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
 
-        return new TranslationExportResult(outputFile.toAbsolutePath().toString(), targetLanguage, translatedTexts.size());
+    private String checkpointFingerprint(
+            PreparedSource preparedSource,
+            String sourceLanguage,
+            String targetLanguage,
+            String translationMode,
+            Boolean postProcessWithOpenAi
+    ) {
+        boolean applyOpenAi = applyOpenAiPostProcessing(postProcessWithOpenAi);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((sourceLanguage + "|" + targetLanguage + "|" + normalizeManifestMode(translationMode) + "|" + applyOpenAi)
+                    .getBytes(StandardCharsets.UTF_8));
+            for (PreparedTranslationItem item : preparedSource.protectedItems()) {
+                digest.update((byte) 0);
+                digest.update(item.item().fullKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(item.protectedText().getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
     }
 
     private Path resolveGeneratedJsonFile(Path outputDirectory, String targetLanguage) {
@@ -451,48 +857,65 @@ public class TranslationService {
         cancelledTranslationRequests.remove(translationRequestId.trim());
     }
 
-    private void throwIfTranslationCancelled(String translationRequestId) {
-        if (isTranslationCancellationRequested(translationRequestId)) {
-            throw new CancellationException("Translation request was cancelled by user");
+    public void registerProgressListener(String translationRequestId, TranslationProgressListener listener) {
+        if (translationRequestId == null || translationRequestId.isBlank()) {
+            throw new IllegalArgumentException("translationRequestId is required to track progress");
         }
+        progressListeners.put(translationRequestId.trim(), listener);
     }
 
-    private boolean isTranslationCancellationRequested(String translationRequestId) {
+    public void removeProgressListener(String translationRequestId) {
         if (translationRequestId == null || translationRequestId.isBlank()) {
-            return false;
+            return;
         }
-        return cancelledTranslationRequests.contains(translationRequestId.trim());
+        progressListeners.remove(translationRequestId.trim());
     }
 
-    private Object rebuildTranslatedPayload(Object sourcePayload, Map<String, String> translatedByFullKey) {
-        if (!(sourcePayload instanceof Map<?, ?> sourceTopLevel)) {
-            throw new IllegalArgumentException("Invalid source JSON format: expected object at root");
+    private TranslationProgressListener progressListener(String translationRequestId) {
+        if (translationRequestId == null || translationRequestId.isBlank()) {
+            return TranslationProgressListener.NONE;
         }
+        return progressListeners.getOrDefault(translationRequestId.trim(), TranslationProgressListener.NONE);
+    }
 
-        Map<String, Object> rebuilt = new LinkedHashMap<>();
-        for (Map.Entry<?, ?> prefixEntry : sourceTopLevel.entrySet()) {
-            String prefix = String.valueOf(prefixEntry.getKey());
-            Object prefixValue = prefixEntry.getValue();
-            if (!(prefixValue instanceof Map<?, ?> nestedMap)) {
-                continue;
-            }
+    public boolean hasTranslationCheckpoint(String translationRequestId) {
+        return checkpointStore.hasCheckpoint(translationRequestId);
+    }
 
-            Map<String, Object> rebuiltNested = new LinkedHashMap<>();
-            for (Map.Entry<?, ?> nestedEntry : nestedMap.entrySet()) {
-                String key = String.valueOf(nestedEntry.getKey());
-                Object value = nestedEntry.getValue();
-                if (value instanceof String) {
-                    String fullKey = prefix + "." + key;
-                    if (translatedByFullKey.containsKey(fullKey)) {
-                        rebuiltNested.put(key, translatedByFullKey.get(fullKey));
-                    }
-                }
-            }
-            if (!rebuiltNested.isEmpty()) {
-                rebuilt.put(prefix, rebuiltNested);
-            }
+    public Map<String, Long> translationCheckpoints(String translationRequestId) {
+        return checkpointStore.journals(translationRequestId);
+    }
+
+    private TranslationCheckpointStore.Checkpoint checkpoint(String translationRequestId, String targetLanguage) {
+        if (translationRequestId == null || translationRequestId.isBlank()) {
+            return TranslationCheckpointStore.Checkpoint.NONE;
+        }
+        return activeCheckpoints.getOrDefault(
+                checkpointKey(translationRequestId, targetLanguage),
+                TranslationCheckpointStore.Checkpoint.NONE
+        );
+    }
+
+    private static String checkpointKey(String translationRequestId, String targetLanguage) {
+        // The Google route sees the normalized code, so "pt_BR" and "pt-br" must share one checkpoint.
+        return (translationRequestId == null ? "" : translationRequestId.trim()) + "|" + normalizeGoogleLanguageCode(targetLanguage);
+    }
+
+    private static String checkpointScope(TranslationMemory.Scope scope) {
+        return scope.route() + "|" + scope.model() + "|" + scope.resource();
+    }
+
+    private void throwIfTranslationCancelled(String translationRequestId) {
+        if (isTranslationCancellationRequested(translationRequestId)) {
+            throw new CancellationException("Translation request was cancelled by user");
+        }
+    }
+
+    private boolean isTranslationCancellationRequested(String translationRequestId) {
+        if (translationRequestId == null || translationRequestId.isBlank()) {
+            return false;
         }
-        return rebuilt;
+        return cancelledTranslationRequests.contains(translationRequestId.trim());
     }
 
     public TranslationExportResult translateAndImport(
@@ -553,59 +976,49 @@ public class TranslationService {
         }
 
         mapper.writerWithDefaultPrettyPrinter().writeValue(outputFile.toFile(), selectedPayload);
+        localeFileCache.invalidate(outputFile);
         writeValidationReport(outputFile, pipelineResult.validationReport());
         return new TranslationExportResult(outputFile.getFileName().toString(), targetLanguage, translatedTexts.size());
     }
 
     public TranslationCompareResult compareFiles(String customPath, String fileName1, String fileName2) throws Exception {
-        Path file1 = resolveJsonFile(customPath, fileName1);
-        Path file2 = resolveJsonFile(customPath, fileName2);
-
-        Map<String, String> flattenedFile1 = flattenForCompare(readSectionMap(file1));
-        Map<String, String> flattenedFile2 = flattenForCompare(readSectionMap(file2));
-
-        TreeSet<String> allKeyPaths = new TreeSet<>();
-        allKeyPaths.addAll(flattenedFile1.keySet());
-        allKeyPaths.addAll(flattenedFile2.keySet());
-
-        List<TranslationCompareDifference> differences = new ArrayList<>();
-        for (String keyPath : allKeyPaths) {
-            String valueInFile1 = flattenedFile1.get(keyPath);
-            String valueInFile2 = flattenedFile2.get(keyPath);
-
-            if (Objects.equals(valueInFile1, valueInFile2)) {
-                continue;
-            }
-
-            String status;
-            if (valueInFile1 == null) {
-                status = "Missing in file 1";
-            } else if (valueInFile2 == null) {
-                status = "Missing in file 2";
-            } else {
-                status = "Different values";
-            }
-
-            differences.add(new TranslationCompareDifference(
-                    keyPath,
-                    Objects.requireNonNullElse(valueInFile1, ""),
-                    Objects.requireNonNullElse(valueInFile2, ""),
-                    status
-            ));
-        }
+        LocaleCompareIndex index = compareIndex(customPath, fileName1, fileName2);
+        return new TranslationCompareResult(fileName1, fileName2, index.page(null, null, Integer.MAX_VALUE).differences());
+    }
 
-        return new TranslationCompareResult(fileName1, fileName2, differences);
+    public TranslationComparePage compareFilesPage(
+            String customPath,
+            String fileName1,
+            String fileName2,
+            String status,
+            String cursor,
+            Integer limit
+    ) throws Exception {
+        String statusFilter = LocaleCompareIndex.normalizeStatus(status);
+        int pageSize = limit == null ? DEFAULT_COMPARE_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_COMPARE_PAGE_SIZE));
+        LocaleCompareIndex index = compareIndex(customPath, fileName1, fileName2);
+        LocaleCompareIndex.Page page = index.page(cursor, statusFilter, pageSize);
+        return new TranslationComparePage(
+                fileName1,
+                fileName2,
+                index.totalDifferences(),
+                index.statusCounts(),
+                statusFilter == null ? "ALL" : statusFilter,
+                page.differences(),
+                page.nextCursor()
+        );
     }
 
-    private Map<String, String> flattenForCompare(Map<String, Map<String, String>> sections) {
-        Map<String, String> flattened = new LinkedHashMap<>();
-        for (Map.Entry<String, Map<String, String>> sectionEntry : sections.entrySet()) {
-            String section = sectionEntry.getKey();
-            for (Map.Entry<String, String> keyEntry : sectionEntry.getValue().entrySet()) {
-                flattened.put(section + "." + keyEntry.getKey(), keyEntry.getValue());
-            }
+    private LocaleCompareIndex compareIndex(String customPath, String fileName1, String fileName2) throws Exception {
+        Map<String, Map<String, String>> sections1 = readSectionMap(resolveJsonFile(customPath, fileName1));
+        Map<String, Map<String, String>> sections2 = readSectionMap(resolveJsonFile(customPath, fileName2));
+        // Paging through one comparison reuses its index while the locale cache returns the same maps.
+        LocaleCompareIndex index = lastCompareIndex;
+        if (index == null || !index.isFor(sections1, sections2)) {
+            index = new LocaleCompareIndex(sections1, sections2);
+            lastCompareIndex = index;
         }
-        return flattened;
+        return index;
     }
 
     public Path saveRows(String customPath, String fileName, List<TranslationRow> rows) throws Exception {
@@ -638,6 +1051,7 @@ public class TranslationService {
         Map<String, Map<String, String>> existingPayload = readSectionMap(outputFile);
         Map<String, Map<String, String>> payload = mergeWithExistingOrder(existingPayload, incomingPayload);
         mapper.writerWithDefaultPrettyPrinter().writeValue(outputFile.toFile(), payload);
+        localeFileCache.invalidate(outputFile);
         return outputFile;
     }
 
@@ -677,6 +1091,14 @@ public class TranslationService {
         return merged;
     }
 
+    public List<TranslationFailureRegistry.IsolatedFailure> isolatedTranslationFailures() {
+        return translationFailureRegistry.report();
+    }
+
+    public int clearIsolatedTranslationFailures() {
+        return translationFailureRegistry.clear();
+    }
+
     public List<SupportedLanguage> getSupportedLanguages() {
         return getSupportedLanguages(null);
     }
@@ -705,7 +1127,7 @@ public class TranslationService {
     private List<SupportedLanguage> getSupportedLanguages(String model) {
         requireGoogleProjectId();
         UriComponentsBuilder uriBuilder = UriComponentsBuilder
-                .fromHttpUrl("https://translation.googleapis.com/v3/projects/" + googleProjectId + "/locations/" + googleLocation + "/supportedLanguages")
+                .fromHttpUrl(googleApiBaseUrl + "/projects/" + googleProjectId + "/locations/" + googleLocation + "/supportedLanguages")
                 .queryParam("displayLanguageCode", supportedLanguagesDisplayLocale);
         if (model != null && !model.isBlank()) {
             uriBuilder.queryParam("model", model);
@@ -749,14 +1171,73 @@ public class TranslationService {
             String translationRequestId
     ) {
         throwIfTranslationCancelled(translationRequestId);
+        return translatePreparedSource(
+                prepareSource(customPath, rows),
+                sourceLanguage,
+                targetLanguage,
+                translationMode,
+                postProcessWithOpenAi,
+                translationRequestId
+        );
+    }
+
+    private PreparedSource prepareSource(String customPath, List<TranslationRow> rows) {
         List<TranslationItem> flattenedItems = flattenRows(rows);
-        Set<String> configuredRiskyTerms = loadConfiguredRiskyTerms(customPath);
-        List<PreparedTranslationItem> preprocessedItems = preprocessItems(flattenedItems, configuredRiskyTerms);
+        RiskyTermsRegistry.RiskyTerms configuredRiskyTerms = resolveConfiguredRiskyTerms(customPath);
+        List<PreparedTranslationItem> preprocessedItems = translationMetrics.stage("preprocess",
+                () -> preprocessItems(flattenedItems, configuredRiskyTerms));
         List<PreparedTranslationItem> protectedItems = placeholderProtectionEnabled
-                ? protectPlaceholders(preprocessedItems)
+                ? translationMetrics.stage("protect", () -> protectPlaceholders(preprocessedItems))
                 : preprocessedItems;
+        return new PreparedSource(protectedItems, configuredRiskyTerms);
+    }
+
+    private TranslationPipelineResult translatePreparedSource(
+            PreparedSource preparedSource,
+            String sourceLanguage,
+            String targetLanguage,
+            String translationMode,
+            Boolean postProcessWithOpenAi,
+            String translationRequestId
+    ) {
         throwIfTranslationCancelled(translationRequestId);
-        List<TranslatedItemResult> translatedItems = sourceLanguage.equalsIgnoreCase(targetLanguage)
+        TranslationCheckpointStore.Checkpoint checkpoint = checkpointStore.open(
+                translationRequestId,
+                normalizeGoogleLanguageCode(targetLanguage),
+                checkpointFingerprint(preparedSource, sourceLanguage, targetLanguage, translationMode, postProcessWithOpenAi)
+        );
+        String checkpointKey = checkpointKey(translationRequestId, targetLanguage);
+        if (checkpoint != TranslationCheckpointStore.Checkpoint.NONE) {
+            activeCheckpoints.put(checkpointKey, checkpoint);
+        }
+        try {
+            TranslationPipelineResult result = translatePreparedSourceWithCheckpoint(
+                    preparedSource,
+                    sourceLanguage,
+                    targetLanguage,
+                    translationMode,
+                    postProcessWithOpenAi,
+                    translationRequestId
+            );
+            checkpointStore.complete(checkpoint);
+            return result;
+        } finally {
+            activeCheckpoints.remove(checkpointKey, checkpoint);
+            checkpointStore.release(checkpoint);
+        }
+    }
+
+    private TranslationPipelineResult translatePreparedSourceWithCheckpoint(
+            PreparedSource preparedSource,
+            String sourceLanguage,
+            String targetLanguage,
+            String translationMode,
+            Boolean postProcessWithOpenAi,
+            String translationRequestId
+    ) {
+        List<PreparedTranslationItem> protectedItems = preparedSource.protectedItems();
+        RiskyTermsRegistry.RiskyTerms configuredRiskyTerms = preparedSource.configuredRiskyTerms();
+        List<TranslatedItemResult> translatedItems = translationMetrics.stage("translate", () -> sourceLanguage.equalsIgnoreCase(targetLanguage)
                 ? protectedItems.stream()
                 .map(item -> new TranslatedItemResult(
                         item.item().index(),
@@ -767,7 +1248,7 @@ public class TranslationService {
                         item.metadata().riskReason()
                 ))
                 .toList()
-                : translateByMode(sourceLanguage, targetLanguage, protectedItems, translationMode, translationRequestId);
+                : translateUniqueProtectedTexts(sourceLanguage, targetLanguage, protectedItems, translationMode, translationRequestId));
         List<String> translatedProtectedTexts = translatedItems.stream()
                 .sorted(Comparator.comparingInt(TranslatedItemResult::index))
                 .map(TranslatedItemResult::translatedText)
@@ -778,26 +1259,78 @@ public class TranslationService {
         }
 
         List<String> restoredTexts = placeholderProtectionEnabled
-                ? restorePlaceholders(protectedItems, translatedProtectedTexts)
+                ? translationMetrics.stage("restore", () -> restorePlaceholders(protectedItems, translatedProtectedTexts))
                 : translatedProtectedTexts;
-        boolean applyOpenAi = postProcessWithOpenAi != null ? postProcessWithOpenAi : openAiPostProcessingEnabled;
+        boolean applyOpenAi = applyOpenAiPostProcessing(postProcessWithOpenAi);
         List<String> reviewedTexts = applyOpenAi
-                ? applyOpenAiReview(sourceLanguage, targetLanguage, protectedItems, restoredTexts, translationRequestId)
+                ? translationMetrics.stage("review",
+                () -> applyOpenAiReview(sourceLanguage, targetLanguage, protectedItems, restoredTexts, translationRequestId))
                 : restoredTexts;
         ValidationReport validationReport = validationEnabled
-                ? validateResults(
+                ? translationMetrics.stage("validate", () -> validateResults(
                 protectedItems,
                 translatedItems,
                 reviewedTexts,
                 sourceLanguage,
                 targetLanguage,
                 configuredRiskyTerms
-        )
-                : createValidationSkippedReport(protectedItems, translatedItems, reviewedTexts);
-        return new TranslationPipelineResult(reviewedTexts, validationReport);
+        ))
+                : createValidationSkippedReport(protectedItems, translatedItems, reviewedTexts, configuredRiskyTerms);
+        // Rows the upstream refused keep their source text; leaving them out of the manifest makes the next delta run retry them.
+        Set<String> untranslatedKeys = translatedItems.stream()
+                .filter(item -> ISOLATED_UPSTREAM_FAILURE.equals(item.route()))
+                .map(TranslatedItemResult::fullKey)
+                .collect(Collectors.toSet());
+        return new TranslationPipelineResult(reviewedTexts, validationReport, untranslatedKeys);
     }
 
 
+    private List<TranslatedItemResult> translateUniqueProtectedTexts(
+            String sourceLanguage,
+            String targetLanguage,
+            List<PreparedTranslationItem> items,
+            String translationMode,
+            String translationRequestId
+    ) {
+        // A risky occurrence wins so the shared translation takes the adaptive route when one is available.
+        Map<String, PreparedTranslationItem> representativesByProtectedText = new LinkedHashMap<>();
+        for (PreparedTranslationItem item : items) {
+            representativesByProtectedText.merge(
+                    item.protectedText(),
+                    item,
+                    (current, candidate) -> !current.metadata().risky() && candidate.metadata().risky() ? candidate : current
+            );
+        }
+        if (representativesByProtectedText.size() == items.size()) {
+            return translateByMode(sourceLanguage, targetLanguage, items, translationMode, translationRequestId);
+        }
+
+        List<PreparedTranslationItem> representatives = new ArrayList<>(representativesByProtectedText.values());
+        log.info("Collapsed {} rows into {} unique protected texts before translation", items.size(), representatives.size());
+        Map<Integer, TranslatedItemResult> translatedByRepresentativeIndex = new LinkedHashMap<>();
+        for (TranslatedItemResult result : translateByMode(sourceLanguage, targetLanguage, representatives, translationMode, translationRequestId)) {
+            translatedByRepresentativeIndex.put(result.index(), result);
+        }
+
+        List<TranslatedItemResult> translatedItems = new ArrayList<>(items.size());
+        for (PreparedTranslationItem item : items) {
+            PreparedTranslationItem representative = representativesByProtectedText.get(item.protectedText());
+            TranslatedItemResult shared = translatedByRepresentativeIndex.get(representative.item().index());
+            if (shared == null) {
+                throw new IllegalStateException("Missing translation for deduplicated item " + item.item().fullKey());
+            }
+            translatedItems.add(new TranslatedItemResult(
+                    item.item().index(),
+                    item.item().fullKey(),
+                    shared.translatedText(),
+                    shared.route(),
+                    item.metadata().risky(),
+                    item.metadata().riskReason()
+            ));
+        }
+        return translatedItems;
+    }
+
     private List<String> applyOpenAiReview(
             String sourceLanguage,
             String targetLanguage,
@@ -806,9 +1339,31 @@ public class TranslationService {
             String translationRequestId
     ) {
         throwIfTranslationCancelled(translationRequestId);
-        List<TranslationReviewItem> reviewItems = new ArrayList<>(items.size());
+        TranslationCheckpointStore.Checkpoint checkpoint = checkpoint(translationRequestId, targetLanguage);
+        // Rows with the same source and translation are reviewed once and share the result, so
+        // duplicates cannot come back from OpenAI with different wording.
+        Map<String, Integer> representativeByText = new LinkedHashMap<>();
         for (int i = 0; i < items.size(); i++) {
+            int position = i;
+            representativeByText.merge(
+                    reviewGroupKey(items.get(i), translatedTexts.get(i)),
+                    i,
+                    (current, candidate) -> !items.get(current).metadata().risky() && items.get(position).metadata().risky()
+                            ? candidate
+                            : current
+            );
+        }
+        Map<String, String> byKey = new LinkedHashMap<>();
+        Map<String, String> sentTranslationsByKey = new HashMap<>();
+        List<TranslationReviewItem> reviewItems = new ArrayList<>(representativeByText.size());
+        for (int i : representativeByText.values()) {
             PreparedTranslationItem item = items.get(i);
+            String checkpointed = checkpoint.reviewedText(item.item().fullKey(), translatedTexts.get(i));
+            if (checkpointed != null) {
+                byKey.put(item.item().fullKey(), checkpointed);
+                continue;
+            }
+            sentTranslationsByKey.put(item.item().fullKey(), translatedTexts.get(i));
             TranslationReviewItem reviewItem = new TranslationReviewItem();
             reviewItem.setKey(item.item().fullKey());
             reviewItem.setSourceText(item.normalizedText());
@@ -816,28 +1371,53 @@ public class TranslationService {
             reviewItem.setContext(item.metadata().riskReason());
             reviewItems.add(reviewItem);
         }
-        TranslationReviewResponse response = openAiTranslationReviewService.reviewTranslations(
+        if (representativeByText.size() < items.size()) {
+            log.info("Collapsed {} rows into {} unique translations before OpenAI review", items.size(), representativeByText.size());
+        }
+        if (!byKey.isEmpty()) {
+            log.info("Reusing {} checkpointed OpenAI reviews for target={}, sending {}", byKey.size(), targetLanguage, reviewItems.size());
+        }
+        TranslationReviewResponse response = reviewItems.isEmpty()
+                ? new TranslationReviewResponse()
+                : openAiTranslationReviewService.reviewTranslations(
                 sourceLanguage,
                 targetLanguage,
                 "CRM and self-service product UI translation",
                 reviewItems,
-                () -> isTranslationCancellationRequested(translationRequestId)
+                translationRequestId,
+                () -> isTranslationCancellationRequested(translationRequestId),
+                reviewedBatch -> {
+                    Map<String, TranslationCheckpointStore.ReviewEntry> reviews = new LinkedHashMap<>();
+                    for (ReviewedTranslationItem reviewed : reviewedBatch) {
+                        String sent = sentTranslationsByKey.get(reviewed.getKey());
+                        if (sent != null && reviewed.getFinalText() != null) {
+                            reviews.put(reviewed.getKey(), new TranslationCheckpointStore.ReviewEntry(sent, reviewed.getFinalText()));
+                        }
+                    }
+                    checkpoint.recordReviewBatch(reviews);
+                }
         );
         throwIfTranslationCancelled(translationRequestId);
-        Map<String, String> byKey = new LinkedHashMap<>();
         if (response.getItems() != null) {
             response.getItems().forEach(it -> byKey.put(it.getKey(), it.getFinalText()));
         }
         List<String> reviewed = new ArrayList<>(items.size());
-        for (PreparedTranslationItem item : items) {
-            reviewed.add(byKey.getOrDefault(item.item().fullKey(), translatedTexts.get(item.item().index())));
+        for (int i = 0; i < items.size(); i++) {
+            int representative = representativeByText.get(reviewGroupKey(items.get(i), translatedTexts.get(i)));
+            reviewed.add(byKey.getOrDefault(items.get(representative).item().fullKey(), translatedTexts.get(representative)));
         }
         return reviewed;
     }
+
+    private static String reviewGroupKey(PreparedTranslationItem item, String translatedText) {
+        return item.normalizedText() + '\u0000' + translatedText;
+    }
+
     private ValidationReport createValidationSkippedReport(
             List<PreparedTranslationItem> items,
             List<TranslatedItemResult> translatedItems,
-            List<String> restoredTexts
+            List<String> restoredTexts,
+            RiskyTermsRegistry.RiskyTerms configuredRiskyTerms
     ) {
         List<PreprocessingReportItem> preprocessingItems = new ArrayList<>(items.size());
         List<ValidationReportRow> rows = new ArrayList<>(items.size());
@@ -884,7 +1464,8 @@ public class TranslationService {
                         0,
                         Map.of(),
                         countsByPrefix,
-                        0
+                        0,
+                        configuredRiskyTerms.version()
                 )
         );
     }
@@ -900,7 +1481,8 @@ public class TranslationService {
         return items;
     }
 
-    private List<PreparedTranslationItem> preprocessItems(List<TranslationItem> items, Set<String> configuredRiskyTerms) {
+    private List<PreparedTranslationItem> preprocessItems(List<TranslationItem> items, RiskyTermsRegistry.RiskyTerms configuredRiskyTerms) {
+        TermMatcher riskyTermMatcher = configuredRiskyTerms.matcher();
         return items.stream()
                 .map(item -> {
                     String normalizedText = item.sourceText().replace("\r\n", "\n");
@@ -908,8 +1490,9 @@ public class TranslationService {
                     int wordCount = countWords(normalizedText);
                     boolean isShortText = wordCount <= 3;
                     boolean isRiskyPrefix = isShortText && UI_FOCUSED_PREFIXES.contains(normalizePrefix(item.prefix()));
-                    boolean hasAmbiguousTerm = containsAmbiguousTerm(normalizedText);
-                    boolean hasConfiguredRiskyTerm = containsConfiguredRiskyTerm(normalizedText, configuredRiskyTerms);
+                    String termCheckText = normalizeForTermCheck(normalizedText);
+                    boolean hasAmbiguousTerm = AMBIGUOUS_TERM_MATCHER.containsAny(termCheckText);
+                    boolean hasConfiguredRiskyTerm = riskyTermMatcher.containsAny(termCheckText);
                     boolean risky = isRiskyPrefix || hasAmbiguousTerm || hasConfiguredRiskyTerm;
                     String riskReason = buildRiskReason(isRiskyPrefix, hasAmbiguousTerm, hasConfiguredRiskyTerm);
 
@@ -928,25 +1511,46 @@ public class TranslationService {
 
     private List<PreparedTranslationItem> protectPlaceholders(List<PreparedTranslationItem> items) {
         List<PreparedTranslationItem> result = new ArrayList<>(items.size());
+        StringBuilder protectedBuffer = new StringBuilder();
+        StringBuilder tokenBuffer = new StringBuilder();
         for (PreparedTranslationItem item : items) {
-            Matcher matcher = PLACEHOLDER_PATTERN.matcher(item.normalizedText());
-            Map<String, String> placeholderMap = new LinkedHashMap<>();
-            Map<String, String> placeholderToToken = new LinkedHashMap<>();
-            StringBuffer protectedBuffer = new StringBuffer();
-            while (matcher.find()) {
-                String placeholder = matcher.group();
-                String token = placeholderToToken.computeIfAbsent(
-                        placeholder,
-                        key -> buildProtectedPlaceholderToken(key, item.normalizedText(), placeholderMap.keySet())
-                );
-                placeholderMap.putIfAbsent(token, placeholder);
-                matcher.appendReplacement(protectedBuffer, Matcher.quoteReplacement(token));
+            String text = item.normalizedText();
+            Map<String, String> placeholderMap = Map.of();
+            Map<String, String> placeholderToToken = null;
+            int copiedUpTo = 0;
+            if (PlaceholderScanner.mayContainPlaceholder(text)) {
+                protectedBuffer.setLength(0);
+                int position = 0;
+                while (position < text.length()) {
+                    int end = PlaceholderScanner.placeholderEnd(text, position);
+                    if (end < 0) {
+                        position++;
+                        continue;
+                    }
+                    if (placeholderToToken == null) {
+                        placeholderMap = new LinkedHashMap<>();
+                        placeholderToToken = new HashMap<>();
+                    }
+                    String placeholder = text.substring(position, end);
+                    String token = placeholderToToken.get(placeholder);
+                    if (token == null) {
+                        token = buildProtectedPlaceholderToken(placeholder, text, placeholderMap.keySet(), tokenBuffer);
+                        placeholderToToken.put(placeholder, token);
+                        placeholderMap.put(token, placeholder);
+                    }
+                    protectedBuffer.append(text, copiedUpTo, position).append(token);
+                    copiedUpTo = end;
+                    position = end;
+                }
+            }
+            String protectedText = text;
+            if (copiedUpTo > 0) {
+                protectedText = protectedBuffer.append(text, copiedUpTo, text.length()).toString();
             }
-            matcher.appendTail(protectedBuffer);
             result.add(new PreparedTranslationItem(
                     item.item(),
-                    item.normalizedText(),
-                    protectedBuffer.toString(),
+                    text,
+                    protectedText,
                     placeholderMap,
                     item.metadata()
             ));
@@ -964,43 +1568,274 @@ public class TranslationService {
     ) {
         requireGoogleProjectId();
         boolean useAdaptiveDataset = adaptiveDataset != null && !adaptiveDataset.isBlank();
-        String endpoint = "https://translation.googleapis.com/v3/projects/" + googleProjectId
+        String endpoint = googleApiBaseUrl + "/projects/" + googleProjectId
                 + "/locations/" + googleLocation + (useAdaptiveDataset ? ":adaptiveMtTranslate" : ":translateText");
         String url = UriComponentsBuilder.fromHttpUrl(endpoint).toUriString();
 
-        List<String> allTranslations = new ArrayList<>(items.size());
-        for (int start = 0; start < items.size(); start += googleBatchSize) {
-            throwIfTranslationCancelled(translationRequestId);
-            int end = Math.min(start + googleBatchSize, items.size());
-            List<PreparedTranslationItem> batchItems = items.subList(start, end);
-            List<Integer> translatableIndexes = new ArrayList<>(batchItems.size());
-            List<String> contents = new ArrayList<>(batchItems.size());
-            List<String> batchTranslations = new ArrayList<>(Collections.nCopies(batchItems.size(), null));
-            for (int i = 0; i < batchItems.size(); i++) {
-                String protectedText = batchItems.get(i).protectedText();
-                if (protectedText == null || protectedText.isBlank()) {
-                    batchTranslations.set(i, Objects.requireNonNullElse(protectedText, ""));
-                    continue;
+        String routeUsed = googleRouteName(useAdaptiveDataset, useAdvancedLlm);
+        GoogleGlossaryConfig glossaryConfig = useAdvancedLlm && !useAdaptiveDataset
+                ? resolveGlossaryConfig(sourceLanguage, targetLanguage)
+                : null;
+        TranslationMemory.Scope memoryScope = new TranslationMemory.Scope(
+                sourceLanguage,
+                targetLanguage,
+                routeUsed,
+                useAdvancedLlm ? googleTranslationModel : "default-nmt",
+                useAdaptiveDataset ? adaptiveDataset : glossaryConfig == null ? "" : glossaryConfig.glossary()
+        );
+
+        TranslationCheckpointStore.Checkpoint checkpoint = checkpoint(translationRequestId, targetLanguage);
+        String checkpointScope = checkpointScope(memoryScope);
+        List<String> allTranslations = new ArrayList<>(Collections.nCopies(items.size(), null));
+        List<Integer> pendingIndexes = new ArrayList<>(items.size());
+        int checkpointHits = 0;
+        for (int i = 0; i < items.size(); i++) {
+            String protectedText = items.get(i).protectedText();
+            if (protectedText == null || protectedText.isBlank()) {
+                allTranslations.set(i, Objects.requireNonNullElse(protectedText, ""));
+                continue;
+            }
+            String checkpointed = checkpoint.googleTranslation(checkpointScope, protectedText);
+            if (checkpointed != null) {
+                allTranslations.set(i, checkpointed);
+                checkpointHits++;
+                continue;
+            }
+            String remembered = translationMemory.lookup(memoryScope, protectedText);
+            if (remembered != null) {
+                allTranslations.set(i, remembered);
+            } else {
+                pendingIndexes.add(i);
+            }
+        }
+        if (translationMemory.isEnabled()) {
+            log.info("Translation memory lookup source={}, target={}, route={}, total={}, hits={}, misses={}",
+                    sourceLanguage, targetLanguage, routeUsed, items.size(),
+                    items.size() - pendingIndexes.size(), pendingIndexes.size());
+        }
+        if (checkpointHits > 0) {
+            log.info("Replayed {} checkpointed translations source={}, target={}, route={}, pending={}",
+                    checkpointHits, sourceLanguage, targetLanguage, routeUsed, pendingIndexes.size());
+        }
+        TranslationProgressListener progress = progressListener(translationRequestId);
+        progress.onItemsQueued(routeUsed, items.size());
+        if (pendingIndexes.size() < items.size()) {
+            progress.onItemsCompleted(routeUsed, items.size() - pendingIndexes.size());
+        }
+
+        List<PendingGoogleBatch> batches = packPendingBatches(items, pendingIndexes);
+        List<List<String>> batchTranslations = translateBatchesConcurrently(
+                batches,
+                batch -> translatePendingBatch(
+                        url,
+                        sourceLanguage,
+                        targetLanguage,
+                        adaptiveDataset,
+                        useAdvancedLlm,
+                        memoryScope,
+                        batch,
+                        translationRequestId
+                ),
+                translationRequestId
+        );
+        for (int batchNumber = 0; batchNumber < batches.size(); batchNumber++) {
+            PendingGoogleBatch batch = batches.get(batchNumber);
+            List<String> selectedTranslations = batchTranslations.get(batchNumber);
+            for (int i = 0; i < batch.itemIndexes().size(); i++) {
+                allTranslations.set(batch.itemIndexes().get(i), selectedTranslations.get(i));
+            }
+        }
+        return new GoogleTranslationBatchResult(allTranslations, routeUsed);
+    }
+
+    private String googleRouteName(boolean useAdaptiveDataset, boolean useAdvancedLlm) {
+        return useAdaptiveDataset
+                ? "google-translation-advanced/adaptiveMtTranslate"
+                : useAdvancedLlm
+                ? "google-translation-advanced/translateText/translation-llm"
+                : "google-translation-standard/translateText/nmt";
+    }
+
+    private List<PendingGoogleBatch> packPendingBatches(List<PreparedTranslationItem> items, List<Integer> pendingIndexes) {
+        List<PendingGoogleBatch> batches = new ArrayList<>();
+        int start = 0;
+        while (start < pendingIndexes.size()) {
+            int end = start;
+            long codepoints = 0;
+            while (end < pendingIndexes.size() && end - start < googleBatchSize) {
+                if (googleBatchPacking == BatchPackingMode.CODEPOINTS) {
+                    String text = items.get(pendingIndexes.get(end)).protectedText();
+                    int textCodepoints = text.codePointCount(0, text.length());
+                    // An oversized single text still goes out on its own; the 5xx split path is the fallback.
+                    if (end > start && codepoints + textCodepoints > googleMaxCodepointsPerBatch) {
+                        break;
+                    }
+                    codepoints += textCodepoints;
                 }
-                translatableIndexes.add(i);
-                contents.add(protectedText);
+                end++;
+            }
+            List<Integer> batchIndexes = pendingIndexes.subList(start, end);
+            List<String> contents = new ArrayList<>(batchIndexes.size());
+            for (Integer index : batchIndexes) {
+                contents.add(items.get(index).protectedText());
             }
+            batches.add(new PendingGoogleBatch(start, end, batchIndexes, contents));
+            start = end;
+        }
+        return batches;
+    }
 
-            if (contents.isEmpty()) {
-                allTranslations.addAll(batchTranslations);
-                continue;
+    private List<String> translatePendingBatch(
+            String url,
+            String sourceLanguage,
+            String targetLanguage,
+            String adaptiveDataset,
+            boolean useAdvancedLlm,
+            TranslationMemory.Scope memoryScope,
+            PendingGoogleBatch batch,
+            String translationRequestId
+    ) {
+        throwIfTranslationCancelled(translationRequestId);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(resolveAccessTokenValue());
+        if (translationRequestId != null && !translationRequestId.isBlank()) {
+            headers.set(OutboundApiLoggingInterceptor.TRANSLATION_REQUEST_ID_HEADER, translationRequestId);
+        }
+
+        log.info("Sending translation batch start={}, endExclusive={}, batchSize={}, source={}, target={}, route={}, model={}, glossaryEnabled={}",
+                batch.start(), batch.end(), batch.contents().size(), sourceLanguage, targetLanguage,
+                adaptiveDataset != null && !adaptiveDataset.isBlank() ? "adaptiveMtTranslate" : "translateText",
+                useAdvancedLlm ? googleTranslationModel : "default-nmt",
+                googleGlossaryEnabled);
+
+        long batchStartedAt = System.nanoTime();
+        boolean batchSucceeded = false;
+        List<String> selectedTranslations;
+        try {
+            selectedTranslations = translateContentsWithSplitting(
+                    url,
+                    headers,
+                    sourceLanguage,
+                    targetLanguage,
+                    adaptiveDataset,
+                    useAdvancedLlm,
+                    batch.contents(),
+                    batch.start(),
+                    batch.end(),
+                    translationRequestId
+            );
+            batchSucceeded = true;
+        } finally {
+            translationMetrics.googleBatch(
+                    googleRouteName(adaptiveDataset != null && !adaptiveDataset.isBlank(), useAdvancedLlm),
+                    batch.contents().size(),
+                    System.nanoTime() - batchStartedAt,
+                    batchSucceeded
+            );
+        }
+        if (selectedTranslations.size() != batch.contents().size()) {
+            throw new IllegalStateException("Google Translate returned an unexpected number of translated strings");
+        }
+        Map<String, String> learnedTranslations = new LinkedHashMap<>();
+        for (int i = 0; i < batch.contents().size(); i++) {
+            if (selectedTranslations.get(i) != null) {
+                learnedTranslations.put(batch.contents().get(i), selectedTranslations.get(i));
+            }
+        }
+        translationMemory.storeAll(memoryScope, learnedTranslations);
+        checkpoint(translationRequestId, memoryScope.targetLanguage()).recordGoogleBatch(checkpointScope(memoryScope), learnedTranslations);
+        progressListener(translationRequestId).onItemsCompleted(memoryScope.route(), batch.contents().size());
+        return selectedTranslations;
+    }
+
+    private List<List<String>> translateBatchesConcurrently(
+            List<PendingGoogleBatch> batches,
+            Function<PendingGoogleBatch, List<String>> batchTranslator,
+            String translationRequestId
+    ) {
+        List<List<String>> results = new ArrayList<>(Collections.nCopies(batches.size(), null));
+        int workerCount = Math.min(googleMaxConcurrentBatches, batches.size());
+        if (workerCount <= 1) {
+            for (int i = 0; i < batches.size(); i++) {
+                throwIfTranslationCancelled(translationRequestId);
+                results.set(i, batchTranslator.apply(batches.get(i)));
             }
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(resolveAccessTokenValue());
+            return results;
+        }
 
-            log.info("Sending translation batch start={}, endExclusive={}, batchSize={}, source={}, target={}, route={}, model={}, glossaryEnabled={}",
-                    start, end, batchItems.size(), sourceLanguage, targetLanguage,
-                    useAdaptiveDataset ? "adaptiveMtTranslate" : "translateText",
-                    useAdvancedLlm ? googleTranslationModel : "default-nmt",
-                    googleGlossaryEnabled);
+        CompletionService<CompletedGoogleBatch> completionService = new ExecutorCompletionService<>(translationExecutor);
+        List<Future<CompletedGoogleBatch>> futures = new ArrayList<>(batches.size());
+        int submitted = 0;
+        int completed = 0;
+        int inFlight = 0;
+        try {
+            while (completed < batches.size()) {
+                while (submitted < batches.size() && inFlight < workerCount) {
+                    throwIfTranslationCancelled(translationRequestId);
+                    int batchNumber = submitted++;
+                    PendingGoogleBatch batch = batches.get(batchNumber);
+                    futures.add(completionService.submit(() -> new CompletedGoogleBatch(batchNumber, batchTranslator.apply(batch))));
+                    inFlight++;
+                }
 
-            List<String> selectedTranslations = translateContentsWithSplitting(
+                throwIfTranslationCancelled(translationRequestId);
+                Future<CompletedGoogleBatch> future = completionService.poll(200, TimeUnit.MILLISECONDS);
+                if (future == null) {
+                    continue;
+                }
+                CompletedGoogleBatch completedBatch = awaitFuture(future, translationRequestId);
+                results.set(completedBatch.batchNumber(), completedBatch.translations());
+                completed++;
+                inFlight--;
+            }
+            return results;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Google translation was interrupted");
+        } finally {
+            cancelUnfinished(futures);
+        }
+    }
+
+    private List<String> translateContentsWithSplitting(
+            String url,
+            HttpHeaders headers,
+            String sourceLanguage,
+            String targetLanguage,
+            String adaptiveDataset,
+            boolean useAdvancedLlm,
+            List<String> contents,
+            int start,
+            int end,
+            String translationRequestId
+    ) {
+        throwIfTranslationCancelled(translationRequestId);
+        Function<ContentSegment, List<String>> segmentTranslator = segment -> translateContentsWithSplitting(
+                url,
+                headers,
+                sourceLanguage,
+                targetLanguage,
+                adaptiveDataset,
+                useAdvancedLlm,
+                segment.contents(),
+                segment.start(),
+                segment.end(),
+                translationRequestId
+        );
+        if (contents.size() > 1) {
+            List<ContentSegment> segments = separateIsolatedFailures(sourceLanguage, targetLanguage, contents, start);
+            if (segments.size() > 1) {
+                log.info("Translation batch range=[{}, {}) contains previously isolated failing strings; sending as {} segments",
+                        start, end, segments.size());
+                translationMetrics.googleSplit("isolated-failure");
+                return translateSegmentsConcurrently(segments, segmentTranslator, translationRequestId);
+            }
+        }
+        boolean alreadyIsolated = contents.size() == 1
+                && translationFailureRegistry.isIsolated(sourceLanguage, targetLanguage, contents.get(0));
+        try {
+            List<String> translations = requestTranslations(
                     url,
                     headers,
                     sourceLanguage,
@@ -1010,25 +1845,91 @@ public class TranslationService {
                     contents,
                     start,
                     end,
+                    alreadyIsolated,
                     translationRequestId
             );
-            if (selectedTranslations.size() != contents.size()) {
-                throw new IllegalStateException("Google Translate returned an unexpected number of translated strings");
+            translationFailureRegistry.recordSuccess(sourceLanguage, targetLanguage, contents);
+            return translations;
+        } catch (HttpStatusCodeException ex) {
+            int statusCode = ex.getStatusCode().value();
+            if (statusCode >= 500 && statusCode < 600 && contents.size() > 1) {
+                int middle = contents.size() / 2;
+                int splitPoint = start + middle;
+                log.warn("Translation batch range=[{}, {}) failed with status={}; retrying as two concurrent sub-batches: [{}, {}) and [{}, {})",
+                        start, end, statusCode, start, splitPoint, splitPoint, end);
+                translationMetrics.googleSplit("server-error");
+                return translateSegmentsConcurrently(List.of(
+                        new ContentSegment(start, splitPoint, contents.subList(0, middle)),
+                        new ContentSegment(splitPoint, end, contents.subList(middle, contents.size()))
+                ), segmentTranslator, translationRequestId);
+            }
+            if (isStringSpecificServerError(statusCode)) {
+                TranslationFailureRegistry.IsolatedFailure failure = translationFailureRegistry.recordFailure(
+                        sourceLanguage, targetLanguage, contents.get(0), statusCode);
+                log.warn("Isolated failing translation string at index={} source={}, target={}, status={}, failureCount={}, codepoints={}",
+                        start, sourceLanguage, targetLanguage, statusCode, failure.failureCount(), failure.codepoints());
+                if (alreadyIsolated) {
+                    return Collections.singletonList(null);
+                }
+            }
+            throw ex;
+        }
+    }
+
+    private List<ContentSegment> separateIsolatedFailures(
+            String sourceLanguage,
+            String targetLanguage,
+            List<String> contents,
+            int start
+    ) {
+        List<ContentSegment> segments = new ArrayList<>();
+        int segmentStart = 0;
+        for (int i = 0; i < contents.size(); i++) {
+            if (!translationFailureRegistry.isIsolated(sourceLanguage, targetLanguage, contents.get(i))) {
+                continue;
             }
-            for (int i = 0; i < translatableIndexes.size(); i++) {
-                batchTranslations.set(translatableIndexes.get(i), selectedTranslations.get(i));
+            if (i > segmentStart) {
+                segments.add(new ContentSegment(start + segmentStart, start + i, contents.subList(segmentStart, i)));
             }
-            allTranslations.addAll(batchTranslations);
+            segments.add(new ContentSegment(start + i, start + i + 1, contents.subList(i, i + 1)));
+            segmentStart = i + 1;
+        }
+        if (segmentStart < contents.size()) {
+            segments.add(new ContentSegment(start + segmentStart, start + contents.size(),
+                    contents.subList(segmentStart, contents.size())));
+        }
+        return segments;
+    }
+
+    private List<String> translateSegmentsConcurrently(
+            List<ContentSegment> segments,
+            Function<ContentSegment, List<String>> segmentTranslator,
+            String translationRequestId
+    ) {
+        List<String> merged = new ArrayList<>(segments.stream().mapToInt(segment -> segment.contents().size()).sum());
+        if (googleMaxConcurrentBatches <= 1) {
+            for (ContentSegment segment : segments) {
+                throwIfTranslationCancelled(translationRequestId);
+                merged.addAll(segmentTranslator.apply(segment));
+            }
+            return merged;
+        }
+        List<Future<List<String>>> futures = new ArrayList<>(segments.size() - 1);
+        try {
+            for (ContentSegment segment : segments.subList(1, segments.size())) {
+                futures.add(translationExecutor.submit(() -> segmentTranslator.apply(segment)));
+            }
+            merged.addAll(segmentTranslator.apply(segments.get(0)));
+            for (Future<List<String>> future : futures) {
+                merged.addAll(awaitFuture(future, translationRequestId));
+            }
+            return merged;
+        } finally {
+            cancelUnfinished(futures);
         }
-        String routeUsed = useAdaptiveDataset
-                ? "google-translation-advanced/adaptiveMtTranslate"
-                : useAdvancedLlm
-                ? "google-translation-advanced/translateText/translation-llm"
-                : "google-translation-standard/translateText/nmt";
-        return new GoogleTranslationBatchResult(allTranslations, routeUsed);
     }
 
-    private List<String> translateContentsWithSplitting(
+    private List<String> requestTranslations(
             String url,
             HttpHeaders headers,
             String sourceLanguage,
@@ -1038,9 +1939,9 @@ public class TranslationService {
             List<String> contents,
             int start,
             int end,
+            boolean isolatedString,
             String translationRequestId
     ) {
-        throwIfTranslationCancelled(translationRequestId);
         Object body = (adaptiveDataset != null && !adaptiveDataset.isBlank())
                 ? new GoogleAdaptiveMtTranslateRequest(contents, adaptiveDataset)
                 : new GoogleTranslateTextRequest(
@@ -1051,67 +1952,29 @@ public class TranslationService {
                         useAdvancedLlm ? googleTranslationModel : null,
                         useAdvancedLlm ? resolveGlossaryConfig(sourceLanguage, targetLanguage) : null
                 );
-        try {
-            ResponseEntity<GoogleTranslateTextResponse> response = executeTranslateBatchWithRetry(
-                    url,
-                    body,
-                    headers,
-                    start,
-                    end,
-                    translationRequestId
-            );
-            GoogleTranslateTextResponse responseBody = response.getBody();
-            if (responseBody == null || responseBody.translations() == null) {
-                throw new IllegalStateException("Google Translate response is empty");
-            }
-            List<String> translations = responseBody.translations()
-                    .stream()
-                    .map(GoogleTextTranslation::translatedText)
-                    .toList();
-            List<String> glossaryTranslations = responseBody.glossaryTranslations() == null
-                    ? List.of()
-                    : responseBody.glossaryTranslations().stream()
-                    .map(GoogleTextTranslation::translatedText)
-                    .toList();
-            return glossaryTranslations.size() == translations.size() ? glossaryTranslations : translations;
-        } catch (HttpStatusCodeException ex) {
-            int statusCode = ex.getStatusCode().value();
-            if (statusCode >= 500 && statusCode < 600 && contents.size() > 1) {
-                int middle = contents.size() / 2;
-                int splitPoint = start + middle;
-                log.warn("Translation batch range=[{}, {}) failed with status={}; retrying as two sub-batches: [{}, {}) and [{}, {})",
-                        start, end, statusCode, start, splitPoint, splitPoint, end);
-                List<String> firstHalf = translateContentsWithSplitting(
-                        url,
-                        headers,
-                        sourceLanguage,
-                        targetLanguage,
-                        adaptiveDataset,
-                        useAdvancedLlm,
-                        contents.subList(0, middle),
-                        start,
-                        splitPoint,
-                        translationRequestId
-                );
-                List<String> secondHalf = translateContentsWithSplitting(
-                        url,
-                        headers,
-                        sourceLanguage,
-                        targetLanguage,
-                        adaptiveDataset,
-                        useAdvancedLlm,
-                        contents.subList(middle, contents.size()),
-                        splitPoint,
-                        end,
-                        translationRequestId
-                );
-                List<String> merged = new ArrayList<>(contents.size());
-                merged.addAll(firstHalf);
-                merged.addAll(secondHalf);
-                return merged;
-            }
-            throw ex;
+        ResponseEntity<GoogleTranslateTextResponse> response = executeTranslateBatchWithRetry(
+                url,
+                body,
+                headers,
+                start,
+                end,
+                isolatedString,
+                translationRequestId
+        );
+        GoogleTranslateTextResponse responseBody = response.getBody();
+        if (responseBody == null || responseBody.translations() == null) {
+            throw new IllegalStateException("Google Translate response is empty");
         }
+        List<String> translations = responseBody.translations()
+                .stream()
+                .map(GoogleTextTranslation::translatedText)
+                .toList();
+        List<String> glossaryTranslations = responseBody.glossaryTranslations() == null
+                ? List.of()
+                : responseBody.glossaryTranslations().stream()
+                .map(GoogleTextTranslation::translatedText)
+                .toList();
+        return glossaryTranslations.size() == translations.size() ? glossaryTranslations : translations;
     }
 
     private List<TranslatedItemResult> translateByRouteV1(
@@ -1140,48 +2003,30 @@ public class TranslationService {
         }
 
         Map<Integer, TranslatedItemResult> translatedByIndex = new LinkedHashMap<>();
-        if (!adaptiveCandidates.isEmpty()) {
-            GoogleTranslationBatchResult adaptiveTranslations = callGoogleTranslationRoute(
-                    googleSourceLanguage,
-                    googleTargetLanguage,
-                    adaptiveCandidates,
-                    adaptiveDataset,
-                    true,
-                    translationRequestId
-            );
-            for (int i = 0; i < adaptiveCandidates.size(); i++) {
-                PreparedTranslationItem item = adaptiveCandidates.get(i);
-                translatedByIndex.put(item.item().index(), new TranslatedItemResult(
-                        item.item().index(),
-                        item.item().fullKey(),
-                        adaptiveTranslations.translatedTexts().get(i),
-                        adaptiveTranslations.routeUsed(),
-                        item.metadata().risky(),
-                        item.metadata().riskReason()
-                ));
+        if (adaptiveCandidates.isEmpty() || llmCandidates.isEmpty()) {
+            if (!adaptiveCandidates.isEmpty()) {
+                putRouteGroupResults(translatedByIndex, adaptiveCandidates, translateRouteGroup(
+                        "adaptive", googleSourceLanguage, googleTargetLanguage, adaptiveCandidates, adaptiveDataset, translationRequestId));
             }
-        }
-
-        if (!llmCandidates.isEmpty()) {
-            GoogleTranslationBatchResult llmTranslations = callGoogleTranslationRoute(
-                    googleSourceLanguage,
-                    googleTargetLanguage,
-                    llmCandidates,
-                    null,
-                    true,
-                    translationRequestId
-            );
-            for (int i = 0; i < llmCandidates.size(); i++) {
-                PreparedTranslationItem item = llmCandidates.get(i);
-                translatedByIndex.put(item.item().index(), new TranslatedItemResult(
-                        item.item().index(),
-                        item.item().fullKey(),
-                        llmTranslations.translatedTexts().get(i),
-                        llmTranslations.routeUsed(),
-                        item.metadata().risky(),
-                        item.metadata().riskReason()
-                ));
+            if (!llmCandidates.isEmpty()) {
+                putRouteGroupResults(translatedByIndex, llmCandidates, translateRouteGroup(
+                        "llm", googleSourceLanguage, googleTargetLanguage, llmCandidates, null, translationRequestId));
+            }
+        } else {
+            long startedAt = System.nanoTime();
+            Future<GoogleTranslationBatchResult> adaptiveFuture = translationExecutor.submit(() -> translateRouteGroup(
+                    "adaptive", googleSourceLanguage, googleTargetLanguage, adaptiveCandidates, adaptiveDataset, translationRequestId));
+            try {
+                GoogleTranslationBatchResult llmTranslations = translateRouteGroup(
+                        "llm", googleSourceLanguage, googleTargetLanguage, llmCandidates, null, translationRequestId);
+                GoogleTranslationBatchResult adaptiveTranslations = awaitFuture(adaptiveFuture, translationRequestId);
+                putRouteGroupResults(translatedByIndex, adaptiveCandidates, adaptiveTranslations);
+                putRouteGroupResults(translatedByIndex, llmCandidates, llmTranslations);
+            } finally {
+                adaptiveFuture.cancel(true);
             }
+            log.info("Translation route groups completed concurrently adaptiveItems={}, llmItems={}, wallClockMs={}",
+                    adaptiveCandidates.size(), llmCandidates.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
         }
 
         if (translatedByIndex.size() != items.size()) {
@@ -1192,6 +2037,40 @@ public class TranslationService {
                 .toList();
     }
 
+    private GoogleTranslationBatchResult translateRouteGroup(
+            String routeGroup,
+            String sourceLanguage,
+            String targetLanguage,
+            List<PreparedTranslationItem> items,
+            String adaptiveDataset,
+            String translationRequestId
+    ) {
+        long startedAt = System.nanoTime();
+        GoogleTranslationBatchResult result = callGoogleTranslationRoute(
+                sourceLanguage,
+                targetLanguage,
+                items,
+                adaptiveDataset,
+                true,
+                translationRequestId
+        );
+        log.info("Translation route group {} finished items={}, route={}, durationMs={}",
+                routeGroup, items.size(), result.routeUsed(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return result;
+    }
+
+    private void putRouteGroupResults(
+            Map<Integer, TranslatedItemResult> translatedByIndex,
+            List<PreparedTranslationItem> items,
+            GoogleTranslationBatchResult translations
+    ) {
+        for (int i = 0; i < items.size(); i++) {
+            PreparedTranslationItem item = items.get(i);
+            translatedByIndex.put(item.item().index(),
+                    googleTranslatedItem(item, translations.translatedTexts().get(i), translations.routeUsed()));
+        }
+    }
+
     private boolean shouldUseAdaptiveMtTranslate(boolean adaptiveAvailable, PreparedTranslationItem item) {
         if (!adaptiveAvailable) {
             return false;
@@ -1233,39 +2112,58 @@ public class TranslationService {
         );
         List<TranslatedItemResult> translatedItems = new ArrayList<>(items.size());
         for (int i = 0; i < items.size(); i++) {
-            PreparedTranslationItem item = items.get(i);
-            translatedItems.add(new TranslatedItemResult(
-                    item.item().index(),
-                    item.item().fullKey(),
-                    nmtTranslations.translatedTexts().get(i),
-                    nmtTranslations.routeUsed(),
-                    item.metadata().risky(),
-                    item.metadata().riskReason()
-            ));
+            translatedItems.add(googleTranslatedItem(items.get(i), nmtTranslations.translatedTexts().get(i), nmtTranslations.routeUsed()));
         }
         return translatedItems;
     }
 
+    private TranslatedItemResult googleTranslatedItem(PreparedTranslationItem item, String translatedText, String routeUsed) {
+        // A null translation marks an isolated string whose upstream call failed; the row keeps its source text.
+        return new TranslatedItemResult(
+                item.item().index(),
+                item.item().fullKey(),
+                translatedText == null ? item.protectedText() : translatedText,
+                translatedText == null ? ISOLATED_UPSTREAM_FAILURE : routeUsed,
+                item.metadata().risky(),
+                item.metadata().riskReason()
+        );
+    }
+
     private ResponseEntity<GoogleTranslateTextResponse> executeTranslateBatchWithRetry(
             String url,
             Object body,
             HttpHeaders headers,
             int start,
             int end,
+            boolean isolatedString,
             String translationRequestId
     ) {
         int attempt = 1;
         while (true) {
             throwIfTranslationCancelled(translationRequestId);
+            GoogleTranslateConcurrencyLimiter.Permit permit = googleConcurrencyLimiter.acquire(
+                    () -> throwIfTranslationCancelled(translationRequestId));
+            GoogleTranslateConcurrencyLimiter.Outcome outcome = GoogleTranslateConcurrencyLimiter.Outcome.IGNORED;
             try {
-                return restTemplate.postForEntity(
+                ResponseEntity<GoogleTranslateTextResponse> response = restTemplate.postForEntity(
                         url,
                         new HttpEntity<>(body, headers),
                         GoogleTranslateTextResponse.class
                 );
+                outcome = GoogleTranslateConcurrencyLimiter.outcomeForStatus(response.getStatusCode().value());
+                return response;
             } catch (ResourceAccessException | HttpStatusCodeException ex) {
+                if (ex instanceof HttpStatusCodeException statusException) {
+                    outcome = GoogleTranslateConcurrencyLimiter.outcomeForStatus(statusException.getStatusCode().value());
+                }
                 boolean transientFailure = isTransientFailure(ex);
-                if (!transientFailure || attempt >= googleRetryAttempts) {
+                // A string already known to break the backend is not retried on a plain 5xx,
+                // but overload (429/503) and connection failures still get the normal backoff.
+                int maxAttempts = isolatedString && ex instanceof HttpStatusCodeException statusFailure
+                        && isStringSpecificServerError(statusFailure.getStatusCode().value())
+                        ? 1
+                        : googleRetryAttempts;
+                if (!transientFailure || attempt >= maxAttempts) {
                     String statusCode = ex instanceof HttpStatusCodeException statusException
                             ? String.valueOf(statusException.getStatusCode().value())
                             : "n/a";
@@ -1274,21 +2172,35 @@ public class TranslationService {
                     throw ex;
                 }
                 long delayMs = googleRetryBackoffMs * (1L << (attempt - 1));
+                String statusOrType = ex instanceof HttpStatusCodeException statusException
+                        ? String.valueOf(statusException.getStatusCode().value())
+                        : ex.getClass().getSimpleName();
                 log.warn("Transient translation failure attempt={} for range=[{}, {}) statusOrType={}, retryInMs={}",
                         attempt,
                         start,
                         end,
-                        ex instanceof HttpStatusCodeException statusException
-                                ? statusException.getStatusCode().value()
-                                : ex.getClass().getSimpleName(),
+                        statusOrType,
                         delayMs);
+                progressListener(translationRequestId).onRetry(start, end, statusOrType, attempt);
+                translationMetrics.googleRetry(statusOrType);
+                googleConcurrencyLimiter.release(permit, outcome);
+                permit = null;
                 sleepQuietly(delayMs);
                 throwIfTranslationCancelled(translationRequestId);
                 attempt++;
+            } finally {
+                if (permit != null) {
+                    googleConcurrencyLimiter.release(permit, outcome);
+                }
             }
         }
     }
 
+    private boolean isStringSpecificServerError(int statusCode) {
+        return statusCode >= 500 && statusCode < 600
+                && GoogleTranslateConcurrencyLimiter.outcomeForStatus(statusCode) != GoogleTranslateConcurrencyLimiter.Outcome.OVERLOADED;
+    }
+
     private boolean isTransientFailure(Exception ex) {
         if (ex instanceof ResourceAccessException) {
             return true;
@@ -1318,41 +2230,62 @@ public class TranslationService {
 
     private List<String> restorePlaceholders(List<PreparedTranslationItem> items, List<String> translatedTexts) {
         List<String> restored = new ArrayList<>(translatedTexts.size());
+        StringBuilder buffer = new StringBuilder();
         for (int i = 0; i < items.size(); i++) {
-            PreparedTranslationItem item = items.get(i);
+            Map<String, String> placeholders = items.get(i).placeholders();
             String text = translatedTexts.get(i);
-            for (Map.Entry<String, String> placeholder : item.placeholders().entrySet()) {
-                text = text.replace(placeholder.getKey(), placeholder.getValue());
-            }
-            restored.add(text);
+            restored.add(placeholders.isEmpty() ? text : restoreTokens(text, placeholders, buffer));
         }
         return restored;
     }
 
-    private String buildProtectedPlaceholderToken(String placeholder, String sourceText, Set<String> existingTokens) {
-        String innerValue = placeholder;
-        if (placeholder.startsWith("{{") && placeholder.endsWith("}}")) {
-            innerValue = placeholder.substring(2, placeholder.length() - 2);
-        } else if (placeholder.startsWith("{") && placeholder.endsWith("}")) {
-            innerValue = placeholder.substring(1, placeholder.length() - 1);
+    // Tokens never contain "__" inside their name, so no token is a prefix of another and one left-to-right pass suffices.
+    private String restoreTokens(String text, Map<String, String> placeholders, StringBuilder buffer) {
+        int next = text.indexOf(PLACEHOLDER_TOKEN_PREFIX);
+        if (next < 0) {
+            return text;
         }
-
-        String normalizedInnerValue = innerValue.toUpperCase(Locale.ROOT)
-                .replaceAll("[^A-Z0-9]+", "_")
-                .replaceAll("^_+", "")
-                .replaceAll("_+$", "");
-
-        if (normalizedInnerValue.isBlank()) {
-            normalizedInnerValue = "TOKEN";
+        buffer.setLength(0);
+        int copiedUpTo = 0;
+        while (next >= 0) {
+            Map.Entry<String, String> matched = null;
+            for (Map.Entry<String, String> placeholder : placeholders.entrySet()) {
+                if (text.startsWith(placeholder.getKey(), next)) {
+                    matched = placeholder;
+                    break;
+                }
+            }
+            if (matched == null) {
+                next = text.indexOf(PLACEHOLDER_TOKEN_PREFIX, next + 1);
+                continue;
+            }
+            buffer.append(text, copiedUpTo, next).append(matched.getValue());
+            copiedUpTo = next + matched.getKey().length();
+            next = text.indexOf(PLACEHOLDER_TOKEN_PREFIX, copiedUpTo);
         }
+        if (copiedUpTo == 0) {
+            return text;
+        }
+        return buffer.append(text, copiedUpTo, text.length()).toString();
+    }
 
-        String baseToken = PLACEHOLDER_TOKEN_PREFIX + normalizedInnerValue + "__";
-        String token = baseToken;
-        int suffix = 2;
-        while (existingTokens.contains(token) || sourceText.contains(token)) {
-            token = PLACEHOLDER_TOKEN_PREFIX + normalizedInnerValue + "_" + suffix++ + "__";
+    private String buildProtectedPlaceholderToken(
+            String placeholder,
+            String sourceText,
+            Set<String> existingTokens,
+            StringBuilder tokenBuffer
+    ) {
+        for (int suffix = 1; ; suffix++) {
+            tokenBuffer.setLength(0);
+            PlaceholderScanner.appendToken(tokenBuffer, PLACEHOLDER_TOKEN_PREFIX, placeholder, suffix);
+            if (sourceText.contains(tokenBuffer)) {
+                continue;
+            }
+            String token = tokenBuffer.toString();
+            if (!existingTokens.contains(token)) {
+                return token;
+            }
         }
-        return token;
     }
 
     private ValidationReport validateResults(
@@ -1361,123 +2294,47 @@ public class TranslationService {
             List<String> restoredTexts,
             String sourceLanguage,
             String targetLanguage,
-            Set<String> configuredRiskyTerms
+            RiskyTermsRegistry.RiskyTerms configuredRiskyTerms
     ) {
-        List<ValidationIssue> issues = new ArrayList<>();
-        List<PreprocessingReportItem> preprocessingItems = new ArrayList<>();
-        List<ValidationReportRow> reportRows = new ArrayList<>();
-        Map<String, Map<String, Set<String>>> translationsByNormalizedSource = new LinkedHashMap<>();
-        int duplicateInconsistencyFindings = 0;
-
-        for (int i = 0; i < items.size(); i++) {
-            PreparedTranslationItem item = items.get(i);
-            TranslatedItemResult translatedItem = translatedItems.get(i);
-            String translatedProtected = translatedItem.translatedText();
-            String restored = restoredTexts.get(i);
-            String fullKey = item.item().fullKey();
-            List<String> itemIssueMessages = new ArrayList<>();
-            boolean hasError = false;
-            boolean hasWarning = false;
-
-            Set<String> missingTokens = new HashSet<>();
-            for (String token : item.placeholders().keySet()) {
-                if (!translatedProtected.contains(token)) {
-                    missingTokens.add(token);
-                }
-            }
-            if (!missingTokens.isEmpty()) {
-                String message = "missing placeholder tokens " + missingTokens;
-                issues.add(new ValidationIssue(fullKey, item.item().prefix(), "missing-placeholder-token", "ERROR", message));
-                itemIssueMessages.add(message);
-                hasError = true;
-            }
-
-            if (restored.isBlank() && !item.normalizedText().isBlank()) {
-                String message = "translated result became blank";
-                issues.add(new ValidationIssue(fullKey, item.item().prefix(), "blank-translation", "ERROR", message));
-                itemIssueMessages.add(message);
-                hasError = true;
-            }
-
-            Matcher unresolvedTokenMatcher = PROTECTED_PLACEHOLDER_TOKEN_PATTERN.matcher(restored);
-            if (unresolvedTokenMatcher.find()) {
-                String message = "unresolved placeholder tokens remained after restoration";
-                issues.add(new ValidationIssue(fullKey, item.item().prefix(), "leftover-protected-token", "ERROR", message));
-                itemIssueMessages.add(message);
-                hasError = true;
-            }
-
-            List<String> missingOriginalPlaceholders = new ArrayList<>();
-            for (String placeholder : item.placeholders().values()) {
-                if (!restored.contains(placeholder)) {
-                    missingOriginalPlaceholders.add(placeholder);
-                }
-            }
-            if (!missingOriginalPlaceholders.isEmpty()) {
-                String message = "missing restored placeholders " + missingOriginalPlaceholders;
-                issues.add(new ValidationIssue(fullKey, item.item().prefix(), "missing-restored-placeholder", "ERROR", message));
-                itemIssueMessages.add(message);
-                hasError = true;
-            }
-
-            if (!sourceLanguage.equalsIgnoreCase(targetLanguage) && containsConfiguredRiskyTerm(item.normalizedText(), configuredRiskyTerms)) {
-                String normalizedSource = normalizeForTermCheck(item.normalizedText());
-                String normalizedRestored = normalizeForTermCheck(restored);
-                for (String glossaryTerm : configuredRiskyTerms) {
-                    if (normalizedSource.contains(glossaryTerm) && normalizedRestored.contains(glossaryTerm)) {
-                        String message = "possible untranslated glossary term leak: '" + glossaryTerm + "'";
-                        issues.add(new ValidationIssue(fullKey, item.item().prefix(), "glossary-term-leak", "WARNING", message));
-                        itemIssueMessages.add(message);
-                        hasWarning = true;
-                    }
-                }
-            }
-
-            if (item.metadata().shortText()) {
-                int sourceLength = item.normalizedText().trim().length();
-                int restoredLength = restored.trim().length();
-                if (sourceLength > 0 && restoredLength > sourceLength * 3 + 15) {
-                    String message = "short UI text expanded significantly (" + sourceLength + " -> " + restoredLength + " chars)";
-                    issues.add(new ValidationIssue(fullKey, item.item().prefix(), "short-ui-expansion", "WARNING", message));
-                    itemIssueMessages.add(message);
-                    hasWarning = true;
-                }
+        boolean crossLanguage = !sourceLanguage.equalsIgnoreCase(targetLanguage);
+        TermMatcher riskyTermMatcher = configuredRiskyTerms.matcher();
+        RowValidation[] rowValidations = new RowValidation[items.size()];
+        int chunkCount = (items.size() + VALIDATION_CHUNK_SIZE - 1) / VALIDATION_CHUNK_SIZE;
+        // Row rules only read their own row, so chunks run in parallel and are merged in row order below.
+        IntStream chunks = IntStream.range(0, chunkCount);
+        (chunkCount > 1 ? chunks.parallel() : chunks).forEach(chunk -> {
+            int end = Math.min(items.size(), (chunk + 1) * VALIDATION_CHUNK_SIZE);
+            for (int i = chunk * VALIDATION_CHUNK_SIZE; i < end; i++) {
+                rowValidations[i] = validateRow(
+                        items.get(i),
+                        translatedItems.get(i),
+                        restoredTexts.get(i),
+                        crossLanguage,
+                        riskyTermMatcher
+                );
             }
+        });
 
-            String normalizedSource = normalizeForTermCheck(item.normalizedText());
-            if (!normalizedSource.isEmpty()) {
+        List<ValidationIssue> issues = new ArrayList<>();
+        List<PreprocessingReportItem> preprocessingItems = new ArrayList<>(items.size());
+        List<ValidationReportRow> reportRows = new ArrayList<>(items.size());
+        Map<String, ValidationReportRow> rowsByFullKey = new HashMap<>(items.size() * 2);
+        Map<String, Map<String, Set<String>>> translationsByNormalizedSource = new LinkedHashMap<>();
+        for (RowValidation rowValidation : rowValidations) {
+            ValidationReportRow row = rowValidation.row();
+            issues.addAll(rowValidation.issues());
+            preprocessingItems.add(rowValidation.preprocessing());
+            reportRows.add(row);
+            rowsByFullKey.putIfAbsent(row.fullKey(), row);
+            if (!rowValidation.normalizedSource().isEmpty()) {
                 translationsByNormalizedSource
-                        .computeIfAbsent(normalizedSource, ignored -> new LinkedHashMap<>())
-                        .computeIfAbsent(restored, ignored -> new LinkedHashSet<>())
-                        .add(fullKey);
+                        .computeIfAbsent(rowValidation.normalizedSource(), ignored -> new LinkedHashMap<>())
+                        .computeIfAbsent(row.finalTranslatedText(), ignored -> new LinkedHashSet<>())
+                        .add(row.fullKey());
             }
-
-            PreprocessingMetadata metadata = item.metadata();
-            preprocessingItems.add(new PreprocessingReportItem(
-                    fullKey,
-                    item.item().prefix(),
-                    item.item().key(),
-                    metadata.wordCount(),
-                    metadata.shortText(),
-                    metadata.containsPlaceholders(),
-                    metadata.placeholders(),
-                    metadata.risky(),
-                    metadata.riskReason()
-            ));
-            reportRows.add(new ValidationReportRow(
-                    fullKey,
-                    item.item().prefix(),
-                    item.normalizedText(),
-                    item.protectedText(),
-                    translatedProtected,
-                    restored,
-                    item.metadata().risky(),
-                    translatedItem.route(),
-                    hasError ? "INVALID" : hasWarning ? "WARNING" : "VALID",
-                    itemIssueMessages
-            ));
         }
 
+        int duplicateInconsistencyFindings = 0;
         for (Map.Entry<String, Map<String, Set<String>>> entry : translationsByNormalizedSource.entrySet()) {
             Map<String, Set<String>> translationToKeys = entry.getValue();
             if (translationToKeys.size() <= 1) {
@@ -1486,10 +2343,7 @@ public class TranslationService {
             String message = "same source text produced inconsistent translations in this run";
             for (Set<String> keys : translationToKeys.values()) {
                 for (String key : keys) {
-                    ValidationReportRow row = reportRows.stream()
-                            .filter(validation -> validation.fullKey().equals(key))
-                            .findFirst()
-                            .orElse(null);
+                    ValidationReportRow row = rowsByFullKey.get(key);
                     String prefix = row == null ? "" : row.prefix();
                     issues.add(new ValidationIssue(key, prefix, "duplicate-inconsistency", "WARNING", message));
                     duplicateInconsistencyFindings++;
@@ -1503,13 +2357,22 @@ public class TranslationService {
             }
         }
 
-        int invalidCount = (int) reportRows.stream().filter(row -> "INVALID".equals(row.validationStatus())).count();
-        int warningCount = (int) reportRows.stream().filter(row -> "WARNING".equals(row.validationStatus())).count();
+        int invalidCount = 0;
+        int warningCount = 0;
+        Map<String, Long> countsByPrefix = new LinkedHashMap<>();
+        for (ValidationReportRow row : reportRows) {
+            if ("INVALID".equals(row.validationStatus())) {
+                invalidCount++;
+            } else if ("WARNING".equals(row.validationStatus())) {
+                warningCount++;
+            }
+            countsByPrefix.merge(row.prefix(), 1L, Long::sum);
+        }
         int validCount = reportRows.size() - invalidCount - warningCount;
-        Map<String, Long> issueCountsByType = issues.stream()
-                .collect(Collectors.groupingBy(ValidationIssue::type, LinkedHashMap::new, Collectors.counting()));
-        Map<String, Long> countsByPrefix = reportRows.stream()
-                .collect(Collectors.groupingBy(ValidationReportRow::prefix, LinkedHashMap::new, Collectors.counting()));
+        Map<String, Long> issueCountsByType = new LinkedHashMap<>();
+        for (ValidationIssue issue : issues) {
+            issueCountsByType.merge(issue.type(), 1L, Long::sum);
+        }
 
         return new ValidationReport(
                 reportRows,
@@ -1522,11 +2385,127 @@ public class TranslationService {
                         warningCount,
                         issueCountsByType,
                         countsByPrefix,
-                        duplicateInconsistencyFindings
+                        duplicateInconsistencyFindings,
+                        configuredRiskyTerms.version()
                 )
         );
     }
 
+    private RowValidation validateRow(
+            PreparedTranslationItem item,
+            TranslatedItemResult translatedItem,
+            String restored,
+            boolean crossLanguage,
+            TermMatcher riskyTermMatcher
+    ) {
+        String translatedProtected = translatedItem.translatedText();
+        String fullKey = item.item().fullKey();
+        String prefix = item.item().prefix();
+        String normalizedSource = normalizeForTermCheck(item.normalizedText());
+        List<ValidationIssue> issues = new ArrayList<>(0);
+        List<String> itemIssueMessages = new ArrayList<>();
+        boolean hasError = false;
+        boolean hasWarning = false;
+
+        if (ISOLATED_UPSTREAM_FAILURE.equals(translatedItem.route())) {
+            String message = "upstream translation failed for this previously isolated string; source text kept";
+            issues.add(new ValidationIssue(fullKey, prefix, ISOLATED_UPSTREAM_FAILURE, "ERROR", message));
+            itemIssueMessages.add(message);
+            hasError = true;
+        }
+
+        Set<String> missingTokens = new HashSet<>();
+        for (String token : item.placeholders().keySet()) {
+            if (!translatedProtected.contains(token)) {
+                missingTokens.add(token);
+            }
+        }
+        if (!missingTokens.isEmpty()) {
+            String message = "missing placeholder tokens " + missingTokens;
+            issues.add(new ValidationIssue(fullKey, prefix, "missing-placeholder-token", "ERROR", message));
+            itemIssueMessages.add(message);
+            hasError = true;
+        }
+
+        if (restored.isBlank() && !item.normalizedText().isBlank()) {
+            String message = "translated result became blank";
+            issues.add(new ValidationIssue(fullKey, prefix, "blank-translation", "ERROR", message));
+            itemIssueMessages.add(message);
+            hasError = true;
+        }
+
+        // The token pattern needs the "__PH_" prefix, so skip the regex when it cannot match.
+        if (restored.contains("__PH_") && PROTECTED_PLACEHOLDER_TOKEN_PATTERN.matcher(restored).find()) {
+            String message = "unresolved placeholder tokens remained after restoration";
+            issues.add(new ValidationIssue(fullKey, prefix, "leftover-protected-token", "ERROR", message));
+            itemIssueMessages.add(message);
+            hasError = true;
+        }
+
+        List<String> missingOriginalPlaceholders = new ArrayList<>();
+        for (String placeholder : item.placeholders().values()) {
+            if (!restored.contains(placeholder)) {
+                missingOriginalPlaceholders.add(placeholder);
+            }
+        }
+        if (!missingOriginalPlaceholders.isEmpty()) {
+            String message = "missing restored placeholders " + missingOriginalPlaceholders;
+            issues.add(new ValidationIssue(fullKey, prefix, "missing-restored-placeholder", "ERROR", message));
+            itemIssueMessages.add(message);
+            hasError = true;
+        }
+
+        if (crossLanguage && !riskyTermMatcher.isEmpty()) {
+            BitSet leakedTerms = riskyTermMatcher.findAll(normalizedSource);
+            if (!leakedTerms.isEmpty()) {
+                leakedTerms.and(riskyTermMatcher.findAll(normalizeForTermCheck(restored)));
+            }
+            for (int termId = leakedTerms.nextSetBit(0); termId >= 0; termId = leakedTerms.nextSetBit(termId + 1)) {
+                String message = "possible untranslated glossary term leak: '" + riskyTermMatcher.terms().get(termId) + "'";
+                issues.add(new ValidationIssue(fullKey, prefix, "glossary-term-leak", "WARNING", message));
+                itemIssueMessages.add(message);
+                hasWarning = true;
+            }
+        }
+
+        if (item.metadata().shortText()) {
+            int sourceLength = item.normalizedText().trim().length();
+            int restoredLength = restored.trim().length();
+            if (sourceLength > 0 && restoredLength > sourceLength * 3 + 15) {
+                String message = "short UI text expanded significantly (" + sourceLength + " -> " + restoredLength + " chars)";
+                issues.add(new ValidationIssue(fullKey, prefix, "short-ui-expansion", "WARNING", message));
+                itemIssueMessages.add(message);
+                hasWarning = true;
+            }
+        }
+
+        PreprocessingMetadata metadata = item.metadata();
+        PreprocessingReportItem preprocessing = new PreprocessingReportItem(
+                fullKey,
+                prefix,
+                item.item().key(),
+                metadata.wordCount(),
+                metadata.shortText(),
+                metadata.containsPlaceholders(),
+                metadata.placeholders(),
+                metadata.risky(),
+                metadata.riskReason()
+        );
+        ValidationReportRow row = new ValidationReportRow(
+                fullKey,
+                prefix,
+                item.normalizedText(),
+                item.protectedText(),
+                translatedProtected,
+                restored,
+                metadata.risky(),
+                translatedItem.route(),
+                hasError ? "INVALID" : hasWarning ? "WARNING" : "VALID",
+                itemIssueMessages
+        );
+        return new RowValidation(row, preprocessing, issues, normalizedSource);
+    }
+
     private int countWords(String text) {
         String trimmed = text == null ? "" : text.trim();
         if (trimmed.isEmpty()) {
@@ -1538,44 +2517,25 @@ public class TranslationService {
     }
 
     private List<String> extractPlaceholders(String text) {
-        if (text == null || text.isEmpty()) {
+        if (text == null || text.isEmpty() || !PlaceholderScanner.mayContainPlaceholder(text)) {
             return List.of();
         }
-        Matcher matcher = PLACEHOLDER_PATTERN.matcher(text);
         Set<String> placeholders = new LinkedHashSet<>();
-        while (matcher.find()) {
-            placeholders.add(matcher.group());
-        }
-        return List.copyOf(placeholders);
-    }
-
-    private boolean containsAmbiguousTerm(String text) {
-        String normalizedText = normalizeForTermCheck(text);
-        for (String term : DEFAULT_AMBIGUOUS_TERMS) {
-            if (normalizedText.contains(normalizeForTermCheck(term))) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private boolean containsConfiguredRiskyTerm(String text, Set<String> configuredRiskyTerms) {
-        if (configuredRiskyTerms.isEmpty()) {
-            return false;
-        }
-        String normalizedText = normalizeForTermCheck(text);
-        for (String term : configuredRiskyTerms) {
-            if (normalizedText.contains(term)) {
-                return true;
+        int position = 0;
+        while (position < text.length()) {
+            int end = PlaceholderScanner.placeholderEnd(text, position);
+            if (end < 0) {
+                position++;
+            } else {
+                placeholders.add(text.substring(position, end));
+                position = end;
             }
         }
-        return false;
+        return List.copyOf(placeholders);
     }
 
     private String normalizeForTermCheck(String text) {
-        return text == null
-                ? ""
-                : text.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+        return TermMatcher.normalize(text);
     }
 
     private String normalizePrefix(String prefix) {
@@ -1596,9 +2556,9 @@ public class TranslationService {
         return String.join(",", reasons);
     }
 
-    private Set<String> loadConfiguredRiskyTerms(String customPath) {
+    private RiskyTermsRegistry.RiskyTerms resolveConfiguredRiskyTerms(String customPath) {
         if (riskyTermsFile == null || riskyTermsFile.isBlank()) {
-            return Set.of();
+            return RiskyTermsRegistry.RiskyTerms.NONE;
         }
 
         Path riskyTermsPath = Path.of(riskyTermsFile);
@@ -1607,26 +2567,10 @@ public class TranslationService {
                 riskyTermsPath = resolveDataDir(customPath).resolve(riskyTermsPath).normalize();
             } catch (Exception e) {
                 log.warn("Failed to resolve risky terms file path '{}': {}", riskyTermsFile, e.getMessage());
-                return Set.of();
+                return RiskyTermsRegistry.RiskyTerms.NONE;
             }
         }
-
-        if (!Files.exists(riskyTermsPath)) {
-            return Set.of();
-        }
-
-        try (Stream<String> lines = Files.lines(riskyTermsPath)) {
-            Set<String> terms = lines
-                    .map(String::trim)
-                    .filter(line -> !line.isEmpty())
-                    .filter(line -> !line.startsWith("#"))
-                    .map(this::normalizeForTermCheck)
-                    .collect(java.util.stream.Collectors.toCollection(LinkedHashSet::new));
-            return Collections.unmodifiableSet(terms);
-        } catch (Exception e) {
-            log.warn("Failed to load risky terms from {}: {}", riskyTermsPath, e.getMessage());
-            return Set.of();
-        }
+        return riskyTermsRegistry.get(riskyTermsPath);
     }
 
     private void writeValidationReport(Path outputFile, ValidationReport report) throws Exception {
@@ -1663,6 +2607,7 @@ public class TranslationService {
         csv.append("invalid_count,").append(report.summary().invalidCount()).append('\n');
         csv.append("warning_count,").append(report.summary().warningCount()).append('\n');
         csv.append("duplicate_inconsistency_findings,").append(report.summary().duplicateInconsistencyFindings()).append('\n');
+        csv.append("risky_terms_version,").append(csvCell(report.summary().riskyTermsVersion())).append('\n');
         for (Map.Entry<String, Long> issueEntry : report.summary().issueCountsByType().entrySet()) {
             csv.append(csvCell("issue_count_by_type:" + issueEntry.getKey())).append(',')
                     .append(issueEntry.getValue()).append('\n');
@@ -1697,6 +2642,7 @@ public class TranslationService {
         recreateGlossaryResource(glossaryResourceName, googleSourceLanguage, googleTargetLanguage, gcsUri);
         String pairKey = languagePairKey(normalizedSourceLanguage, normalizedTargetLanguage);
         activeGlossariesByLanguagePair.put(pairKey, glossaryResourceName);
+        translationMemory.invalidateLanguagePair(googleSourceLanguage, googleTargetLanguage);
         log.info("Activated glossary {} for language pair {}", glossaryResourceName, pairKey);
         return glossaryResourceName;
     }
@@ -1722,6 +2668,7 @@ public class TranslationService {
         String pairKey = languagePairKey(normalizedSourceLanguage, normalizedTargetLanguage);
         activeAdaptiveDatasetsByLanguagePair.put(pairKey, datasetResourceName);
         persistAdaptiveDatasetRegistry();
+        translationMemory.invalidateLanguagePair(googleSourceLanguage, googleTargetLanguage);
         log.info("Activated adaptive dataset {} for language pair {}", datasetResourceName, pairKey);
         return new AdaptiveDatasetSyncResult(datasetResourceName, importStatus, gcsUri);
     }
@@ -1893,19 +2840,21 @@ public class TranslationService {
     }
 
     private String normalizeGoogleLanguageCodeOrThrow(String languageCode, String fieldName) {
-        String candidate = languageCode == null ? "" : languageCode.trim().toLowerCase(Locale.ROOT);
-        if (candidate.startsWith("css_")) {
-            candidate = candidate.substring(4);
-        }
-        if (candidate.contains("_")) {
-            candidate = candidate.replace('_', '-');
-        }
+        String candidate = normalizeGoogleLanguageCode(languageCode);
         if (!candidate.matches("^[a-z]{2,3}(?:-[a-z0-9]{2,8})*$")) {
             throw new IllegalArgumentException("Invalid Google " + fieldName + " language code: " + languageCode);
         }
         return candidate;
     }
 
+    private static String normalizeGoogleLanguageCode(String languageCode) {
+        String candidate = languageCode == null ? "" : languageCode.trim().toLowerCase(Locale.ROOT);
+        if (candidate.startsWith("css_")) {
+            candidate = candidate.substring(4);
+        }
+        return candidate.replace('_', '-');
+    }
+
     private byte[] readFileAsUtf8Bytes(Path file) throws Exception {
         try {
             return Files.readString(file, StandardCharsets.UTF_8).getBytes(StandardCharsets.UTF_8);
@@ -2150,7 +3099,7 @@ public class TranslationService {
         }
 
         String parent = "projects/" + googleProjectId + "/locations/" + googleLocation;
-        String createEndpoint = "https://translation.googleapis.com/v3/" + parent + "/adaptiveMtDatasets";
+        String createEndpoint = googleApiBaseUrl + "/" + parent + "/adaptiveMtDatasets";
         String createUrl = UriComponentsBuilder.fromHttpUrl(createEndpoint)
                 .toUriString();
 
@@ -2184,7 +3133,7 @@ public class TranslationService {
     private boolean adaptiveDatasetExists(String datasetResourceName) {
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(resolveAccessTokenValue());
-        String getUrl = "https://translation.googleapis.com/v3/" + datasetResourceName;
+        String getUrl = googleApiBaseUrl + "/" + datasetResourceName;
         try {
             restTemplate.exchange(
                     getUrl,
@@ -2212,7 +3161,7 @@ public class TranslationService {
     }
 
     private String importAdaptiveDatasetTsv(String datasetResourceName, String gcsUri, String fileDisplayName) {
-        String importUrl = "https://translation.googleapis.com/v3/" + datasetResourceName + ":importAdaptiveMtFile";
+        String importUrl = googleApiBaseUrl + "/" + datasetResourceName + ":importAdaptiveMtFile";
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -2238,7 +3187,7 @@ public class TranslationService {
     }
 
     private String waitForAdaptiveMtFileImport(String datasetResourceName, String fileDisplayName) {
-        String listUrl = "https://translation.googleapis.com/v3/" + datasetResourceName + "/adaptiveMtFiles";
+        String listUrl = googleApiBaseUrl + "/" + datasetResourceName + "/adaptiveMtFiles";
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(resolveAccessTokenValue());
         String lastObservedStatus = "PENDING";
@@ -2282,7 +3231,7 @@ public class TranslationService {
             String gcsUri
     ) {
         deleteGlossaryIfExists(glossaryResourceName);
-        String createEndpoint = "https://translation.googleapis.com/v3/projects/" + googleProjectId
+        String createEndpoint = googleApiBaseUrl + "/projects/" + googleProjectId
                 + "/locations/" + googleLocation + "/glossaries";
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -2305,7 +3254,7 @@ public class TranslationService {
     private void deleteGlossaryIfExists(String glossaryResourceName) {
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(resolveAccessTokenValue());
-        String deleteUrl = "https://translation.googleapis.com/v3/" + glossaryResourceName;
+        String deleteUrl = googleApiBaseUrl + "/" + glossaryResourceName;
         try {
             ResponseEntity<GoogleLongRunningOperation> response = restTemplate.exchange(
                     deleteUrl,
@@ -2330,7 +3279,7 @@ public class TranslationService {
     }
 
     private void waitForOperationCompletion(String operationName) {
-        String operationUrl = "https://translation.googleapis.com/v3/" + operationName;
+        String operationUrl = googleApiBaseUrl + "/" + operationName;
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(resolveAccessTokenValue());
         for (int attempt = 0; attempt < 120; attempt++) {
@@ -2403,6 +3352,14 @@ public class TranslationService {
         return "projects/" + googleProjectId + "/locations/" + googleLocation + "/glossaries/" + normalized;
     }
 
+    private String stripTrailingSlash(String value) {
+        String normalized = value == null || value.isBlank() ? "https://translation.googleapis.com/v3" : value.trim();
+        while (normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized;
+    }
+
     private void requireGoogleProjectId() {
         if (googleProjectId == null || googleProjectId.isBlank()) {
             throw new IllegalStateException("Google project id is missing. Configure it via environment variable or local.properties");
@@ -2489,6 +3446,9 @@ public class TranslationService {
         if (googleBatchSize <= 0) {
             throw new IllegalStateException("Google batch size must be greater than zero");
         }
+        if (googleMaxCodepointsPerBatch <= 0) {
+            throw new IllegalStateException("Google max codepoints per batch must be greater than zero");
+        }
     }
 
     private void requireValidRetrySettings() {
@@ -2500,6 +3460,18 @@ public class TranslationService {
         }
     }
 
+    private void requireValidMaxConcurrentBatches() {
+        if (googleMaxConcurrentBatches <= 0) {
+            throw new IllegalStateException("Google max concurrent batches must be greater than zero");
+        }
+    }
+
+    private void requireValidMaxConcurrentLanguages() {
+        if (maxConcurrentLanguages <= 0) {
+            throw new IllegalStateException("Max concurrent languages must be greater than zero");
+        }
+    }
+
     private void validateGlossaryConfiguration() {
         if (!googleGlossaryEnabled) {
             return;
@@ -2653,6 +3625,15 @@ public class TranslationService {
     ) {
     }
 
+    private record PendingGoogleBatch(int start, int end, List<Integer> itemIndexes, List<String> contents) {
+    }
+
+    private record CompletedGoogleBatch(int batchNumber, List<String> translations) {
+    }
+
+    private record ContentSegment(int start, int end, List<String> contents) {
+    }
+
     private record GoogleGlossaryCreateRequest(GoogleGlossaryDefinition glossary) {
     }
 
@@ -2839,7 +3820,16 @@ public class TranslationService {
             int warningCount,
             Map<String, Long> issueCountsByType,
             Map<String, Long> countsByPrefix,
-            int duplicateInconsistencyFindings
+            int duplicateInconsistencyFindings,
+            String riskyTermsVersion
+    ) {
+    }
+
+    private record RowValidation(
+            ValidationReportRow row,
+            PreprocessingReportItem preprocessing,
+            List<ValidationIssue> issues,
+            String normalizedSource
     ) {
     }
 
@@ -2851,7 +3841,14 @@ public class TranslationService {
     ) {
     }
 
-    private record TranslationPipelineResult(List<String> translatedTexts, ValidationReport validationReport) {
+    private record PreparedSource(List<PreparedTranslationItem> protectedItems, RiskyTermsRegistry.RiskyTerms configuredRiskyTerms) {
+    }
+
+    private record TranslationPipelineResult(
+            List<String> translatedTexts,
+            ValidationReport validationReport,
+            Set<String> untranslatedKeys
+    ) {
     }
 
     public record AdaptiveDatasetSyncResult(
@@ -12,6 +12,10 @@ let preferredDisplayLanguage = "";
 let compareDifferences = [];
 let compareStatusFilter = 'ALL';
 let compareSelectedKeys = new Set();
+let compareStatusCounts = {};
+let compareTotalDifferences = 0;
+let compareNextCursor = null;
+const COMPARE_PAGE_SIZE = 200;
 let originalRowsSnapshot = new Map();
 let availableFiles = [];
 let mergedPayload = null;
@@ -49,6 +53,7 @@ const elements = {
   syncAdaptiveDatasetGroup: document.getElementById('syncAdaptiveDatasetGroup'),
   targetLanguageSelect: document.getElementById('targetLanguage'),
   openAiPostProcess: document.getElementById('openAiPostProcess'),
+  deltaTranslation: document.getElementById('deltaTranslation'),
   estimateOpenAiCostBtn: document.getElementById('estimateOpenAiCostBtn'),
   openAiCostEstimate: document.getElementById('openAiCostEstimate'),
   translateBtn: document.getElementById('translateBtn'),
@@ -72,6 +77,7 @@ const elements = {
   compareResultContainer: document.getElementById('compareResultContainer'),
   compareSummary: document.getElementById('compareSummary'),
   compareResultBody: document.getElementById('compareResultBody'),
+  compareLoadMoreBtn: document.getElementById('compareLoadMoreBtn'),
   selectAllCompareRows: document.getElementById('selectAllCompareRows'),
   tabButtons: document.querySelectorAll('.tab-button'),
   tabPanels: document.querySelectorAll('.tab-panel'),
@@ -426,11 +432,18 @@ async function readApiErrorMessage(res, fallbackMessage) {
   }
 }
 
-async function compareFiles(file1, file2) {
-  const res = await fetch('/api/translations/compare', {
+async function fetchComparePage(file1, file2, status, cursor) {
+  const res = await fetch('/api/translations/compare/page', {
     method: 'POST',
     headers: { 'Content-Type': 'application/json' },
-    body: JSON.stringify({ fileName1: file1, fileName2: file2, context: activeContext })
+    body: JSON.stringify({
+      fileName1: file1,
+      fileName2: file2,
+      context: activeContext,
+      status,
+      cursor,
+      limit: COMPARE_PAGE_SIZE
+    })
   });
 
   if (!res.ok) throw new Error(await readApiErrorMessage(res, `Unable to compare files (HTTP ${res.status})`));
@@ -464,22 +477,23 @@ async function translateAndImportCompareRows(sourceFileName, targetFileName, row
 
 
 function getFilteredCompareDifferences() {
-  if (compareStatusFilter === 'ALL') {
-    return compareDifferences;
-  }
-
-  return compareDifferences.filter((item) => (item.status || '') === compareStatusFilter);
+  // The server applies the status filter, so every loaded row matches it.
+  return compareDifferences;
 }
 
 function renderCompareStatusFilterOptions() {
-  const statuses = [...new Set(compareDifferences.map((item) => item.status).filter(Boolean))].sort();
+  const statuses = Object.keys(compareStatusCounts)
+    .filter((status) => Number(compareStatusCounts[status]) > 0 || status === compareStatusFilter)
+    .sort();
   const options = ['ALL', ...statuses];
 
   elements.compareStatusFilter.innerHTML = '';
   options.forEach((status) => {
     const option = document.createElement('option');
     option.value = status;
-    option.textContent = status === 'ALL' ? 'All statuses' : status;
+    option.textContent = status === 'ALL'
+      ? `All statuses (${compareTotalDifferences})`
+      : `${status} (${Number(compareStatusCounts[status] || 0)})`;
     elements.compareStatusFilter.appendChild(option);
   });
 
@@ -492,12 +506,15 @@ function renderCompareStatusFilterOptions() {
 
 function renderCompareResult() {
   const differences = getFilteredCompareDifferences();
-  const totalDifferences = compareDifferences.length;
-  const filteredSuffix = compareStatusFilter === 'ALL'
-    ? `${totalDifferences} difference(s)`
-    : `${differences.length} of ${totalDifferences} difference(s)`;
+  const matchingDifferences = compareStatusFilter === 'ALL'
+    ? compareTotalDifferences
+    : Number(compareStatusCounts[compareStatusFilter] || 0);
+  const filteredSuffix = differences.length === matchingDifferences
+    ? `${matchingDifferences} difference(s)`
+    : `showing ${differences.length} of ${matchingDifferences} difference(s)`;
 
   elements.compareResultContainer.classList.remove('hidden');
+  elements.compareLoadMoreBtn.classList.toggle('hidden', !compareNextCursor);
   elements.compareTranslateImportBtn.disabled = !['Missing in file 1', 'Missing in file 2'].includes(compareStatusFilter) || differences.length === 0;
   elements.compareSummary.textContent = `${elements.compareFile1.value} vs ${elements.compareFile2.value} (${filteredSuffix})`;
 
@@ -556,14 +573,31 @@ function renderCompareResult() {
   });
 }
 
-function showCompareResult(result) {
-  compareDifferences = result.differences || [];
-  compareStatusFilter = 'ALL';
-  compareSelectedKeys = new Set(compareDifferences.map((item) => item.keyPath));
+function showCompareResult(page, append = false) {
+  const differences = page.differences || [];
+  compareDifferences = append ? compareDifferences.concat(differences) : differences;
+  compareStatusCounts = page.statusCounts || {};
+  compareTotalDifferences = Number(page.totalDifferences || 0);
+  compareNextCursor = page.nextCursor || null;
+  compareStatusFilter = page.status || 'ALL';
+  if (!append) {
+    compareSelectedKeys = new Set();
+  }
+  differences.forEach((item) => compareSelectedKeys.add(item.keyPath));
   renderCompareStatusFilterOptions();
   renderCompareResult();
 }
 
+async function loadComparePage(append = false) {
+  const page = await fetchComparePage(
+    elements.compareFile1.value,
+    elements.compareFile2.value,
+    compareStatusFilter,
+    append ? compareNextCursor : null
+  );
+  showCompareResult(page, append);
+}
+
 function buildRowIdentity(section, key) {
   return `${section || ''}.${key || ''}`;
 }
@@ -746,8 +780,7 @@ async function handleCompareTranslateImport() {
   const result = await translateAndImportCompareRows(sourceFileName, targetFileName, rowsToTranslate);
   showSuccessMessage(`Translated and imported ${Number(result.textCount || 0)} row(s) into ${result.outputFileName}.`);
 
-  const compareResult = await compareFiles(elements.compareFile1.value, elements.compareFile2.value);
-  showCompareResult(compareResult);
+  await loadComparePage();
 }
 
 async function loadRows() {
@@ -794,7 +827,8 @@ async function requestTranslationCancellation(requestId) {
     return;
   }
   try {
-    await fetch(`/api/translations/translate/${encodeURIComponent(requestId)}/cancel`, {
+    // The job is submitted with the request id as its job id.
+    await fetch(`/api/translations/jobs/${encodeURIComponent(requestId)}/cancel`, {
       method: 'POST'
     });
   } catch (error) {
@@ -810,7 +844,7 @@ async function translateAndStore(targetLanguage, signal, requestId) {
       text: r.column2
     }));
 
-  const res = await fetch('/api/translations/translate', {
+  const res = await fetch('/api/translations/jobs', {
     method: 'POST',
     headers: {
       'Content-Type': 'application/json',
@@ -822,6 +856,7 @@ async function translateAndStore(targetLanguage, signal, requestId) {
       context: activeContext,
       mode: translationMode,
       postProcessWithOpenAi: elements.openAiPostProcess ? elements.openAiPostProcess.checked : true,
+      delta: elements.deltaTranslation ? elements.deltaTranslation.checked : false,
       targetLanguage,
       rows: payloadRows
     })
@@ -830,7 +865,53 @@ async function translateAndStore(targetLanguage, signal, requestId) {
   if (!res.ok) {
     throw new Error(await readApiErrorMessage(res, `Failed to translate text via Google API (HTTP ${res.status})`));
   }
-  return res.json();
+  const job = await res.json();
+  await waitForTranslationJob(job.jobId, signal);
+
+  const resultRes = await fetch(`/api/translations/jobs/${encodeURIComponent(job.jobId)}/result`, { signal });
+  if (!resultRes.ok) {
+    throw new Error(await readApiErrorMessage(resultRes, `Failed to translate text via Google API (HTTP ${resultRes.status})`));
+  }
+  return resultRes.json();
+}
+
+function waitForTranslationJob(jobId, signal) {
+  return new Promise((resolve, reject) => {
+    const events = new EventSource(`/api/translations/jobs/${encodeURIComponent(jobId)}/events`);
+    let lastRetries = 0;
+    const finish = (callback) => {
+      events.close();
+      signal.removeEventListener('abort', onAbort);
+      callback();
+    };
+    const onAbort = () => finish(() => reject(new DOMException('Translation stopped', 'AbortError')));
+    signal.addEventListener('abort', onAbort);
+
+    const onProgress = (event) => {
+      const job = JSON.parse(event.data);
+      const queued = Number(job.queuedItems || 0);
+      const completed = Number(job.completedItems || 0);
+      const ratio = queued > 0 ? Math.min(1, completed / queued) : 0;
+      const retries = Number(job.retries || 0);
+      updateTranslationProgress(
+        25 + ratio * 50,
+        `Translating... ${completed} of ${queued} strings done${job.route ? ` (${job.route})` : ''}`,
+        retries > lastRetries ? job.message : null
+      );
+      lastRetries = retries;
+    };
+    events.addEventListener('status', onProgress);
+    events.addEventListener('progress', onProgress);
+    events.addEventListener('retry', onProgress);
+    ['succeeded', 'failed', 'cancelled'].forEach((name) => {
+      events.addEventListener(name, () => finish(resolve));
+    });
+    events.onerror = () => {
+      if (events.readyState === EventSource.CLOSED) {
+        finish(resolve);
+      }
+    };
+  });
 }
 
 function getSelectedRows() {
@@ -1338,8 +1419,8 @@ async function handleCompare() {
     return;
   }
 
-  const result = await compareFiles(file1, file2);
-  showCompareResult(result);
+  compareStatusFilter = 'ALL';
+  await loadComparePage();
 }
 
 function handleRowsPerPageChange() {
@@ -1619,8 +1700,9 @@ elements.estimateOpenAiCostBtn.addEventListener('click', () => handleEstimateOpe
 elements.compareBtn.addEventListener('click', () => handleCompare().catch((e) => alert(e.message)));
 elements.compareStatusFilter.addEventListener('change', () => {
   compareStatusFilter = elements.compareStatusFilter.value;
-  renderCompareResult();
+  loadComparePage().catch((e) => alert(e.message));
 });
+elements.compareLoadMoreBtn.addEventListener('click', () => loadComparePage(true).catch((e) => alert(e.message)));
 elements.selectAllCompareRows.addEventListener('change', (e) => {
   const differences = getFilteredCompareDifferences();
   if (e.target.checked) {
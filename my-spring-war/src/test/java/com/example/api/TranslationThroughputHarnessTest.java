@@ -0,0 +1,231 @@
+package com.example.api;
+
+import com.example.api.dto.TranslationRow;
+import com.example.service.TranslationService;
+import com.example.upstream.FakeGoogleTranslateServer;
+import com.example.upstream.FakeOpenAiServer;
+import com.example.upstream.FakeUpstreamServer.Behavior;
+import com.example.upstream.FakeUpstreamServer.LatencyDistribution;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load harness: boots the whole app against the embedded Google and OpenAI
+ * stand-ins and drives {@code POST /api/translations/translate} with concurrent clients,
+ * then prints rows/s and request latency percentiles. Opt-in, like the other benchmarks:
+ *
+ * <pre>
+ * mvn -B test -Dtest=TranslationThroughputHarnessTest -Dbenchmark=true \
+ *     -Dharness.clients=8 -Dharness.requestsPerClient=5 -Dharness.rowsPerRequest=500 \
+ *     -Dharness.latencyMedianMs=80 -Dharness.latencyP99Ms=400 \
+ *     -Dharness.tooManyRequestsRate=0.02 -Dharness.serverErrorRate=0.01 -Dharness.maxRequestsPerSecond=200
+ * </pre>
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "myapp.http.warmUpEnabled=false",
+                "myapp.http.logging.mode=metadata",
+                "myapp.log.directory=target/harness/logs",
+                "myapp.google.projectId=load-test-project",
+                "myapp.google.credentialsPath=",
+                "myapp.google.glossaryEnabled=false",
+                "myapp.translationMemory.enabled=false",
+                "myapp.translation.checkpoints.enabled=false",
+                "openai.api-key=fake-key",
+                "openai.enabled=true"
+        }
+)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TranslationThroughputHarnessTest {
+    private static final List<String> TARGET_LANGUAGES = List.of("fr", "de", "es", "it", "bg", "pl", "nl", "pt", "ro", "cs", "sv", "da");
+
+    private static FakeGoogleTranslateServer google;
+    private static FakeOpenAiServer openAi;
+    private static Path dataDir;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    TranslationService translationService;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws Exception {
+        Behavior behavior = Behavior.healthy()
+                .withLatency(LatencyDistribution.logNormal(
+                        Long.getLong("harness.latencyMedianMs", 80),
+                        Long.getLong("harness.latencyP99Ms", 400)))
+                .withTooManyRequestsRate(Double.parseDouble(System.getProperty("harness.tooManyRequestsRate", "0.02")))
+                .withServerErrorRate(Double.parseDouble(System.getProperty("harness.serverErrorRate", "0.01")))
+                .withMaxRequestsPerSecond(Integer.getInteger("harness.maxRequestsPerSecond", 200));
+        google = new FakeGoogleTranslateServer(behavior);
+        openAi = new FakeOpenAiServer(behavior);
+        dataDir = Files.createTempDirectory("translation-harness");
+
+        registry.add("myapp.google.apiBaseUrl", google::apiBaseUrl);
+        registry.add("myapp.google.maxConcurrentBatches", () -> Integer.getInteger("harness.googleConcurrentBatches", 4));
+        registry.add("openai.base-url", openAi::baseUrl);
+        registry.add("openai.max-concurrent-requests", () -> Integer.getInteger("harness.openAiConcurrentRequests", 4));
+        registry.add("openai.report-path", () -> dataDir.resolve("reports").toString());
+        registry.add("myapp.dataDir", () -> dataDir.resolve("source").toString());
+        registry.add("myapp.crm.sourceFilesDirectory", () -> dataDir.resolve("source").toString());
+        registry.add("myapp.crm.translatedJsonDirectory", () -> dataDir.resolve("translated").toString());
+    }
+
+    @AfterAll
+    static void stopUpstreams() {
+        google.close();
+        openAi.close();
+    }
+
+    @BeforeEach
+    void seedGoogleAccessToken() throws Exception {
+        AccessToken token = new AccessToken("harness-token", new Date(System.currentTimeMillis() + 3_600_000));
+        Field credentialsField = TranslationService.class.getDeclaredField("googleCredentials");
+        credentialsField.setAccessible(true);
+        credentialsField.set(translationService, GoogleCredentials.create(token));
+        Field accessTokenField = TranslationService.class.getDeclaredField("cachedAccessToken");
+        accessTokenField.setAccessible(true);
+        accessTokenField.set(translationService, token);
+    }
+
+    @Test
+    void translateEndpointThroughputAgainstStandInUpstreams() throws Exception {
+        int clients = Integer.getInteger("harness.clients", 8);
+        int requestsPerClient = Integer.getInteger("harness.requestsPerClient", 5);
+        int rowsPerRequest = Integer.getInteger("harness.rowsPerRequest", 500);
+        boolean postProcessWithOpenAi = Boolean.parseBoolean(System.getProperty("harness.openAi", "true"));
+
+        ObjectMapper mapper = new ObjectMapper();
+        List<TranslationRow> rows = syntheticRows(rowsPerRequest, new Random(42));
+        Path sourceDir = Files.createDirectories(dataDir.resolve("source"));
+        Map<String, Map<String, String>> sourceSections = new LinkedHashMap<>();
+        for (TranslationRow row : rows) {
+            sourceSections.computeIfAbsent(row.getSection(), ignored -> new LinkedHashMap<>()).put(row.getKey(), row.getText());
+        }
+        mapper.writeValue(sourceDir.resolve("en.json").toFile(), sourceSections);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        URI translateUri = URI.create("http://localhost:" + port + "/api/translations/translate");
+        List<Long> latenciesMillis = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+        AtomicInteger requestIds = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long startedAt = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int clientIndex = 0; clientIndex < clients; clientIndex++) {
+                // One target language per client keeps concurrent runs from writing the same output file.
+                String targetLanguage = TARGET_LANGUAGES.get(clientIndex % TARGET_LANGUAGES.size());
+                futures.add(executor.submit(() -> {
+                    for (int n = 0; n < requestsPerClient; n++) {
+                        Map<String, Object> request = new LinkedHashMap<>();
+                        request.put("context", "crm");
+                        request.put("fileName", "en.json");
+                        request.put("targetLanguage", targetLanguage);
+                        request.put("mode", "adaptive");
+                        request.put("postProcessWithOpenAi", postProcessWithOpenAi);
+                        request.put("rows", rows);
+                        HttpRequest httpRequest = HttpRequest.newBuilder(translateUri)
+                                .header("Content-Type", "application/json")
+                                .header("X-Translation-Request-Id", "harness-" + requestIds.incrementAndGet())
+                                .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(request)))
+                                .build();
+                        long requestStartedAt = System.nanoTime();
+                        HttpResponse<String> response = client.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+                        latenciesMillis.add((System.nanoTime() - requestStartedAt) / 1_000_000);
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                            System.out.println("Harness request failed status=" + response.statusCode() + " body=" + response.body());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        List<Long> sorted = new ArrayList<>(latenciesMillis);
+        Collections.sort(sorted);
+        long succeededRows = (long) (sorted.size() - failures.get()) * rowsPerRequest;
+        System.out.printf(
+                "Harness clients=%d, requests=%d, rowsPerRequest=%d, failed=%d, elapsed=%.1fs, rows/s=%.0f, p50=%dms, p95=%dms, p99=%dms%n",
+                clients, sorted.size(), rowsPerRequest, failures.get(), elapsedSeconds, succeededRows / elapsedSeconds,
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99)
+        );
+        System.out.println("Harness google " + google.stats() + ", translatedTexts=" + google.translatedTexts());
+        System.out.println("Harness openai " + openAi.stats() + ", reviewedItems=" + openAi.reviewedItems());
+        assertTrue(failures.get() < sorted.size(), "every harness request failed");
+    }
+
+    private static long percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+    private static List<TranslationRow> syntheticRows(int count, Random random) {
+        List<String> labels = List.of("Apply", "Save", "Close", "Cancel", "Clear", "Run", "View", "Next", "Back", "Export");
+        List<String> words = List.of("account", "report", "invoice", "customer", "order", "payment", "the", "your", "was", "please", "review", "new");
+        List<String> placeholders = List.of("{{user.name}}", "{count}", "%1$s", "<b>", "{date}");
+        List<TranslationRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int kind = random.nextInt(100);
+            StringBuilder text = new StringBuilder();
+            if (kind < 15) {
+                text.append(labels.get(random.nextInt(labels.size())));
+            } else {
+                int wordCount = 4 + random.nextInt(8);
+                for (int w = 0; w < wordCount; w++) {
+                    text.append(w == 0 ? "" : " ").append(words.get(random.nextInt(words.size())));
+                }
+                if (kind < 45) {
+                    text.append(' ').append(placeholders.get(random.nextInt(placeholders.size())));
+                }
+            }
+            rows.add(new TranslationRow("section" + (i / 100), "key" + i, text.toString(), text.toString()));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.config;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApiTrafficLoggingFilterTest {
+
+    @Test
+    void filterStreamsWholeBodiesButCapturesOnlyTheConfiguredPrefix() throws Exception {
+        ApiTrafficLoggingFilter filter = new ApiTrafficLoggingFilter(16, "", 1);
+        byte[] requestBody = "{\"rows\":[\"a\",\"b\",\"c\",\"d\",\"e\",\"f\"]}".getBytes(StandardCharsets.UTF_8);
+        String responseBody = "{\"translated\":[\"A\",\"B\",\"C\",\"D\",\"E\",\"F\"]}";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/translations/translate");
+        request.setContentType("application/json");
+        request.setContent(requestBody);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<byte[]> readByChain = new AtomicReference<>();
+        AtomicReference<ServletRequest> wrappedRequest = new AtomicReference<>();
+        AtomicReference<ServletResponse> wrappedResponse = new AtomicReference<>();
+
+        filter.doFilter(request, response, new MockFilterChain(new jakarta.servlet.http.HttpServlet() {
+            @Override
+            protected void service(jakarta.servlet.http.HttpServletRequest req, jakarta.servlet.http.HttpServletResponse res)
+                    throws java.io.IOException {
+                wrappedRequest.set(req);
+                wrappedResponse.set(res);
+                readByChain.set(req.getInputStream().readAllBytes());
+                res.setContentType("application/json");
+                res.setCharacterEncoding("UTF-8");
+                res.getWriter().write(responseBody);
+            }
+        }));
+
+        assertArrayEquals(requestBody, readByChain.get());
+        assertEquals(responseBody, response.getContentAsString());
+        BoundedByteCapture requestCapture = ((BoundedCaptureRequestWrapper) wrappedRequest.get()).capture();
+        BoundedByteCapture responseCapture = ((BoundedCaptureResponseWrapper) wrappedResponse.get()).capture();
+        assertEquals(16, requestCapture.capturedBytes().length);
+        assertEquals(requestBody.length, requestCapture.totalBytes());
+        assertTrue(requestCapture.truncated());
+        assertEquals(16, responseCapture.capturedBytes().length);
+        assertEquals(responseBody.length(), responseCapture.totalBytes());
+    }
+
+    @Test
+    void excludedPathsAndUnsampledRequestsAreNotWrapped() throws Exception {
+        ApiTrafficLoggingFilter filter = new ApiTrafficLoggingFilter(16, "/api/translations/load, /actuator", 2);
+
+        MockHttpServletRequest excluded = new MockHttpServletRequest("GET", "/api/translations/load");
+        MockFilterChain excludedChain = new MockFilterChain();
+        filter.doFilter(excluded, new MockHttpServletResponse(), excludedChain);
+        assertSame(excluded, excludedChain.getRequest());
+
+        MockFilterChain firstChain = new MockFilterChain();
+        MockHttpServletRequest first = new MockHttpServletRequest("POST", "/api/translations/translate");
+        filter.doFilter(first, new MockHttpServletResponse(), firstChain);
+        MockFilterChain secondChain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/translations/translate"), new MockHttpServletResponse(), secondChain);
+
+        assertSame(first, firstChain.getRequest());
+        assertFalse(secondChain.getRequest() instanceof MockHttpServletRequest);
+    }
+}
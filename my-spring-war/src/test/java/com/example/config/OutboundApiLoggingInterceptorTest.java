@@ -3,14 +3,25 @@ package com.example.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
 import java.lang.reflect.Method;
+import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class OutboundApiLoggingInterceptorTest {
@@ -66,4 +77,35 @@ class OutboundApiLoggingInterceptorTest {
         assertFalse(formatted.contains("ðƒ"));
         assertTrue(formatted.contains("\"finalText\" : \"Преглед на роли\""));
     }
+
+    @Test
+    void boundedModeStreamsLargeResponseBodiesThroughUnchangedAndStripsRequestIdHeader() throws Exception {
+        OutboundApiLoggingInterceptor interceptor = new OutboundApiLoggingInterceptor(
+                new ObjectMapper(), OutboundApiLoggingInterceptor.Mode.BOUNDED, 16, 64, 0, Set.of());
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("https://translation.googleapis.com/v3/x"));
+        request.getHeaders().set(OutboundApiLoggingInterceptor.TRANSLATION_REQUEST_ID_HEADER, "req-1");
+        byte[] responseBody = "{\"translations\":[{\"translatedText\":\"Приложи промените\"}]}".getBytes(StandardCharsets.UTF_8);
+        AtomicReference<HttpHeaders> sentHeaders = new AtomicReference<>();
+
+        ClientHttpResponse response = interceptor.intercept(request, "{}".getBytes(StandardCharsets.UTF_8), (sentRequest, body) -> {
+            sentHeaders.set(HttpHeaders.readOnlyHttpHeaders(sentRequest.getHeaders()));
+            return new MockClientHttpResponse(responseBody, HttpStatus.OK);
+        });
+
+        assertFalse(sentHeaders.get().containsKey(OutboundApiLoggingInterceptor.TRANSLATION_REQUEST_ID_HEADER));
+        assertArrayEquals(responseBody, response.getBody().readAllBytes());
+    }
+
+    @Test
+    void resolveModeLogsFullBodiesForSelectedRequestIdsAndSampledCalls() {
+        OutboundApiLoggingInterceptor interceptor = new OutboundApiLoggingInterceptor(
+                new ObjectMapper(), OutboundApiLoggingInterceptor.Mode.METADATA, 4000, 16384, 3, Set.of("req-debug"));
+
+        assertEquals(OutboundApiLoggingInterceptor.Mode.FULL, interceptor.resolveMode("req-debug"));
+        assertEquals(OutboundApiLoggingInterceptor.Mode.METADATA, interceptor.resolveMode("req-1"));
+        assertEquals(OutboundApiLoggingInterceptor.Mode.METADATA, interceptor.resolveMode(null));
+        assertEquals(OutboundApiLoggingInterceptor.Mode.FULL, interceptor.resolveMode(null));
+        assertEquals(OutboundApiLoggingInterceptor.Mode.BOUNDED, OutboundApiLoggingInterceptor.Mode.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> OutboundApiLoggingInterceptor.Mode.parse("verbose"));
+    }
 }
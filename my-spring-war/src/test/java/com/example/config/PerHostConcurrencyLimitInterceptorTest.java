@@ -0,0 +1,100 @@
+package com.example.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PerHostConcurrencyLimitInterceptorTest {
+
+    @Test
+    void parseHostOverridesReadsHostLimitPairs() {
+        Map<String, Integer> overrides = OutboundHttpClientConfig.parseHostOverrides(
+                " Translation.GoogleAPIs.com=32 , api.openai.com=8");
+
+        assertEquals(Map.of("translation.googleapis.com", 32, "api.openai.com", 8), overrides);
+        assertThrows(IllegalStateException.class, () -> OutboundHttpClientConfig.parseHostOverrides("api.openai.com"));
+        assertThrows(IllegalStateException.class, () -> OutboundHttpClientConfig.parseHostOverrides("api.openai.com=0"));
+    }
+
+    @Test
+    void interceptCapsInFlightRequestsPerHost() throws Exception {
+        PerHostConcurrencyLimitInterceptor interceptor = new PerHostConcurrencyLimitInterceptor(
+                4, Map.of("translation.googleapis.com", 2));
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(2);
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            Future<?>[] futures = new Future<?>[6];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> {
+                    interceptor.intercept(
+                            new MockClientHttpRequest(HttpMethod.POST, URI.create("https://translation.googleapis.com/v3/x")),
+                            new byte[0],
+                            (request, body) -> {
+                                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                                started.countDown();
+                                pause(started);
+                                inFlight.decrementAndGet();
+                                return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+                            }).close();
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, maxInFlight.get());
+        assertEquals(4, interceptor.maxConcurrentRequestsFor("api.openai.com"));
+        assertTrue(started.getCount() == 0);
+    }
+
+    @Test
+    void interceptHoldsPermitUntilResponseBodyIsConsumedOrClosed() throws Exception {
+        PerHostConcurrencyLimitInterceptor interceptor = new PerHostConcurrencyLimitInterceptor(2, Map.of());
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("https://api.openai.com/v1/responses"));
+
+        ClientHttpResponse read = interceptor.intercept(request, new byte[0],
+                (ignored, body) -> new MockClientHttpResponse("{}".getBytes(), HttpStatus.OK));
+        ClientHttpResponse unread = interceptor.intercept(request, new byte[0],
+                (ignored, body) -> new MockClientHttpResponse("{}".getBytes(), HttpStatus.OK));
+        assertEquals(0, interceptor.availablePermitsFor("api.openai.com"));
+
+        read.getBody().readAllBytes();
+        assertEquals(1, interceptor.availablePermitsFor("api.openai.com"));
+        read.close();
+        assertEquals(1, interceptor.availablePermitsFor("api.openai.com"));
+
+        unread.close();
+        assertEquals(2, interceptor.availablePermitsFor("api.openai.com"));
+    }
+
+    private void pause(CountDownLatch started) {
+        try {
+            started.await(1, TimeUnit.SECONDS);
+            Thread.sleep(20);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
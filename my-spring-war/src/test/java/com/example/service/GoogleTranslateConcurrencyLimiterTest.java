@@ -0,0 +1,81 @@
+package com.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GoogleTranslateConcurrencyLimiterTest {
+
+    @Test
+    void overloadHalvesLimitOncePerWindowAndSuccessesGrowItAdditively() {
+        GoogleTranslateConcurrencyLimiter limiter = new GoogleTranslateConcurrencyLimiter(true, 8, 1, 16, 0.5);
+        List<GoogleTranslateConcurrencyLimiter.Permit> window = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            window.add(limiter.acquire(() -> { }));
+        }
+        assertEquals(8, limiter.snapshot().inFlight());
+
+        window.forEach(permit -> limiter.release(permit, GoogleTranslateConcurrencyLimiter.Outcome.OVERLOADED));
+
+        GoogleTranslateConcurrencyLimiter.Snapshot afterOverload = limiter.snapshot();
+        assertEquals(4, afterOverload.limit());
+        assertEquals(8, afterOverload.overloads());
+        assertEquals(1, afterOverload.limitDecreases());
+        assertEquals(0, afterOverload.inFlight());
+
+        for (int i = 0; i < 4; i++) {
+            limiter.release(limiter.acquire(() -> { }), GoogleTranslateConcurrencyLimiter.Outcome.SUCCESS);
+        }
+        assertEquals(5, limiter.snapshot().limit());
+        assertEquals(1, limiter.snapshot().limitIncreases());
+    }
+
+    @Test
+    void acquireQueuesCallersAboveTheLimitAndHonoursCancellation() throws Exception {
+        GoogleTranslateConcurrencyLimiter limiter = new GoogleTranslateConcurrencyLimiter(true, 1, 1, 4, 0.5);
+        GoogleTranslateConcurrencyLimiter.Permit held = limiter.acquire(() -> { });
+        AtomicBoolean cancelled = new AtomicBoolean();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> waiter = executor.submit(() -> limiter.acquire(() -> {
+                if (cancelled.get()) {
+                    throw new CancellationException("cancelled");
+                }
+            }));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (limiter.snapshot().queued() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, limiter.snapshot().queued());
+
+            cancelled.set(true);
+            Exception failure = assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS));
+            assertTrue(failure.getCause() instanceof CancellationException);
+            assertEquals(0, limiter.snapshot().queued());
+        } finally {
+            executor.shutdownNow();
+        }
+        limiter.release(held, GoogleTranslateConcurrencyLimiter.Outcome.IGNORED);
+        assertEquals(0, limiter.snapshot().inFlight());
+        assertEquals(1, limiter.snapshot().limit());
+    }
+
+    @Test
+    void outcomeForStatusTreatsOnly429And503AsOverload() {
+        assertEquals(GoogleTranslateConcurrencyLimiter.Outcome.OVERLOADED, GoogleTranslateConcurrencyLimiter.outcomeForStatus(429));
+        assertEquals(GoogleTranslateConcurrencyLimiter.Outcome.OVERLOADED, GoogleTranslateConcurrencyLimiter.outcomeForStatus(503));
+        assertEquals(GoogleTranslateConcurrencyLimiter.Outcome.IGNORED, GoogleTranslateConcurrencyLimiter.outcomeForStatus(500));
+        assertEquals(GoogleTranslateConcurrencyLimiter.Outcome.SUCCESS, GoogleTranslateConcurrencyLimiter.outcomeForStatus(200));
+    }
+}
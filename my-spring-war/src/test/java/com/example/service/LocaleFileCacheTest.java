@@ -0,0 +1,100 @@
+package com.example.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocaleFileCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void repeatedLookupsAreServedFromMemoryUntilTheFileChanges() throws Exception {
+        LocaleFileCache cache = new LocaleFileCache(true, 1);
+        Path file = Files.writeString(tempDir.resolve("en.json"), "v1");
+        AtomicInteger loads = new AtomicInteger();
+        LocaleFileCache.Loader loader = path -> {
+            loads.incrementAndGet();
+            return Map.of("section", Map.of("key", Files.readString(path)));
+        };
+        try {
+            Map<String, Map<String, String>> first = cache.get(file, loader);
+            assertSame(first, cache.get(file, loader));
+            assertEquals(1, loads.get());
+            assertThrows(UnsupportedOperationException.class, () -> first.get("section").put("key", "changed"));
+
+            Files.writeString(file, "v2-longer");
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+            assertEquals("v2-longer", cache.get(file, loader).get("section").get("key"));
+            assertEquals(2, loads.get());
+
+            LocaleFileCache.Stats stats = cache.stats();
+            assertEquals(1, stats.hits());
+            assertEquals(2, stats.misses());
+        } finally {
+            cache.shutdown();
+        }
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvictedWhenTheMemoryBoundIsExceeded() throws Exception {
+        LocaleFileCache cache = new LocaleFileCache(true, 1);
+        Path first = Files.writeString(tempDir.resolve("a.json"), "{}");
+        Path second = Files.writeString(tempDir.resolve("b.json"), "{}");
+        // Roughly 600 KB of estimated weight each, so only one fits in 1 MB.
+        LocaleFileCache.Loader loader = path -> {
+            Map<String, String> keys = new LinkedHashMap<>();
+            for (int i = 0; i < 2000; i++) {
+                keys.put("key" + i, "x".repeat(100));
+            }
+            return Map.of("section", keys);
+        };
+        try {
+            cache.get(first, loader);
+            cache.get(second, loader);
+
+            LocaleFileCache.Stats stats = cache.stats();
+            assertEquals(1, stats.entries());
+            assertEquals(1, stats.evictions());
+            assertTrue(stats.weightBytes() <= stats.maxWeightBytes());
+        } finally {
+            cache.shutdown();
+        }
+    }
+
+    @Test
+    void watchServiceDropsEntriesForFilesChangedOnDisk() throws Exception {
+        LocaleFileCache cache = new LocaleFileCache(true, 1);
+        Path file = Files.writeString(tempDir.resolve("fr.json"), "v1");
+        LocaleFileCache.Loader loader = path -> Map.of("section", Map.of("key", Files.readString(path)));
+        try {
+            cache.get(file, loader);
+            assertEquals(1, cache.stats().entries());
+            assertEquals(1, cache.stats().watchedDirectories());
+
+            Files.writeString(file, "v2");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (cache.stats().entries() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(0, cache.stats().entries());
+            assertTrue(cache.stats().invalidations() >= 1);
+        } finally {
+            cache.shutdown();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocaleJsonStreamReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final LocaleJsonStreamReader reader = new LocaleJsonStreamReader(new JsonFactory());
+
+    @Test
+    void readStreamsStringEntriesInDocumentOrderAndSkipsOtherValues() throws Exception {
+        Path file = tempDir.resolve("en.json");
+        Files.writeString(file, """
+                {
+                  "first" : {
+                    "apply" : "Apply",
+                    "list" : [ "a", { "deep" : "b" } ],
+                    "nested" : { "inner" : "value" },
+                    "count" : 3,
+                    "cancel" : "Cancel"
+                  },
+                  "flat" : "not a section",
+                  "second" : {
+                    "save" : "Save \\"now\\""
+                  }
+                }
+                """);
+        List<String> entries = new ArrayList<>();
+
+        assertTrue(reader.read(file, (section, key, text) -> entries.add(section + "|" + key + "|" + text)));
+
+        assertEquals(List.of("first|apply|Apply", "first|cancel|Cancel", "second|save|Save \"now\""), entries);
+    }
+
+    @Test
+    void readReportsEmptyAndNullRootsAndRejectsNonObjectRoots() throws Exception {
+        Path empty = Files.writeString(tempDir.resolve("empty.json"), "");
+        Path nullRoot = Files.writeString(tempDir.resolve("null.json"), "null");
+        Path arrayRoot = Files.writeString(tempDir.resolve("array.json"), "[\"a\"]");
+
+        assertFalse(reader.read(empty, (section, key, text) -> { }));
+        assertFalse(reader.read(nullRoot, (section, key, text) -> { }));
+        assertThrows(IllegalArgumentException.class, () -> reader.read(arrayRoot, (section, key, text) -> { }));
+    }
+}
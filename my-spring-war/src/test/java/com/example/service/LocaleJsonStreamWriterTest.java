@@ -0,0 +1,64 @@
+package com.example.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LocaleJsonStreamWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final LocaleJsonStreamWriter writer = new LocaleJsonStreamWriter(mapper.getFactory());
+
+    @Test
+    void writeMatchesPrettyPrintedMapOutputAndOmitsUntranslatedEntries() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "b" : { "title" : "Hello", "count" : 3, "nested" : { "x" : "y" }, "skip" : "Skip" },
+                  "meta" : [ "keep", "array" ],
+                  "empty" : { "untranslated" : "Text" },
+                  "c" : { "quote" : "Say \\"hi\\"", "unicode" : "Приложи" }
+                }
+                """);
+        Map<String, String> translations = Map.of(
+                "b.title", "Bonjour",
+                "c.quote", "Dis \"salut\"",
+                "c.unicode", "Appliquer"
+        );
+        Path output = tempDir.resolve("fr.json");
+
+        int written = writer.write(source, output, (section, key) -> translations.get(section + "." + key));
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("b", Map.of("title", "Bonjour"));
+        Map<String, String> c = new LinkedHashMap<>();
+        c.put("quote", "Dis \"salut\"");
+        c.put("unicode", "Appliquer");
+        expected.put("c", c);
+        assertEquals(3, written);
+        assertEquals(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(expected), Files.readString(output));
+        assertEquals(List.of("en.json", "fr.json"), Files.list(tempDir).map(path -> path.getFileName().toString()).sorted().toList());
+    }
+
+    @Test
+    void writeRejectsNonObjectRootWithoutLeavingPartialOutput() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("en.json"), "[\"a\"]");
+        Path output = tempDir.resolve("fr.json");
+
+        assertThrows(IllegalArgumentException.class, () -> writer.write(source, output, (section, key) -> "x"));
+        assertFalse(Files.exists(output));
+        assertFalse(Files.exists(tempDir.resolve("fr.json.tmp")));
+    }
+}
@@ -5,6 +5,7 @@ import com.example.api.dto.TranslationReviewItem;
 import com.example.api.dto.TranslationReviewResponse;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.web.client.RestTemplateBuilder;
@@ -31,6 +32,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
@@ -40,6 +42,7 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
 class OpenAiTranslationReviewServiceTest {
 
     private final ObjectMapper mapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @TempDir
     Path tempDir;
@@ -72,6 +75,21 @@ class OpenAiTranslationReviewServiceTest {
         server.verify();
     }
 
+    @Test
+    void reviewSendsTranslationRequestIdHeaderForOutboundLogging() throws Exception {
+        OpenAiTranslationReviewService service = newService(true, "gpt-5.4", 100, 3, 1);
+        MockRestServiceServer server = bindMockServer(service);
+
+        server.expect(requestTo("https://api.openai.test/v1/responses"))
+                .andExpect(header("X-Translation-Request-Id", "job-42"))
+                .andRespond(openAiSuccessResponse());
+
+        service.reviewTranslations("en", "bg", "selfService", List.of(item("PayNow", "Pay Now", "Плати сега")),
+                "job-42", () -> false, reviewedBatch -> { });
+
+        server.verify();
+    }
+
     @Test
     void cancellationStopsOpenAiReviewBeforeStartingRequest() throws Exception {
         OpenAiTranslationReviewService service = newService(true, "gpt-5.4", 100, 3, 1);
@@ -162,6 +180,30 @@ class OpenAiTranslationReviewServiceTest {
         server.verify();
     }
 
+    @Test
+    void recordsBatchLatencyRetriesAndTokenUsageMetrics() throws Exception {
+        OpenAiTranslationReviewService service = newService(
+                true, "gpt-5.4", 100, 3, 1,
+                "1000000", "0", "2000000", "0"
+        );
+        MockRestServiceServer server = bindMockServer(service);
+        server.expect(requestTo("https://api.openai.test/v1/responses")).andRespond(withServerError());
+        server.expect(requestTo("https://api.openai.test/v1/responses")).andRespond(openAiSuccessResponse());
+
+        service.reviewTranslations("en", "bg", "crm", List.of(
+                item("PayNow", "Pay Now", "Плати сега"),
+                item("Cancel", "Cancel", "Отказ")
+        ));
+
+        assertEquals(1, meterRegistry.get(TranslationMetrics.OPENAI_RETRIES).counter().count());
+        assertEquals(1, meterRegistry.get(TranslationMetrics.OPENAI_BATCH_DURATION).tag("outcome", "success").timer().count());
+        assertEquals(2, meterRegistry.get(TranslationMetrics.OPENAI_BATCH_SIZE).summary().totalAmount());
+        assertEquals(10, meterRegistry.get(TranslationMetrics.OPENAI_TOKENS).tag("type", "input").counter().count());
+        assertEquals(0, meterRegistry.get(TranslationMetrics.OPENAI_TOKENS).tag("type", "cached_input").counter().count());
+        assertEquals(5, meterRegistry.get(TranslationMetrics.OPENAI_TOKENS).tag("type", "output").counter().count());
+        assertEquals(20, meterRegistry.get(TranslationMetrics.OPENAI_COST).counter().count(), 1e-9);
+    }
+
     @Test
     void invalidJsonResponseFallsBackSafely() throws Exception {
         OpenAiTranslationReviewService service = newService(true, "gpt-5.4", 100, 3, 1);
@@ -319,7 +361,8 @@ class OpenAiTranslationReviewServiceTest {
                 new BigDecimal(outputPricePer1M),
                 new BigDecimal(maxEstimatedCostUsd),
                 mapper,
-                new RestTemplateBuilder()
+                new RestTemplateBuilder(),
+                new TranslationMetrics(meterRegistry)
         );
     }
 
@@ -0,0 +1,80 @@
+package com.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlaceholderScannerTest {
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile(
+            "\\{\\{[^{}]+}}|\\{[^{}]+}|%\\d*\\$?[sdfoxegc]|<[^>]+>"
+    );
+
+    @Test
+    void findsTheSamePlaceholdersAsTheRegex() {
+        List<String> samples = new ArrayList<>(List.of(
+                "Hello {{user.name}}, you have %1$d new <b>messages</b>",
+                "{{a}", "{a}}", "{{}}", "{}", "<>", "<<a>", "%", "%5", "%$s", "%12$x%", "{{a}}}", "{ {b} }",
+                "100% sure", "a < b > c", "{x}{y}%s<i>"
+        ));
+        Random random = new Random(7);
+        String alphabet = "{}<>%$0123sdx ab\n";
+        for (int sample = 0; sample < 5000; sample++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(24);
+            for (int i = 0; i < length; i++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            samples.add(text.toString());
+        }
+
+        for (String text : samples) {
+            assertEquals(regexMatches(text), scannerMatches(text), text);
+        }
+    }
+
+    @Test
+    void appendTokenNormalizesTheInnerName() {
+        assertEquals("__PH_USER_NAME__", token("{{ user.name }}", 1));
+        assertEquals("__PH_COUNT_2__", token("{count}", 2));
+        assertEquals("__PH_1_D__", token("%1$d", 1));
+        assertEquals("__PH_B__", token("<b>", 1));
+        assertEquals("__PH_TOKEN__", token("{---}", 1));
+        assertEquals("__PH_STRASSE__", token("{straße}", 1));
+    }
+
+    private static String token(String placeholder, int suffix) {
+        StringBuilder target = new StringBuilder();
+        PlaceholderScanner.appendToken(target, "__PH_", placeholder, suffix);
+        return target.toString();
+    }
+
+    private static List<String> regexMatches(String text) {
+        List<String> matches = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(text);
+        while (matcher.find()) {
+            matches.add(matcher.start() + ":" + matcher.group());
+        }
+        return matches;
+    }
+
+    private static List<String> scannerMatches(String text) {
+        List<String> matches = new ArrayList<>();
+        int position = 0;
+        while (position < text.length()) {
+            int end = PlaceholderScanner.placeholderEnd(text, position);
+            if (end < 0) {
+                position++;
+            } else {
+                matches.add(position + ":" + text.substring(position, end));
+                position = end;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RiskyTermsRegistryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void unchangedFileIsServedFromTheCompiledSnapshotAndReloadedWhenItChanges() throws Exception {
+        RiskyTermsRegistry registry = new RiskyTermsRegistry();
+        Path file = Files.writeString(tempDir.resolve("risky-terms.txt"), "# comment\n  Sync   Now \n\nlead\nLEAD\n");
+
+        RiskyTermsRegistry.RiskyTerms first = registry.get(file);
+        assertEquals(List.of("sync now", "lead"), first.terms());
+        assertSame(first, registry.get(file));
+        assertTrue(first.matcher().containsAny(TermMatcher.normalize("Please SYNC now")));
+
+        Files.writeString(file, "lead\nsync now\nrate\n");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+        RiskyTermsRegistry.RiskyTerms reloaded = registry.get(file);
+        assertEquals(List.of("lead", "sync now", "rate"), reloaded.terms());
+        assertNotEquals(first.version(), reloaded.version());
+        assertEquals(RiskyTermsRegistry.RiskyTerms.of(List.of("Lead", "sync  now", "rate")).version(), reloaded.version());
+
+        Files.delete(file);
+        assertSame(RiskyTermsRegistry.RiskyTerms.NONE, registry.get(file));
+    }
+}
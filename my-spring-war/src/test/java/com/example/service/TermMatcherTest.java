@@ -0,0 +1,60 @@
+package com.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TermMatcherTest {
+
+    @Test
+    void findAllReportsOverlappingAndNestedTermsInOnePass() {
+        TermMatcher matcher = TermMatcher.compile(List.of("he", "she", "his", "hers", "Shopping  Cart", "cart"));
+
+        BitSet found = matcher.findAll(TermMatcher.normalize("Ushers add to the SHOPPING\tcart"));
+
+        List<String> matched = new ArrayList<>();
+        found.stream().forEach(termId -> matched.add(matcher.terms().get(termId)));
+        assertEquals(List.of("he", "she", "hers", "shopping cart", "cart"), matched);
+        assertTrue(matcher.containsAny(TermMatcher.normalize("this")));
+        assertFalse(matcher.containsAny(TermMatcher.normalize("basket")));
+    }
+
+    @Test
+    void matchesTheSameTermsAsNaiveContainsChecks() {
+        List<String> terms = List.of("close", "clear", "apply", "lead", "charge", "rate", "run", "view", "ab", "aab", "bab", "a b");
+        TermMatcher matcher = TermMatcher.compile(terms);
+        Random random = new Random(42);
+        String alphabet = "abcelnoprtuvw ";
+        for (int sample = 0; sample < 2000; sample++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(30);
+            for (int i = 0; i < length; i++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String normalized = TermMatcher.normalize(text.toString());
+            BitSet expected = new BitSet();
+            for (int termId = 0; termId < terms.size(); termId++) {
+                if (normalized.contains(terms.get(termId))) {
+                    expected.set(termId);
+                }
+            }
+            assertEquals(expected, matcher.findAll(normalized), normalized);
+            assertEquals(!expected.isEmpty(), matcher.containsAny(normalized), normalized);
+        }
+    }
+
+    @Test
+    void normalizeMatchesRegexWhitespaceCollapse() {
+        for (String text : List.of("  Shopping \t\n Cart  ", "ÀPPLY", "", "\u000Bclose\f", "a\u0001 b ")) {
+            assertEquals(text.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim(), TermMatcher.normalize(text));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TranslationCheckpointStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void openCutsTornTrailingLineBeforeAppending() throws Exception {
+        TranslationCheckpointStore store = newStore(1440);
+        TranslationCheckpointStore.Checkpoint checkpoint = store.open("job-1", "bg", "fingerprint");
+        checkpoint.recordGoogleBatch("scope", Map.of("One", "bg-One"));
+        store.release(checkpoint);
+        Path journal = tempDir.resolve("job-1__bg.jsonl");
+        Files.writeString(journal, "{\"type\":\"google\",\"sco", StandardOpenOption.APPEND);
+
+        TranslationCheckpointStore.Checkpoint resumed = store.open("job-1", "bg", "fingerprint");
+        resumed.recordGoogleBatch("scope", Map.of("Two", "bg-Two"));
+        store.release(resumed);
+
+        List<String> lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(2).contains("bg-Two"));
+        TranslationCheckpointStore.Checkpoint replayed = store.open("job-1", "bg", "fingerprint");
+        assertEquals("bg-One", replayed.googleTranslation("scope", "One"));
+        assertEquals("bg-Two", replayed.googleTranslation("scope", "Two"));
+        store.release(replayed);
+    }
+
+    @Test
+    void journalsUntouchedForTheRetentionPeriodArePurged() throws Exception {
+        TranslationCheckpointStore store = newStore(60);
+        store.release(store.open("stale", "bg", "fingerprint"));
+        store.release(store.open("fresh", "bg", "fingerprint"));
+        Files.setLastModifiedTime(tempDir.resolve("stale__bg.jsonl"), FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        TranslationCheckpointStore restarted = newStore(60);
+
+        assertFalse(restarted.hasCheckpoint("stale"));
+        assertTrue(restarted.hasCheckpoint("fresh"));
+    }
+
+    private TranslationCheckpointStore newStore(long retentionMinutes) throws Exception {
+        return new TranslationCheckpointStore(true, tempDir.toString(), retentionMinutes, new ObjectMapper());
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TranslationMemoryTest {
+
+    private static final TranslationMemory.Scope EN_BG_LLM = new TranslationMemory.Scope(
+            "en", "bg", "google-translation-advanced/translateText/translation-llm", "general/translation-llm", "");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void lookupReturnsStoredTranslationAndCountsHitsAndMisses() throws Exception {
+        TranslationMemory memory = newMemory(100);
+
+        assertNull(memory.lookup(EN_BG_LLM, "Apply"));
+        memory.storeAll(EN_BG_LLM, Map.of("Apply", "Приложи"));
+
+        assertEquals("Приложи", memory.lookup(EN_BG_LLM, "Apply"));
+        assertEquals(1, memory.stats().hits());
+        assertEquals(1, memory.stats().misses());
+        assertEquals(0.5, memory.stats().hitRatio());
+    }
+
+    @Test
+    void lookupDoesNotShareEntriesAcrossRoutesModelsOrGlossaries() throws Exception {
+        TranslationMemory memory = newMemory(100);
+        memory.storeAll(EN_BG_LLM, Map.of("Apply", "Приложи"));
+
+        assertNull(memory.lookup(new TranslationMemory.Scope(
+                "en", "bg", "google-translation-standard/translateText/nmt", "default-nmt", ""), "Apply"));
+        assertNull(memory.lookup(new TranslationMemory.Scope(
+                "en", "bg", EN_BG_LLM.route(), EN_BG_LLM.model(), "projects/p/locations/global/glossaries/g"), "Apply"));
+        assertNull(memory.lookup(new TranslationMemory.Scope(
+                "en", "de", EN_BG_LLM.route(), EN_BG_LLM.model(), ""), "Apply"));
+    }
+
+    @Test
+    void storeAllEvictsLeastRecentlyUsedEntriesWhenMaxEntriesIsReached() throws Exception {
+        TranslationMemory memory = newMemory(2);
+        memory.storeAll(EN_BG_LLM, Map.of("Apply", "Приложи"));
+        memory.storeAll(EN_BG_LLM, Map.of("Cancel", "Откажи"));
+        assertEquals("Приложи", memory.lookup(EN_BG_LLM, "Apply"));
+
+        memory.storeAll(EN_BG_LLM, Map.of("Save", "Запази"));
+
+        assertEquals(2, memory.stats().entries());
+        assertEquals(1, memory.stats().evictions());
+        assertNull(memory.lookup(EN_BG_LLM, "Cancel"));
+        assertEquals("Приложи", memory.lookup(EN_BG_LLM, "Apply"));
+        assertEquals("Запази", memory.lookup(EN_BG_LLM, "Save"));
+    }
+
+    @Test
+    void entriesArePersistedPerLanguagePairAndReloaded() throws Exception {
+        TranslationMemory memory = newMemory(100);
+        Map<String, String> translations = new LinkedHashMap<>();
+        translations.put("Apply", "Приложи");
+        translations.put("Cancel", "Откажи");
+        memory.storeAll(EN_BG_LLM, translations);
+        memory.flush();
+
+        assertTrue(Files.exists(tempDir.resolve("en__bg.json")));
+
+        TranslationMemory reloaded = newMemory(100);
+        assertEquals(2, reloaded.stats().entries());
+        assertEquals("Откажи", reloaded.lookup(EN_BG_LLM, "Cancel"));
+    }
+
+    @Test
+    void storeAllOnlyMarksLanguagePairDirtyUntilFlushedOrClosed() throws Exception {
+        TranslationMemory memory = newMemory(100);
+        memory.storeAll(EN_BG_LLM, Map.of("Apply", "Приложи"));
+
+        assertFalse(Files.exists(tempDir.resolve("en__bg.json")));
+        assertEquals("Приложи", memory.lookup(EN_BG_LLM, "Apply"));
+
+        memory.close();
+
+        assertTrue(Files.exists(tempDir.resolve("en__bg.json")));
+        assertEquals("Приложи", newMemory(100).lookup(EN_BG_LLM, "Apply"));
+    }
+
+    @Test
+    void invalidateLanguagePairRemovesOnlyMatchingPairAndItsFile() throws Exception {
+        TranslationMemory memory = newMemory(100);
+        TranslationMemory.Scope enDe = new TranslationMemory.Scope("en", "de", EN_BG_LLM.route(), EN_BG_LLM.model(), "");
+        memory.storeAll(EN_BG_LLM, Map.of("Apply", "Приложи"));
+        memory.storeAll(enDe, Map.of("Apply", "Anwenden"));
+        memory.flush();
+        assertTrue(Files.exists(tempDir.resolve("en__bg.json")));
+
+        int removed = memory.invalidateLanguagePair("en", "bg");
+        memory.flush();
+
+        assertEquals(1, removed);
+        assertFalse(Files.exists(tempDir.resolve("en__bg.json")));
+        assertNull(memory.lookup(EN_BG_LLM, "Apply"));
+        assertEquals("Anwenden", memory.lookup(enDe, "Apply"));
+    }
+
+    @Test
+    void disabledMemoryNeverStoresOrCreatesFiles() throws Exception {
+        Path directory = tempDir.resolve("disabled");
+        TranslationMemory memory = new TranslationMemory(false, directory.toString(), 100, 2000, new ObjectMapper());
+        memory.storeAll(EN_BG_LLM, Map.of("Apply", "Приложи"));
+
+        assertNull(memory.lookup(EN_BG_LLM, "Apply"));
+        assertEquals(0, memory.stats().entries());
+        assertFalse(Files.exists(directory));
+    }
+
+    private TranslationMemory newMemory(int maxEntries) throws Exception {
+        return new TranslationMemory(true, tempDir.toString(), maxEntries, 60_000, new ObjectMapper());
+    }
+}
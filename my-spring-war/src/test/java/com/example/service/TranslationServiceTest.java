@@ -1,5 +1,7 @@
 package com.example.service;
 
+import com.example.api.dto.TranslationCompareDifference;
+import com.example.api.dto.TranslationComparePage;
 import com.example.api.dto.TranslationCompareResult;
 import com.example.api.dto.TranslationExportResult;
 import com.example.api.dto.TranslationRow;
@@ -8,12 +10,16 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.auth.oauth2.AccessToken;
 import com.google.auth.oauth2.GoogleCredentials;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.ByteArrayOutputStream;
@@ -24,16 +30,29 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withBadRequest;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 class TranslationServiceTest {
@@ -41,6 +60,8 @@ class TranslationServiceTest {
     @TempDir
     Path tempDir;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Test
     void saveRowsAppendsNewKeysToEndOfExistingSection() throws Exception {
         TranslationService service = createService("", false, "en", "bg", 50);
@@ -111,6 +132,48 @@ class TranslationServiceTest {
         assertEquals("Missing in file 2", result.differences().get(2).status());
     }
 
+    @Test
+    void compareFilesPageWalksDifferencesWithCursorAndStatusFilter() throws Exception {
+        TranslationService service = createService("", false, "en", "bg", 50);
+        StringBuilder fr = new StringBuilder("{\"b\":{");
+        StringBuilder de = new StringBuilder("{\"b\":{");
+        for (int i = 0; i < 25; i++) {
+            String key = String.format("k%02d", i);
+            fr.append(i == 0 ? "" : ",").append('"').append(key).append("\":\"fr-").append(i).append('"');
+            if (i % 5 != 0) {
+                de.append(i == 1 ? "" : ",").append('"').append(key).append("\":\"")
+                        .append(i % 2 == 0 ? "fr-" : "de-").append(i).append('"');
+            }
+        }
+        Files.writeString(tempDir.resolve("fr.json"), fr.append("}}").toString());
+        Files.writeString(tempDir.resolve("de.json"), de.append(",\"z\":\"only-de\"}}").toString());
+
+        List<String> keyPaths = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            TranslationComparePage page = service.compareFilesPage(null, "fr.json", "de.json", null, cursor, 7);
+            assertEquals(16, page.totalDifferences());
+            assertEquals(Map.of("Missing in file 1", 1, "Missing in file 2", 5, "Different values", 10), page.statusCounts());
+            page.differences().forEach(difference -> keyPaths.add(difference.keyPath()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(service.compareFiles(null, "fr.json", "de.json").differences().stream()
+                .map(TranslationCompareDifference::keyPath).toList(), keyPaths);
+
+        TranslationComparePage missing = service.compareFilesPage(null, "fr.json", "de.json", "missing in file 2", null, 3);
+        assertEquals("Missing in file 2", missing.status());
+        assertEquals(List.of("b.k00", "b.k05", "b.k10"), missing.differences().stream().map(TranslationCompareDifference::keyPath).toList());
+        TranslationComparePage rest = service.compareFilesPage(null, "fr.json", "de.json", "Missing in file 2", missing.nextCursor(), 3);
+        assertEquals(List.of("b.k15", "b.k20"), rest.differences().stream().map(TranslationCompareDifference::keyPath).toList());
+        assertNull(rest.nextCursor());
+        assertThrows(IllegalArgumentException.class,
+                () -> service.compareFilesPage(null, "fr.json", "de.json", "Unknown", null, 3));
+    }
+
     @Test
     void translateAndImportWritesOnlySelectedRowsIntoTargetFileWhenLanguagesMatch() throws Exception {
         TranslationService service = createService("", false, "en", "bg", 50);
@@ -320,6 +383,66 @@ class TranslationServiceTest {
         assertEquals("ok", rows.get(0).getText());
     }
 
+    @Test
+    void loadRowsJoinsReferenceTextByKeyAndKeepsLastValueOfRepeatedKeys() throws Exception {
+        TranslationService service = createService("", false, "en", "bg", 50);
+
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "b" : {
+                    "cancel" : "Cancel",
+                    "unused" : "Unused",
+                    "apply" : "Apply"
+                  }
+                }
+                """);
+        Files.writeString(tempDir.resolve("de.json"), """
+                {
+                  "b" : {
+                    "apply" : "Anwenden",
+                    "extra" : "Nur deutsch",
+                    "apply" : "Übernehmen"
+                  }
+                }
+                """);
+
+        List<TranslationRow> rows = service.loadRows(null, "de.json");
+        assertEquals(2, rows.size());
+        assertEquals("apply", rows.get(0).getKey());
+        assertEquals("Übernehmen", rows.get(0).getText());
+        assertEquals("Apply", rows.get(0).getEnglishReference());
+        assertEquals("extra", rows.get(1).getKey());
+        assertEquals("", rows.get(1).getEnglishReference());
+    }
+
+    @Test
+    void loadRowsServesRepeatedLoadsFromLocaleCacheAndSeesSavedRows() throws Exception {
+        TranslationService service = createService("", false, "en", "bg", 50);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "b" : {
+                    "apply" : "Apply"
+                  }
+                }
+                """);
+        Files.writeString(tempDir.resolve("de.json"), """
+                {
+                  "b" : {
+                    "apply" : "Anwenden"
+                  }
+                }
+                """);
+
+        service.loadRows(null, "de.json");
+        service.loadRows(null, "de.json");
+        assertEquals(2, service.localeFileCacheStats().hits());
+
+        service.saveRows(null, "de.json", List.of(new TranslationRow("b", "apply", "Übernehmen")));
+        List<TranslationRow> rows = service.loadRows(null, "de.json");
+        assertEquals("Übernehmen", rows.get(0).getText());
+        assertEquals("Apply", rows.get(0).getEnglishReference());
+    }
+
     @Test
     void loadRowsUsesConfiguredReferenceLanguageFile() throws Exception {
         TranslationService service = new TranslationService(
@@ -327,6 +450,7 @@ class TranslationServiceTest {
                 "",
                 "dummy-project-id",
                 "global",
+                "https://translation.googleapis.com/v3",
                 "general/translation-llm",
                 false,
                 "bg-terms",
@@ -343,6 +467,10 @@ class TranslationServiceTest {
                 50,
                 3,
                 10,
+                1,
+                "codepoints",
+                30000,
+                2,
                 "en",
                 "bg",
                 "",
@@ -351,7 +479,13 @@ class TranslationServiceTest {
                 false,
                 new ObjectMapper(),
                 new RestTemplateBuilder(),
-                newOpenAiTranslationReviewService()
+                newOpenAiTranslationReviewService(),
+                newTranslationMemory(),
+                newGoogleConcurrencyLimiter(),
+                newLocaleFileCache(),
+                newTranslationCheckpointStore(),
+                newTranslationMetrics(),
+                newTranslationExecutor()
         );
 
         Files.writeString(tempDir.resolve("fr.json"), """
@@ -422,6 +556,270 @@ class TranslationServiceTest {
         assertEquals("Откажи", translated.path("b").path("cancel").asText());
     }
 
+    @Test
+    void translateAndStoreRecordsStageTimersAndGoogleBatchMetrics() throws Exception {
+        TranslationService service = createService("", false, "en", "bg", 50);
+        seedGoogleAccessToken(service);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "b" : {
+                    "apply" : "Apply",
+                    "greeting" : "Hello {name}"
+                  }
+                }
+                """);
+        MockRestServiceServer server = bindMockServer(service);
+        server.expect(requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText"))
+                .andRespond(withSuccess("""
+                        {
+                          "translations":[
+                            {"translatedText":"Приложи"},
+                            {"translatedText":"Здравей __PH_NAME__"}
+                          ]
+                        }
+                        """, MediaType.APPLICATION_JSON));
+
+        service.translateAndStore(null, "en.json", "bg", List.of(
+                new TranslationRow("b", "apply", "Apply", ""),
+                new TranslationRow("b", "greeting", "Hello {name}", "")
+        ));
+        server.verify();
+
+        for (String stage : List.of("preprocess", "protect", "translate", "restore", "validate", "write")) {
+            assertEquals(1, meterRegistry.get(TranslationMetrics.STAGE_DURATION)
+                    .tag("stage", stage)
+                    .tag("outcome", "success")
+                    .timer()
+                    .count(), stage);
+        }
+        assertTrue(meterRegistry.find(TranslationMetrics.STAGE_DURATION).tag("stage", "review").timers().isEmpty());
+        assertEquals(1, meterRegistry.get(TranslationMetrics.GOOGLE_BATCH_DURATION)
+                .tag("route", "google-translation-advanced/translateText/translation-llm")
+                .tag("outcome", "success")
+                .timer()
+                .count());
+        assertEquals(2, meterRegistry.get(TranslationMetrics.GOOGLE_BATCH_SIZE).summary().totalAmount());
+        assertTrue(meterRegistry.find(TranslationMetrics.GOOGLE_RETRIES).counters().isEmpty());
+    }
+
+    @Test
+    void translateAndStoreServesRepeatedStringsFromTranslationMemory() throws Exception {
+        TranslationMemory translationMemory = new TranslationMemory(
+                true, tempDir.resolve("translation-memory").toString(), 1000, 2000, new ObjectMapper());
+        TranslationService service = createService(
+                "", false, "en", "bg", 50, "risky-short", tempDir.resolve("openai-report.csv").toString(), translationMemory, 1);
+        seedGoogleAccessToken(service);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "x" : {
+                    "apply" : "Apply changes",
+                    "cancel" : "Cancel changes"
+                  }
+                }
+                """);
+        MockRestServiceServer server = bindMockServer(service);
+        String url = "https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText";
+        server.expect(requestTo(url))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(request -> {
+                    ByteArrayOutputStream requestBody = (ByteArrayOutputStream) request.getBody();
+                    JsonNode body = new ObjectMapper().readTree(requestBody.toString(StandardCharsets.UTF_8));
+                    assertEquals(1, body.path("contents").size());
+                    assertEquals("Apply changes", body.path("contents").get(0).asText());
+                })
+                .andRespond(withSuccess("""
+                        {"translations":[{"translatedText":"Приложи промените"}]}
+                        """, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(url))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(request -> {
+                    ByteArrayOutputStream requestBody = (ByteArrayOutputStream) request.getBody();
+                    JsonNode body = new ObjectMapper().readTree(requestBody.toString(StandardCharsets.UTF_8));
+                    assertEquals(1, body.path("contents").size());
+                    assertEquals("Cancel changes", body.path("contents").get(0).asText());
+                })
+                .andRespond(withSuccess("""
+                        {"translations":[{"translatedText":"Откажи промените"}]}
+                        """, MediaType.APPLICATION_JSON));
+
+        service.translateAndStore(null, "en.json", "bg", List.of(
+                new TranslationRow("x", "apply", "Apply changes", "")
+        ), "standard", false, null);
+        TranslationExportResult result = service.translateAndStore(null, "en.json", "bg", List.of(
+                new TranslationRow("x", "apply", "Apply changes", ""),
+                new TranslationRow("x", "cancel", "Cancel changes", "")
+        ), "standard", false, null);
+        server.verify();
+
+        JsonNode translated = new ObjectMapper().readTree(Files.readString(Path.of(result.getOutputFile())));
+        assertEquals("Приложи промените", translated.path("x").path("apply").asText());
+        assertEquals("Откажи промените", translated.path("x").path("cancel").asText());
+        assertEquals(1, translationMemory.stats().hits());
+        assertEquals(2, translationMemory.stats().misses());
+    }
+
+    @Test
+    void translateAndStoreSendsDuplicateProtectedTextsToGoogleOnlyOnce() throws Exception {
+        TranslationService service = createService("", false, "en", "bg", 50);
+        seedGoogleAccessToken(service);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "b" : {
+                    "save" : "Save",
+                    "cancel" : "Cancel"
+                  },
+                  "x" : {
+                    "save" : "Save"
+                  }
+                }
+                """);
+        MockRestServiceServer server = bindMockServer(service);
+        server.expect(requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(request -> {
+                    ByteArrayOutputStream requestBody = (ByteArrayOutputStream) request.getBody();
+                    JsonNode body = new ObjectMapper().readTree(requestBody.toString(StandardCharsets.UTF_8));
+                    assertEquals(2, body.path("contents").size());
+                    assertEquals("Save", body.path("contents").get(0).asText());
+                    assertEquals("Cancel", body.path("contents").get(1).asText());
+                })
+                .andRespond(withSuccess("""
+                        {
+                          "translations":[
+                            {"translatedText":"Запази"},
+                            {"translatedText":"Откажи"}
+                          ]
+                        }
+                        """, MediaType.APPLICATION_JSON));
+
+        service.translateAndStore(null, "en.json", "bg", List.of(
+                new TranslationRow("b", "save", "Save", ""),
+                new TranslationRow("b", "cancel", "Cancel", ""),
+                new TranslationRow("x", "save", "Save", "")
+        ), "standard", false, null);
+        server.verify();
+
+        JsonNode translated = new ObjectMapper().readTree(Files.readString(tempDir.resolve("bg.json")));
+        assertEquals("Запази", translated.path("b").path("save").asText());
+        assertEquals("Откажи", translated.path("b").path("cancel").asText());
+        assertEquals("Запази", translated.path("x").path("save").asText());
+    }
+
+    @Test
+    void translateAndStoreReviewsDuplicateTranslationsWithOpenAiOnlyOnce() throws Exception {
+        TranslationService service = createService("", false, "en", "bg", 50);
+        seedGoogleAccessToken(service);
+        OpenAiTranslationReviewService openAiService = new OpenAiTranslationReviewService(
+                true, "test-key", "gpt-5.4", "https://api.openai.test/v1", 60, 100, false, 3, 1, 1, "low", "low", "",
+                tempDir.resolve("openai-report.csv").toString(), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                new ObjectMapper(), new RestTemplateBuilder(), newTranslationMetrics());
+        Field openAiField = TranslationService.class.getDeclaredField("openAiTranslationReviewService");
+        openAiField.setAccessible(true);
+        openAiField.set(service, openAiService);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "b" : {
+                    "save" : "Save",
+                    "cancel" : "Cancel"
+                  },
+                  "x" : {
+                    "save" : "Save"
+                  }
+                }
+                """);
+        MockRestServiceServer googleServer = bindMockServer(service);
+        googleServer.expect(requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText"))
+                .andRespond(withSuccess("""
+                        {
+                          "translations":[
+                            {"translatedText":"Запази"},
+                            {"translatedText":"Откажи"}
+                          ]
+                        }
+                        """, MediaType.APPLICATION_JSON));
+        Field openAiRestTemplateField = OpenAiTranslationReviewService.class.getDeclaredField("restTemplate");
+        openAiRestTemplateField.setAccessible(true);
+        MockRestServiceServer openAiServer = MockRestServiceServer.bindTo((RestTemplate) openAiRestTemplateField.get(openAiService)).build();
+        AtomicInteger reviewedItems = new AtomicInteger();
+        openAiServer.expect(ExpectedCount.once(), requestTo("https://api.openai.test/v1/responses"))
+                .andRespond(request -> {
+                    ObjectMapper mapper = new ObjectMapper();
+                    JsonNode body = mapper.readTree(((ByteArrayOutputStream) request.getBody()).toString(StandardCharsets.UTF_8));
+                    JsonNode payload = mapper.readTree(body.path("input").get(1).path("content").get(0).path("text").asText());
+                    List<Map<String, Object>> items = new ArrayList<>();
+                    for (JsonNode item : payload.path("items")) {
+                        reviewedItems.incrementAndGet();
+                        items.add(Map.of(
+                                "key", item.path("key").asText(),
+                                "finalText", "reviewed " + item.path("translatedText").asText(),
+                                "changed", true,
+                                "reason", "Wording",
+                                "issues", List.of()
+                        ));
+                    }
+                    String responseBody = mapper.writeValueAsString(Map.of("output_text", mapper.writeValueAsString(Map.of("items", items))));
+                    return withSuccess(responseBody, MediaType.APPLICATION_JSON).createResponse(request);
+                });
+
+        TranslationExportResult result = service.translateAndStore(null, "en.json", "bg", List.of(
+                new TranslationRow("b", "save", "Save", ""),
+                new TranslationRow("b", "cancel", "Cancel", ""),
+                new TranslationRow("x", "save", "Save", "")
+        ), "standard", true, null);
+        googleServer.verify();
+        openAiServer.verify();
+
+        assertEquals(2, reviewedItems.get());
+        JsonNode translated = new ObjectMapper().readTree(Files.readString(Path.of(result.getOutputFile())));
+        assertEquals("reviewed Запази", translated.path("b").path("save").asText());
+        assertEquals("reviewed Откажи", translated.path("b").path("cancel").asText());
+        assertEquals("reviewed Запази", translated.path("x").path("save").asText());
+        JsonNode report = new ObjectMapper().readTree(Files.readString(tempDir.resolve("bg.validation-report.json")));
+        assertFalse(report.toString().contains("duplicate-inconsistency"));
+    }
+
+    @Test
+    void translateAndStoreSendsGoogleBatchesConcurrentlyAndKeepsIndexOrder() throws Exception {
+        TranslationService service = createService(
+                "", false, "en", "bg", 1, "risky-short", tempDir.resolve("openai-report.csv").toString(), newTranslationMemory(), 2);
+        seedGoogleAccessToken(service);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "x" : {
+                    "first" : "First",
+                    "second" : "Second",
+                    "third" : "Third"
+                  }
+                }
+                """);
+        CountDownLatch bothBatchesInFlight = new CountDownLatch(2);
+        AtomicBoolean overlapped = new AtomicBoolean();
+        MockRestServiceServer server = bindMockServer(service);
+        server.expect(ExpectedCount.times(3), requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(request -> {
+                    ByteArrayOutputStream requestBody = (ByteArrayOutputStream) request.getBody();
+                    JsonNode body = new ObjectMapper().readTree(requestBody.toString(StandardCharsets.UTF_8));
+                    awaitLatch(bothBatchesInFlight, overlapped);
+                    String translated = "bg-" + body.path("contents").get(0).asText();
+                    return withSuccess("{\"translations\":[{\"translatedText\":\"" + translated + "\"}]}", MediaType.APPLICATION_JSON)
+                            .createResponse(request);
+                });
+
+        service.translateAndStore(null, "en.json", "bg", List.of(
+                new TranslationRow("x", "first", "First", ""),
+                new TranslationRow("x", "second", "Second", ""),
+                new TranslationRow("x", "third", "Third", "")
+        ), "standard", false, null);
+        server.verify();
+
+        assertTrue(overlapped.get());
+        JsonNode translated = new ObjectMapper().readTree(Files.readString(tempDir.resolve("bg.json")));
+        assertEquals("bg-First", translated.path("x").path("first").asText());
+        assertEquals("bg-Second", translated.path("x").path("second").asText());
+        assertEquals("bg-Third", translated.path("x").path("third").asText());
+    }
+
     @Test
     void translateAndStoreAddsTimestampWhenTargetFileAlreadyExists() throws Exception {
         TranslationService service = createService("", false, "en", "bg", 50);
@@ -523,6 +921,523 @@ class TranslationServiceTest {
         assertEquals(0, summary.path("warningCount").asInt());
     }
 
+    @Test
+    void translateAndStoreIsolatesFailingStringAndSendsItAloneOnLaterBatches() throws Exception {
+        TranslationService service = createService("", false, "en", "bg", 50);
+        seedGoogleAccessToken(service);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "x" : {
+                    "first" : "First",
+                    "second" : "Second",
+                    "third" : "Third",
+                    "broken" : "Broken"
+                  }
+                }
+                """);
+        List<TranslationRow> rows = List.of(
+                new TranslationRow("x", "first", "First", ""),
+                new TranslationRow("x", "second", "Second", ""),
+                new TranslationRow("x", "third", "Third", ""),
+                new TranslationRow("x", "broken", "Broken", "")
+        );
+        AtomicInteger successfulRequests = new AtomicInteger();
+        AtomicInteger failedRequests = new AtomicInteger();
+        AtomicReference<HttpStatus> brokenStatus = new AtomicReference<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        MockRestServiceServer server = bindUnorderedMockServer(service);
+        server.expect(ExpectedCount.manyTimes(), requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText"))
+                .andRespond(request -> {
+                    ByteArrayOutputStream requestBody = (ByteArrayOutputStream) request.getBody();
+                    JsonNode contents = new ObjectMapper().readTree(requestBody.toString(StandardCharsets.UTF_8)).path("contents");
+                    StringBuilder translations = new StringBuilder();
+                    for (JsonNode content : contents) {
+                        if (content.asText().equals("Broken") && brokenStatus.get() != null) {
+                            failedRequests.incrementAndGet();
+                            return withStatus(brokenStatus.get()).createResponse(request);
+                        }
+                        translations.append(translations.isEmpty() ? "" : ",")
+                                .append("{\"translatedText\":\"bg-").append(content.asText()).append("\"}");
+                    }
+                    successfulRequests.incrementAndGet();
+                    return withSuccess("{\"translations\":[" + translations + "]}", MediaType.APPLICATION_JSON)
+                            .createResponse(request);
+                });
+
+        assertThrows(HttpServerErrorException.class,
+                () -> service.translateAndStore(null, "en.json", "bg", rows, "standard", false, null));
+
+        assertEquals(2, successfulRequests.get());
+        assertEquals(9, failedRequests.get());
+        List<TranslationFailureRegistry.IsolatedFailure> isolatedFailures = service.isolatedTranslationFailures();
+        assertEquals(1, isolatedFailures.size());
+        assertEquals("Broken", isolatedFailures.get(0).text());
+        assertEquals(500, isolatedFailures.get(0).statusCode());
+        assertEquals(1, isolatedFailures.get(0).failureCount());
+
+        // One failure is not enough to isolate the string; the second run pays the full split cascade again.
+        assertThrows(HttpServerErrorException.class,
+                () -> service.translateAndStore(null, "en.json", "bg", rows, "standard", false, null));
+        assertEquals(4, successfulRequests.get());
+        assertEquals(18, failedRequests.get());
+        assertEquals(2, service.isolatedTranslationFailures().get(0).failureCount());
+
+        TranslationExportResult result = service.translateAndStoreToDirectory(
+                null, null, "en.json", "bg", rows, "standard", false, true, null);
+
+        assertEquals(5, successfulRequests.get());
+        assertEquals(19, failedRequests.get());
+        JsonNode translated = new ObjectMapper().readTree(Files.readString(Path.of(result.getOutputFile()))).path("x");
+        assertEquals("bg-First", translated.path("first").asText());
+        assertEquals("Broken", translated.path("broken").asText());
+        Path reportFile = Path.of(result.getOutputFile()).resolveSibling(
+                Path.of(result.getOutputFile()).getFileName().toString().replaceFirst("(?i)\\.json$", ".validation-report.json")
+        );
+        JsonNode report = new ObjectMapper().readTree(Files.readString(reportFile));
+        JsonNode brokenRow = report.path("rows").get(3);
+        assertEquals("x.broken", brokenRow.path("fullKey").asText());
+        assertEquals("INVALID", brokenRow.path("validationStatus").asText());
+        assertEquals(1, report.path("summary").path("invalidCount").asInt());
+        assertEquals(1, report.path("summary").path("issueCountsByType").path("isolated-upstream-failure").asInt());
+        assertEquals(3, service.isolatedTranslationFailures().get(0).failureCount());
+        JsonNode manifest = new ObjectMapper().readTree(Files.readString(tempDir.resolve("bg.source-manifest.json")));
+        assertEquals(3, manifest.path("sourceHashes").size());
+        assertFalse(manifest.path("sourceHashes").has("x.broken"));
+
+        // Overload is not the string's fault: an isolated string still gets the normal retries and is not counted.
+        brokenStatus.set(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThrows(HttpServerErrorException.class, () -> service.translateAndStoreToDirectory(
+                null, null, "en.json", "bg", rows, "standard", false, true, null));
+        assertEquals(5, successfulRequests.get());
+        assertEquals(22, failedRequests.get());
+        assertEquals(3, service.isolatedTranslationFailures().get(0).failureCount());
+
+        brokenStatus.set(null);
+        result = service.translateAndStoreToDirectory(null, null, "en.json", "bg", rows, "standard", false, true, null);
+
+        assertEquals(6, successfulRequests.get());
+        translated = new ObjectMapper().readTree(Files.readString(Path.of(result.getOutputFile()))).path("x");
+        assertEquals("bg-First", translated.path("first").asText());
+        assertEquals("bg-Broken", translated.path("broken").asText());
+        manifest = new ObjectMapper().readTree(Files.readString(tempDir.resolve("bg.source-manifest.json")));
+        assertEquals(4, manifest.path("sourceHashes").size());
+        assertTrue(service.isolatedTranslationFailures().isEmpty());
+        assertEquals(0, service.clearIsolatedTranslationFailures());
+    }
+
+    @Test
+    void serverErrorSplitsRunOnTheSharedBoundedTranslationExecutor() throws Exception {
+        TranslationService service = createService(
+                "", false, "en", "bg", 16, "risky-short", tempDir.resolve("openai-report.csv").toString(), newTranslationMemory(), 4);
+        seedGoogleAccessToken(service);
+        TranslationExecutor executor = new TranslationExecutor(2);
+        Field executorField = TranslationService.class.getDeclaredField("translationExecutor");
+        executorField.setAccessible(true);
+        executorField.set(service, executor);
+        StringBuilder source = new StringBuilder("{\"x\":{");
+        List<TranslationRow> rows = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            source.append(i == 0 ? "" : ",").append("\"k").append(i).append("\":\"Text ").append(i).append('"');
+            rows.add(new TranslationRow("x", "k" + i, "Text " + i, ""));
+        }
+        Files.writeString(tempDir.resolve("en.json"), source.append("}}").toString());
+        MockRestServiceServer server = bindUnorderedMockServer(service);
+        server.expect(ExpectedCount.manyTimes(), requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText"))
+                .andRespond(request -> {
+                    ByteArrayOutputStream requestBody = (ByteArrayOutputStream) request.getBody();
+                    JsonNode contents = new ObjectMapper().readTree(requestBody.toString(StandardCharsets.UTF_8)).path("contents");
+                    if (contents.size() > 2) {
+                        return withServerError().createResponse(request);
+                    }
+                    StringBuilder translations = new StringBuilder();
+                    for (JsonNode content : contents) {
+                        translations.append(translations.isEmpty() ? "" : ",")
+                                .append("{\"translatedText\":\"bg-").append(content.asText()).append("\"}");
+                    }
+                    return withSuccess("{\"translations\":[" + translations + "]}", MediaType.APPLICATION_JSON)
+                            .createResponse(request);
+                });
+
+        service.translateAndStore(null, "en.json", "bg", rows, "standard", false, null);
+
+        JsonNode translated = new ObjectMapper().readTree(Files.readString(tempDir.resolve("bg.json")));
+        for (int i = 0; i < 16; i++) {
+            assertEquals("bg-Text " + i, translated.path("x").path("k" + i).asText());
+        }
+        assertTrue(executor.largestPoolSize() <= 2, "pool grew to " + executor.largestPoolSize());
+    }
+
+    @Test
+    void translationJobRunsInBackgroundAndPublishesBatchProgress() throws Exception {
+        TranslationService service = createService("", false, "en", "bg", 1);
+        seedGoogleAccessToken(service);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "x" : {
+                    "first" : "First",
+                    "second" : "Second"
+                  }
+                }
+                """);
+        MockRestServiceServer server = bindMockServer(service);
+        server.expect(ExpectedCount.times(2), requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText"))
+                .andRespond(request -> {
+                    ByteArrayOutputStream requestBody = (ByteArrayOutputStream) request.getBody();
+                    JsonNode body = new ObjectMapper().readTree(requestBody.toString(StandardCharsets.UTF_8));
+                    String translated = "bg-" + body.path("contents").get(0).asText();
+                    return withSuccess("{\"translations\":[{\"translatedText\":\"" + translated + "\"}]}", MediaType.APPLICATION_JSON)
+                            .createResponse(request);
+                });
+        List<TranslationRow> rows = List.of(
+                new TranslationRow("x", "first", "First", ""),
+                new TranslationRow("x", "second", "Second", "")
+        );
+        TranslationJobService jobService = new TranslationJobService(service, 1, 60, 0);
+        CountDownLatch subscribed = new CountDownLatch(1);
+        List<TranslationJobService.JobEvent> events = new CopyOnWriteArrayList<>();
+        try {
+            TranslationJobService.JobSnapshot submitted = jobService.submit("job-1", "en.json", "bg", rows.size(), jobId -> {
+                subscribed.await(5, TimeUnit.SECONDS);
+                return service.translateAndStore(null, "en.json", "bg", rows, "standard", false, jobId);
+            });
+            jobService.subscribe(submitted.jobId(), events::add);
+            subscribed.countDown();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!jobService.status("job-1").status().isFinished() && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+        } finally {
+            jobService.shutdown();
+        }
+        server.verify();
+
+        TranslationJobService.JobSnapshot finished = jobService.status("job-1");
+        assertEquals(TranslationJobService.Status.SUCCEEDED, finished.status());
+        assertEquals(2, finished.completedItems());
+        assertEquals(2, jobService.result("job-1").getTextCount());
+        assertTrue(events.stream().anyMatch(event -> event.name().equals("progress")));
+        assertEquals("succeeded", events.get(events.size() - 1).name());
+        assertThrows(NoSuchElementException.class, () -> jobService.status("missing"));
+    }
+
+    @Test
+    void cancellingFinishedTranslationJobLeavesItAndLaterRunsUntouched() throws Exception {
+        TranslationService service = createService("", false, "en", "bg", 50);
+        TranslationJobService jobService = new TranslationJobService(service, 1, 60, 0);
+        try {
+            jobService.submit("job-1", "en.json", "bg", 0, jobId -> new TranslationExportResult("bg.json", "bg", 0));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!jobService.status("job-1").status().isFinished() && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+
+            TranslationJobService.JobSnapshot cancelled = jobService.cancel("job-1");
+
+            assertEquals(TranslationJobService.Status.SUCCEEDED, cancelled.status());
+            Method isCancelled = TranslationService.class.getDeclaredMethod("isTranslationCancellationRequested", String.class);
+            isCancelled.setAccessible(true);
+            assertFalse((Boolean) isCancelled.invoke(service, "job-1"));
+        } finally {
+            jobService.shutdown();
+        }
+    }
+
+    @Test
+    void translateAndStoreToDirectoriesWritesOneFileAndReportPerTargetLanguage() throws Exception {
+        TranslationService service = createService("", false, "en", "bg", 50);
+        seedGoogleAccessToken(service);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "x" : {
+                    "apply" : "Apply",
+                    "cancel" : "Cancel"
+                  }
+                }
+                """);
+        MockRestServiceServer server = bindUnorderedMockServer(service);
+        server.expect(ExpectedCount.times(2), requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText"))
+                .andRespond(request -> {
+                    ByteArrayOutputStream requestBody = (ByteArrayOutputStream) request.getBody();
+                    JsonNode body = new ObjectMapper().readTree(requestBody.toString(StandardCharsets.UTF_8));
+                    String target = body.path("targetLanguageCode").asText();
+                    StringBuilder translations = new StringBuilder();
+                    for (JsonNode content : body.path("contents")) {
+                        translations.append(translations.isEmpty() ? "" : ",")
+                                .append("{\"translatedText\":\"").append(target).append("-").append(content.asText()).append("\"}");
+                    }
+                    return withSuccess("{\"translations\":[" + translations + "]}", MediaType.APPLICATION_JSON)
+                            .createResponse(request);
+                });
+
+        List<TranslationExportResult> results = service.translateAndStoreToDirectories(null, null, "en.json", List.of("bg", "de", "bg"), List.of(
+                new TranslationRow("x", "apply", "Apply", ""),
+                new TranslationRow("x", "cancel", "Cancel", "")
+        ), "standard", false, null);
+        server.verify();
+
+        assertEquals(List.of("bg", "de"), results.stream().map(TranslationExportResult::getTargetLanguage).toList());
+        JsonNode bulgarian = new ObjectMapper().readTree(Files.readString(tempDir.resolve("bg.json")));
+        JsonNode german = new ObjectMapper().readTree(Files.readString(tempDir.resolve("de.json")));
+        assertEquals("bg-Apply", bulgarian.path("x").path("apply").asText());
+        assertEquals("de-Cancel", german.path("x").path("cancel").asText());
+        assertTrue(Files.exists(tempDir.resolve("bg.validation-report.json")));
+        assertTrue(Files.exists(tempDir.resolve("de.validation-report.json")));
+    }
+
+    @Test
+    void deltaTranslationSendsOnlyNewAndChangedKeysAndReusesPreviousOutput() throws Exception {
+        TranslationService service = createService("", false, "en", "bg", 50);
+        seedGoogleAccessToken(service);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "x" : {
+                    "apply" : "Apply",
+                    "cancel" : "Cancel"
+                  }
+                }
+                """);
+        List<List<String>> sentContents = new CopyOnWriteArrayList<>();
+        MockRestServiceServer server = bindMockServer(service);
+        server.expect(ExpectedCount.times(2), requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText"))
+                .andRespond(request -> {
+                    ByteArrayOutputStream requestBody = (ByteArrayOutputStream) request.getBody();
+                    JsonNode body = new ObjectMapper().readTree(requestBody.toString(StandardCharsets.UTF_8));
+                    List<String> contents = new ArrayList<>();
+                    StringBuilder translations = new StringBuilder();
+                    for (JsonNode content : body.path("contents")) {
+                        contents.add(content.asText());
+                        translations.append(translations.isEmpty() ? "" : ",")
+                                .append("{\"translatedText\":\"bg-").append(content.asText()).append("\"}");
+                    }
+                    sentContents.add(contents);
+                    return withSuccess("{\"translations\":[" + translations + "]}", MediaType.APPLICATION_JSON)
+                            .createResponse(request);
+                });
+
+        service.translateAndStoreToDirectory(null, null, "en.json", "bg", List.of(
+                new TranslationRow("x", "apply", "Apply", ""),
+                new TranslationRow("x", "cancel", "Cancel", "")
+        ), "standard", false, true, null);
+        assertTrue(Files.exists(tempDir.resolve("bg.source-manifest.json")));
+
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "x" : {
+                    "apply" : "Apply",
+                    "cancel" : "Cancel order",
+                    "save" : "Save"
+                  }
+                }
+                """);
+        TranslationExportResult result = service.translateAndStoreToDirectory(null, null, "en.json", "bg", List.of(
+                new TranslationRow("x", "apply", "Apply", ""),
+                new TranslationRow("x", "cancel", "Cancel order", ""),
+                new TranslationRow("x", "save", "Save", "")
+        ), "standard", false, true, null);
+        server.verify();
+
+        assertEquals(List.of(List.of("Apply", "Cancel"), List.of("Cancel order", "Save")), sentContents);
+        assertEquals(3, result.getTextCount());
+        JsonNode translated = new ObjectMapper().readTree(Files.readString(Path.of(result.getOutputFile())));
+        assertEquals("bg-Apply", translated.path("x").path("apply").asText());
+        assertEquals("bg-Cancel order", translated.path("x").path("cancel").asText());
+        assertEquals("bg-Save", translated.path("x").path("save").asText());
+        JsonNode manifest = new ObjectMapper().readTree(Files.readString(tempDir.resolve("bg.source-manifest.json")));
+        assertEquals(3, manifest.path("sourceHashes").size());
+        assertEquals(Path.of(result.getOutputFile()).getFileName().toString(), manifest.path("outputFile").asText());
+        assertEquals("standard", manifest.path("translationMode").asText());
+    }
+
+    @Test
+    void deltaTranslationRetranslatesEverythingWhenOpenAiPostProcessingChanges() throws Exception {
+        TranslationService service = createService("", false, "en", "bg", 50);
+        seedGoogleAccessToken(service);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "x" : {
+                    "apply" : "Apply",
+                    "cancel" : "Cancel"
+                  }
+                }
+                """);
+        List<TranslationRow> rows = List.of(
+                new TranslationRow("x", "apply", "Apply", ""),
+                new TranslationRow("x", "cancel", "Cancel", "")
+        );
+        List<List<String>> sentContents = new CopyOnWriteArrayList<>();
+        MockRestServiceServer server = bindMockServer(service);
+        server.expect(ExpectedCount.times(2), requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText"))
+                .andRespond(request -> {
+                    ByteArrayOutputStream requestBody = (ByteArrayOutputStream) request.getBody();
+                    JsonNode body = new ObjectMapper().readTree(requestBody.toString(StandardCharsets.UTF_8));
+                    List<String> contents = new ArrayList<>();
+                    StringBuilder translations = new StringBuilder();
+                    for (JsonNode content : body.path("contents")) {
+                        contents.add(content.asText());
+                        translations.append(translations.isEmpty() ? "" : ",")
+                                .append("{\"translatedText\":\"bg-").append(content.asText()).append("\"}");
+                    }
+                    sentContents.add(contents);
+                    return withSuccess("{\"translations\":[" + translations + "]}", MediaType.APPLICATION_JSON)
+                            .createResponse(request);
+                });
+
+        service.translateAndStoreToDirectory(null, null, "en.json", "bg", rows, "standard", false, true, null);
+        JsonNode manifest = new ObjectMapper().readTree(Files.readString(tempDir.resolve("bg.source-manifest.json")));
+        assertFalse(manifest.path("postProcessWithOpenAi").asBoolean(true));
+
+        service.translateAndStoreToDirectory(null, null, "en.json", "bg", rows, "standard", true, true, null);
+        server.verify();
+
+        assertEquals(List.of(List.of("Apply", "Cancel"), List.of("Apply", "Cancel")), sentContents);
+        manifest = new ObjectMapper().readTree(Files.readString(tempDir.resolve("bg.source-manifest.json")));
+        assertTrue(manifest.path("postProcessWithOpenAi").asBoolean(false));
+    }
+
+    @Test
+    void resumedRequestReplaysCheckpointJournalAndOnlySendsMissingBatches() throws Exception {
+        TranslationService service = createService(
+                "", false, "en", "bg", 2, "risky-short", tempDir.resolve("openai-report.csv").toString(),
+                newTranslationMemory(), 1,
+                new TranslationCheckpointStore(true, tempDir.resolve("translation-checkpoints").toString(), 1440, new ObjectMapper())
+        );
+        seedGoogleAccessToken(service);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "x" : { "one" : "One", "two" : "Two", "three" : "Three", "four" : "Four" }
+                }
+                """);
+        List<TranslationRow> rows = List.of(
+                new TranslationRow("x", "one", "One", ""),
+                new TranslationRow("x", "two", "Two", ""),
+                new TranslationRow("x", "three", "Three", ""),
+                new TranslationRow("x", "four", "Four", "")
+        );
+        List<List<String>> sentContents = new CopyOnWriteArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        MockRestServiceServer server = bindMockServer(service);
+        server.expect(ExpectedCount.times(3), requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText"))
+                .andRespond(request -> {
+                    ByteArrayOutputStream requestBody = (ByteArrayOutputStream) request.getBody();
+                    JsonNode body = new ObjectMapper().readTree(requestBody.toString(StandardCharsets.UTF_8));
+                    List<String> contents = new ArrayList<>();
+                    StringBuilder translations = new StringBuilder();
+                    for (JsonNode content : body.path("contents")) {
+                        contents.add(content.asText());
+                        translations.append(translations.isEmpty() ? "" : ",")
+                                .append("{\"translatedText\":\"bg-").append(content.asText()).append("\"}");
+                    }
+                    sentContents.add(contents);
+                    if (calls.incrementAndGet() == 2) {
+                        return withBadRequest().createResponse(request);
+                    }
+                    return withSuccess("{\"translations\":[" + translations + "]}", MediaType.APPLICATION_JSON)
+                            .createResponse(request);
+                });
+
+        assertThrows(RuntimeException.class, () -> service.translateAndStoreToDirectory(
+                null, null, "en.json", "bg", rows, "standard", false, "job-1"));
+        assertTrue(service.hasTranslationCheckpoint("job-1"));
+        assertEquals(Set.of("bg"), service.translationCheckpoints("job-1").keySet());
+
+        TranslationExportResult result = service.translateAndStoreToDirectory(
+                null, null, "en.json", "bg", rows, "standard", false, "job-1");
+        server.verify();
+
+        assertEquals(List.of(List.of("One", "Two"), List.of("Three", "Four"), List.of("Three", "Four")), sentContents);
+        JsonNode translated = new ObjectMapper().readTree(Files.readString(Path.of(result.getOutputFile())));
+        assertEquals("bg-One", translated.path("x").path("one").asText());
+        assertEquals("bg-Four", translated.path("x").path("four").asText());
+        assertFalse(service.hasTranslationCheckpoint("job-1"));
+    }
+
+    @Test
+    void resumedRequestReplaysGoogleBatchesForMixedCaseRegionTarget() throws Exception {
+        TranslationService service = createService(
+                "", false, "en", "bg", 2, "risky-short", tempDir.resolve("openai-report.csv").toString(),
+                newTranslationMemory(), 1,
+                new TranslationCheckpointStore(true, tempDir.resolve("translation-checkpoints").toString(), 1440, new ObjectMapper())
+        );
+        seedGoogleAccessToken(service);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "x" : { "one" : "One", "two" : "Two", "three" : "Three", "four" : "Four" }
+                }
+                """);
+        List<TranslationRow> rows = List.of(
+                new TranslationRow("x", "one", "One", ""),
+                new TranslationRow("x", "two", "Two", ""),
+                new TranslationRow("x", "three", "Three", ""),
+                new TranslationRow("x", "four", "Four", "")
+        );
+        List<List<String>> sentContents = new CopyOnWriteArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        MockRestServiceServer server = bindMockServer(service);
+        server.expect(ExpectedCount.times(3), requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText"))
+                .andRespond(request -> {
+                    ByteArrayOutputStream requestBody = (ByteArrayOutputStream) request.getBody();
+                    JsonNode body = new ObjectMapper().readTree(requestBody.toString(StandardCharsets.UTF_8));
+                    List<String> contents = new ArrayList<>();
+                    StringBuilder translations = new StringBuilder();
+                    for (JsonNode content : body.path("contents")) {
+                        contents.add(content.asText());
+                        translations.append(translations.isEmpty() ? "" : ",")
+                                .append("{\"translatedText\":\"pt-").append(content.asText()).append("\"}");
+                    }
+                    sentContents.add(contents);
+                    if (calls.incrementAndGet() == 2) {
+                        return withBadRequest().createResponse(request);
+                    }
+                    return withSuccess("{\"translations\":[" + translations + "]}", MediaType.APPLICATION_JSON)
+                            .createResponse(request);
+                });
+
+        assertThrows(RuntimeException.class, () -> service.translateAndStoreToDirectory(
+                null, null, "en.json", "pt_BR", rows, "standard", false, "job-1"));
+        assertTrue(service.hasTranslationCheckpoint("job-1"));
+        assertEquals(Set.of("pt-br"), service.translationCheckpoints("job-1").keySet());
+
+        TranslationExportResult result = service.translateAndStoreToDirectory(
+                null, null, "en.json", "pt_BR", rows, "standard", false, "job-1");
+        server.verify();
+
+        assertEquals(List.of(List.of("One", "Two"), List.of("Three", "Four"), List.of("Three", "Four")), sentContents);
+        JsonNode translated = new ObjectMapper().readTree(Files.readString(Path.of(result.getOutputFile())));
+        assertEquals("pt-One", translated.path("x").path("one").asText());
+        assertEquals("pt-Four", translated.path("x").path("four").asText());
+        assertFalse(service.hasTranslationCheckpoint("job-1"));
+    }
+
+    @Test
+    void packPendingBatchesFillsRequestsUpToCodepointBudget() throws Exception {
+        TranslationService service = createService("", false, "en", "bg", 3);
+        setField(service, "googleMaxCodepointsPerBatch", 10);
+        List<TranslationRow> rows = List.of(
+                new TranslationRow("b", "one", "Приложи", ""),
+                new TranslationRow("b", "two", "abc", ""),
+                new TranslationRow("b", "three", "d", ""),
+                new TranslationRow("b", "four", "e", ""),
+                new TranslationRow("b", "five", "a very long help text", ""),
+                new TranslationRow("b", "six", "f", "")
+        );
+        List<?> protectedItems = protectRows(service, rows);
+        Method packPendingBatches = TranslationService.class.getDeclaredMethod("packPendingBatches", List.class, List.class);
+        packPendingBatches.setAccessible(true);
+
+        List<?> batches = (List<?>) packPendingBatches.invoke(service, protectedItems, List.of(0, 1, 2, 3, 4, 5));
+
+        assertEquals(List.of(List.of(0, 1), List.of(2, 3), List.of(4), List.of(5)), batchItemIndexes(batches));
+
+        Class<?> packingModeType = Class.forName(TranslationService.class.getName() + "$BatchPackingMode");
+        setField(service, "googleBatchPacking", Arrays.stream(packingModeType.getEnumConstants())
+                .filter(mode -> mode.toString().equals("COUNT"))
+                .findFirst()
+                .orElseThrow());
+        batches = (List<?>) packPendingBatches.invoke(service, protectedItems, List.of(0, 1, 2, 3, 4, 5));
+
+        assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4, 5)), batchItemIndexes(batches));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void protectPlaceholdersUsesStableSafeTokensAndRestoresRepeatedPlaceholders() throws Exception {
@@ -533,9 +1448,9 @@ class TranslationServiceTest {
         flattenRows.setAccessible(true);
         List<?> flattened = (List<?>) flattenRows.invoke(service, List.of(row));
 
-        Method preprocessItems = TranslationService.class.getDeclaredMethod("preprocessItems", List.class, Set.class);
+        Method preprocessItems = TranslationService.class.getDeclaredMethod("preprocessItems", List.class, RiskyTermsRegistry.RiskyTerms.class);
         preprocessItems.setAccessible(true);
-        List<?> preprocessed = (List<?>) preprocessItems.invoke(service, flattened, Set.of());
+        List<?> preprocessed = (List<?>) preprocessItems.invoke(service, flattened, RiskyTermsRegistry.RiskyTerms.of(Set.of()));
 
         Method protectPlaceholders = TranslationService.class.getDeclaredMethod("protectPlaceholders", List.class);
         protectPlaceholders.setAccessible(true);
@@ -588,9 +1503,9 @@ class TranslationServiceTest {
         Method flattenRows = TranslationService.class.getDeclaredMethod("flattenRows", List.class);
         flattenRows.setAccessible(true);
         List<?> flattened = (List<?>) flattenRows.invoke(service, List.of(row));
-        Method preprocessItems = TranslationService.class.getDeclaredMethod("preprocessItems", List.class, Set.class);
+        Method preprocessItems = TranslationService.class.getDeclaredMethod("preprocessItems", List.class, RiskyTermsRegistry.RiskyTerms.class);
         preprocessItems.setAccessible(true);
-        List<?> preprocessed = (List<?>) preprocessItems.invoke(service, flattened, Set.of());
+        List<?> preprocessed = (List<?>) preprocessItems.invoke(service, flattened, RiskyTermsRegistry.RiskyTerms.of(Set.of()));
         Method protectPlaceholders = TranslationService.class.getDeclaredMethod("protectPlaceholders", List.class);
         protectPlaceholders.setAccessible(true);
         List<?> protectedItems = (List<?>) protectPlaceholders.invoke(service, preprocessed);
@@ -603,7 +1518,7 @@ class TranslationServiceTest {
                 List.class,
                 String.class,
                 String.class,
-                Set.class
+                RiskyTermsRegistry.RiskyTerms.class
         );
         validateResults.setAccessible(true);
         Object failedReport = validateResults.invoke(
@@ -613,7 +1528,7 @@ class TranslationServiceTest {
                 List.of(unresolvedOutput),
                 "en",
                 "bg",
-                Set.of()
+                RiskyTermsRegistry.RiskyTerms.of(Set.of())
         );
 
         List<?> issues = (List<?>) issuesAccessor.invoke(failedReport);
@@ -634,6 +1549,7 @@ class TranslationServiceTest {
                 "",
                 "",
                 "global",
+                "https://translation.googleapis.com/v3",
                 "general/translation-llm",
                 true,
                 "",
@@ -650,6 +1566,10 @@ class TranslationServiceTest {
                 50,
                 3,
                 10,
+                1,
+                "codepoints",
+                30000,
+                2,
                 "en",
                 "en",
                 "",
@@ -658,7 +1578,13 @@ class TranslationServiceTest {
                 false,
                 new ObjectMapper(),
                 new RestTemplateBuilder(),
-                newOpenAiTranslationReviewService()
+                newOpenAiTranslationReviewService(),
+                newTranslationMemory(),
+                newGoogleConcurrencyLimiter(),
+                newLocaleFileCache(),
+                newTranslationCheckpointStore(),
+                newTranslationMetrics(),
+                newTranslationExecutor()
         ));
 
         assertTrue(exception.getMessage().contains("myapp.google.projectId"));
@@ -740,27 +1666,6 @@ class TranslationServiceTest {
         assertEquals("C:/Users/example/credentials.json", normalized);
     }
 
-    @Test
-    void flattenAndRebuildPreservesSelectedJsonStructureOnly() throws Exception {
-        TranslationService service = createService("", false, "en", "bg", 50);
-        ObjectMapper objectMapper = new ObjectMapper();
-        Object sourcePayload = objectMapper.readValue("""
-                {
-                  "b": {"title": "Hello", "count": 3},
-                  "meta": ["keep", "array"]
-                }
-                """, Object.class);
-
-        Method rebuild = TranslationService.class.getDeclaredMethod("rebuildTranslatedPayload", Object.class, Map.class);
-        rebuild.setAccessible(true);
-        Object rebuilt = rebuild.invoke(service, sourcePayload, Map.of("b.title", "Bonjour"));
-        JsonNode rebuiltNode = objectMapper.valueToTree(rebuilt);
-
-        assertEquals("Bonjour", rebuiltNode.path("b").path("title").asText());
-        assertTrue(rebuiltNode.path("b").path("count").isMissingNode());
-        assertTrue(rebuiltNode.path("meta").isMissingNode());
-    }
-
     @Test
     void riskyStringClassificationMarksShortUiAndConfiguredRiskTerms() throws Exception {
         Path riskyTermsFile = tempDir.resolve("risky-terms.txt");
@@ -774,9 +1679,9 @@ class TranslationServiceTest {
                 new TranslationRow("x", "sync", "Please sync now", "")
         ));
 
-        Method preprocessItems = TranslationService.class.getDeclaredMethod("preprocessItems", List.class, Set.class);
+        Method preprocessItems = TranslationService.class.getDeclaredMethod("preprocessItems", List.class, RiskyTermsRegistry.RiskyTerms.class);
         preprocessItems.setAccessible(true);
-        List<?> preprocessed = (List<?>) preprocessItems.invoke(service, flattened, Set.of("sync now"));
+        List<?> preprocessed = (List<?>) preprocessItems.invoke(service, flattened, RiskyTermsRegistry.RiskyTerms.of(Set.of("sync now")));
 
         Method metadataAccessor = preprocessed.get(0).getClass().getDeclaredMethod("metadata");
         Object metadata1 = metadataAccessor.invoke(preprocessed.get(0));
@@ -793,14 +1698,14 @@ class TranslationServiceTest {
         Method flattenRows = TranslationService.class.getDeclaredMethod("flattenRows", List.class);
         flattenRows.setAccessible(true);
         List<?> flattened = (List<?>) flattenRows.invoke(service, List.of(row));
-        Method preprocessItems = TranslationService.class.getDeclaredMethod("preprocessItems", List.class, Set.class);
+        Method preprocessItems = TranslationService.class.getDeclaredMethod("preprocessItems", List.class, RiskyTermsRegistry.RiskyTerms.class);
         preprocessItems.setAccessible(true);
-        List<?> preprocessed = (List<?>) preprocessItems.invoke(service, flattened, Set.of());
+        List<?> preprocessed = (List<?>) preprocessItems.invoke(service, flattened, RiskyTermsRegistry.RiskyTerms.of(Set.of()));
         Method protectPlaceholders = TranslationService.class.getDeclaredMethod("protectPlaceholders", List.class);
         protectPlaceholders.setAccessible(true);
         List<?> protectedItems = (List<?>) protectPlaceholders.invoke(service, preprocessed);
 
-        Method validateResults = TranslationService.class.getDeclaredMethod("validateResults", List.class, List.class, List.class, String.class, String.class, Set.class);
+        Method validateResults = TranslationService.class.getDeclaredMethod("validateResults", List.class, List.class, List.class, String.class, String.class, RiskyTermsRegistry.RiskyTerms.class);
         validateResults.setAccessible(true);
         Object report = validateResults.invoke(
                 service,
@@ -809,7 +1714,7 @@ class TranslationServiceTest {
                 List.of("Bonjour"),
                 "en",
                 "fr",
-                Set.of()
+                RiskyTermsRegistry.RiskyTerms.of(Set.of())
         );
 
         Method summaryAccessor = report.getClass().getDeclaredMethod("summary");
@@ -827,14 +1732,14 @@ class TranslationServiceTest {
                 new TranslationRow("b", "k1", "Apply", ""),
                 new TranslationRow("m", "k2", "Apply", "")
         ));
-        Method preprocessItems = TranslationService.class.getDeclaredMethod("preprocessItems", List.class, Set.class);
+        Method preprocessItems = TranslationService.class.getDeclaredMethod("preprocessItems", List.class, RiskyTermsRegistry.RiskyTerms.class);
         preprocessItems.setAccessible(true);
-        List<?> preprocessed = (List<?>) preprocessItems.invoke(service, flattened, Set.of());
+        List<?> preprocessed = (List<?>) preprocessItems.invoke(service, flattened, RiskyTermsRegistry.RiskyTerms.of(Set.of()));
         Method protectPlaceholders = TranslationService.class.getDeclaredMethod("protectPlaceholders", List.class);
         protectPlaceholders.setAccessible(true);
         List<?> protectedItems = (List<?>) protectPlaceholders.invoke(service, preprocessed);
 
-        Method validateResults = TranslationService.class.getDeclaredMethod("validateResults", List.class, List.class, List.class, String.class, String.class, Set.class);
+        Method validateResults = TranslationService.class.getDeclaredMethod("validateResults", List.class, List.class, List.class, String.class, String.class, RiskyTermsRegistry.RiskyTerms.class);
         validateResults.setAccessible(true);
         Object report = validateResults.invoke(
                 service,
@@ -846,7 +1751,7 @@ class TranslationServiceTest {
                 List.of("Aplicar", "Aplicación"),
                 "en",
                 "es",
-                Set.of()
+                RiskyTermsRegistry.RiskyTerms.of(Set.of())
         );
         Method summaryAccessor = report.getClass().getDeclaredMethod("summary");
         Object summary = summaryAccessor.invoke(report);
@@ -854,6 +1759,43 @@ class TranslationServiceTest {
         assertEquals(2, warningsAccessor.invoke(summary));
     }
 
+    @Test
+    void validationAcrossParallelChunksKeepsRowOrderAndFlagsEveryInconsistentDuplicate() throws Exception {
+        TranslationService service = createService("", false, "en", "es", 50);
+        Object report = validateResults(service, generatedValidationArguments(service, 10_000));
+
+        Object summary = report.getClass().getDeclaredMethod("summary").invoke(report);
+        assertEquals(2_000, summary.getClass().getDeclaredMethod("duplicateInconsistencyFindings").invoke(summary));
+        assertEquals(2_000, summary.getClass().getDeclaredMethod("warningCount").invoke(summary));
+        assertEquals(0, summary.getClass().getDeclaredMethod("invalidCount").invoke(summary));
+        List<?> rows = (List<?>) report.getClass().getDeclaredMethod("rows").invoke(report);
+        Method fullKey = rows.get(0).getClass().getDeclaredMethod("fullKey");
+        fullKey.setAccessible(true);
+        for (int i : new int[] {0, 2_047, 2_048, 9_999}) {
+            assertEquals("s" + (i % 10) + ".k" + i, fullKey.invoke(rows.get(i)));
+        }
+    }
+
+    private Object[] generatedValidationArguments(TranslationService service, int rowCount) throws Exception {
+        List<TranslationRow> sourceRows = new ArrayList<>(rowCount);
+        List<Object> translatedItems = new ArrayList<>(rowCount);
+        List<String> translatedTexts = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            boolean duplicate = i % 5 == 0;
+            String translated = duplicate ? (i % 10 == 0 ? "Aplicar" : "Aplicación") : "Texto " + i;
+            sourceRows.add(new TranslationRow("s" + (i % 10), "k" + i, duplicate ? "Apply" : "Text number " + i, ""));
+            translatedItems.add(newTranslatedItemResult(i, "s" + (i % 10) + ".k" + i, translated, "mock", false, ""));
+            translatedTexts.add(translated);
+        }
+        return new Object[] {protectRows(service, sourceRows), translatedItems, translatedTexts, "en", "es", RiskyTermsRegistry.RiskyTerms.of(Set.of())};
+    }
+
+    private Object validateResults(TranslationService service, Object[] arguments) throws Exception {
+        Method validateResults = TranslationService.class.getDeclaredMethod("validateResults", List.class, List.class, List.class, String.class, String.class, RiskyTermsRegistry.RiskyTerms.class);
+        validateResults.setAccessible(true);
+        return validateResults.invoke(service, arguments);
+    }
+
     @Test
     void validateAdaptiveDatasetTsvRejectsMalformedRows() throws Exception {
         TranslationService service = createService("", false, "en", "bg", 50);
@@ -887,7 +1829,7 @@ class TranslationServiceTest {
                 }
                 """);
 
-        MockRestServiceServer server = bindMockServer(service);
+        MockRestServiceServer server = bindUnorderedMockServer(service);
         String adaptiveUrl = "https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:adaptiveMtTranslate";
         server.expect(requestTo(adaptiveUrl))
                 .andExpect(method(HttpMethod.POST))
@@ -929,6 +1871,53 @@ class TranslationServiceTest {
         assertEquals("Ceci est une longue phrase neutre", translated.path("x").path("longText").asText());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void translateAndStoreRunsAdaptiveAndLlmRouteGroupsConcurrently() throws Exception {
+        TranslationService service = createService("", false, "en", "fr", 50);
+        Field activeAdaptiveDatasetsField = TranslationService.class.getDeclaredField("activeAdaptiveDatasetsByLanguagePair");
+        activeAdaptiveDatasetsField.setAccessible(true);
+        Map<String, String> activeAdaptiveDatasets = (Map<String, String>) activeAdaptiveDatasetsField.get(service);
+        activeAdaptiveDatasets.put("en->fr", "projects/dummy-project-id/locations/global/adaptiveMtDatasets/en-fr-app");
+        seedGoogleAccessToken(service);
+        Files.writeString(tempDir.resolve("en.json"), """
+                {
+                  "b" : {
+                    "apply" : "Apply"
+                  },
+                  "x" : {
+                    "longText" : "This is a long neutral sentence"
+                  }
+                }
+                """);
+        CountDownLatch bothRouteGroupsInFlight = new CountDownLatch(2);
+        AtomicBoolean overlapped = new AtomicBoolean();
+        MockRestServiceServer server = bindUnorderedMockServer(service);
+        server.expect(requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:adaptiveMtTranslate"))
+                .andRespond(request -> {
+                    awaitLatch(bothRouteGroupsInFlight, overlapped);
+                    return withSuccess("{\"translations\":[{\"translatedText\":\"Appliquer\"}]}", MediaType.APPLICATION_JSON)
+                            .createResponse(request);
+                });
+        server.expect(requestTo("https://translation.googleapis.com/v3/projects/dummy-project-id/locations/global:translateText"))
+                .andRespond(request -> {
+                    awaitLatch(bothRouteGroupsInFlight, overlapped);
+                    return withSuccess("{\"translations\":[{\"translatedText\":\"Ceci est une longue phrase neutre\"}]}", MediaType.APPLICATION_JSON)
+                            .createResponse(request);
+                });
+
+        service.translateAndStore(null, "en.json", "fr", List.of(
+                new TranslationRow("b", "apply", "Apply", ""),
+                new TranslationRow("x", "longText", "This is a long neutral sentence", "")
+        ));
+        server.verify();
+
+        assertTrue(overlapped.get());
+        JsonNode translated = new ObjectMapper().readTree(Files.readString(tempDir.resolve("fr.json")));
+        assertEquals("Appliquer", translated.path("b").path("apply").asText());
+        assertEquals("Ceci est une longue phrase neutre", translated.path("x").path("longText").asText());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void translateAndStoreRoutesAllStringsToAdaptiveWhenStrategyIsAll() throws Exception {
@@ -1114,6 +2103,24 @@ class TranslationServiceTest {
         return MockRestServiceServer.bindTo(restTemplate).build();
     }
 
+    private MockRestServiceServer bindUnorderedMockServer(TranslationService service) throws Exception {
+        Field restTemplateField = TranslationService.class.getDeclaredField("restTemplate");
+        restTemplateField.setAccessible(true);
+        RestTemplate restTemplate = (RestTemplate) restTemplateField.get(service);
+        return MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+    }
+
+    private void awaitLatch(CountDownLatch latch, AtomicBoolean reached) {
+        latch.countDown();
+        try {
+            if (latch.await(5, TimeUnit.SECONDS)) {
+                reached.set(true);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void seedGoogleAccessToken(TranslationService service) throws Exception {
         AccessToken token = new AccessToken("test-token", new Date(System.currentTimeMillis() + 3_600_000));
         Field credentialsField = TranslationService.class.getDeclaredField("googleCredentials");
@@ -1125,6 +2132,34 @@ class TranslationServiceTest {
         accessTokenField.set(service, token);
     }
 
+    private List<?> protectRows(TranslationService service, List<TranslationRow> rows) throws Exception {
+        Method flattenRows = TranslationService.class.getDeclaredMethod("flattenRows", List.class);
+        flattenRows.setAccessible(true);
+        Method preprocessItems = TranslationService.class.getDeclaredMethod("preprocessItems", List.class, RiskyTermsRegistry.RiskyTerms.class);
+        preprocessItems.setAccessible(true);
+        Method protectPlaceholders = TranslationService.class.getDeclaredMethod("protectPlaceholders", List.class);
+        protectPlaceholders.setAccessible(true);
+        List<?> flattened = (List<?>) flattenRows.invoke(service, rows);
+        return (List<?>) protectPlaceholders.invoke(service, preprocessItems.invoke(service, flattened, RiskyTermsRegistry.RiskyTerms.of(Set.of())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Integer>> batchItemIndexes(List<?> batches) throws Exception {
+        List<List<Integer>> itemIndexes = new ArrayList<>();
+        for (Object batch : batches) {
+            Method accessor = batch.getClass().getDeclaredMethod("itemIndexes");
+            accessor.setAccessible(true);
+            itemIndexes.add(List.copyOf((List<Integer>) accessor.invoke(batch)));
+        }
+        return itemIndexes;
+    }
+
+    private void setField(TranslationService service, String name, Object value) throws Exception {
+        Field field = TranslationService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(service, value);
+    }
+
     private String normalizeLineEndings(String value) {
         return value.replace("\r\n", "\n");
     }
@@ -1166,12 +2201,63 @@ class TranslationServiceTest {
             int batchSize,
             String adaptiveDatasetRoutingStrategy,
             String openAiReportPath
+    ) throws Exception {
+        return createService(
+                riskyTermsFile,
+                glossaryEnabled,
+                sourceLanguage,
+                targetLanguage,
+                batchSize,
+                adaptiveDatasetRoutingStrategy,
+                openAiReportPath,
+                newTranslationMemory(),
+                1
+        );
+    }
+
+    private TranslationService createService(
+            String riskyTermsFile,
+            boolean glossaryEnabled,
+            String sourceLanguage,
+            String targetLanguage,
+            int batchSize,
+            String adaptiveDatasetRoutingStrategy,
+            String openAiReportPath,
+            TranslationMemory translationMemory,
+            int maxConcurrentBatches
+    ) throws Exception {
+        return createService(
+                riskyTermsFile,
+                glossaryEnabled,
+                sourceLanguage,
+                targetLanguage,
+                batchSize,
+                adaptiveDatasetRoutingStrategy,
+                openAiReportPath,
+                translationMemory,
+                maxConcurrentBatches,
+                newTranslationCheckpointStore()
+        );
+    }
+
+    private TranslationService createService(
+            String riskyTermsFile,
+            boolean glossaryEnabled,
+            String sourceLanguage,
+            String targetLanguage,
+            int batchSize,
+            String adaptiveDatasetRoutingStrategy,
+            String openAiReportPath,
+            TranslationMemory translationMemory,
+            int maxConcurrentBatches,
+            TranslationCheckpointStore checkpointStore
     ) throws Exception {
         return new TranslationService(
                 tempDir.toString(),
                 "",
                 "dummy-project-id",
                 "global",
+                "https://translation.googleapis.com/v3",
                 "general/translation-llm",
                 glossaryEnabled,
                 "bg-terms",
@@ -1188,6 +2274,10 @@ class TranslationServiceTest {
                 batchSize,
                 3,
                 10,
+                maxConcurrentBatches,
+                "codepoints",
+                30000,
+                2,
                 "en",
                 "en",
                 riskyTermsFile,
@@ -1196,7 +2286,13 @@ class TranslationServiceTest {
                 false,
                 new ObjectMapper(),
                 new RestTemplateBuilder(),
-                newOpenAiTranslationReviewService(openAiReportPath)
+                newOpenAiTranslationReviewService(openAiReportPath),
+                translationMemory,
+                newGoogleConcurrencyLimiter(),
+                newLocaleFileCache(),
+                checkpointStore,
+                newTranslationMetrics(),
+                newTranslationExecutor()
         );
     }
 
@@ -1206,6 +2302,7 @@ class TranslationServiceTest {
                 "",
                 "dummy-project-id",
                 "global",
+                "https://translation.googleapis.com/v3",
                 "general/translation-llm",
                 true,
                 "bg-terms",
@@ -1222,6 +2319,10 @@ class TranslationServiceTest {
                 50,
                 3,
                 10,
+                1,
+                "codepoints",
+                30000,
+                2,
                 "en",
                 "en",
                 "",
@@ -1230,7 +2331,13 @@ class TranslationServiceTest {
                 false,
                 new ObjectMapper(),
                 new RestTemplateBuilder(),
-                newOpenAiTranslationReviewService()
+                newOpenAiTranslationReviewService(),
+                newTranslationMemory(),
+                newGoogleConcurrencyLimiter(),
+                newLocaleFileCache(),
+                newTranslationCheckpointStore(),
+                newTranslationMetrics(),
+                newTranslationExecutor()
         );
     }
 
@@ -1240,6 +2347,7 @@ class TranslationServiceTest {
                 "",
                 "dummy-project-id",
                 "global",
+                "https://translation.googleapis.com/v3",
                 "general/translation-llm",
                 false,
                 "",
@@ -1256,6 +2364,10 @@ class TranslationServiceTest {
                 50,
                 3,
                 10,
+                1,
+                "codepoints",
+                30000,
+                2,
                 "en",
                 "en",
                 "",
@@ -1264,10 +2376,40 @@ class TranslationServiceTest {
                 false,
                 new ObjectMapper(),
                 new RestTemplateBuilder(),
-                newOpenAiTranslationReviewService()
+                newOpenAiTranslationReviewService(),
+                newTranslationMemory(),
+                newGoogleConcurrencyLimiter(),
+                newLocaleFileCache(),
+                newTranslationCheckpointStore(),
+                newTranslationMetrics(),
+                newTranslationExecutor()
         );
     }
 
+    private TranslationMemory newTranslationMemory() throws Exception {
+        return new TranslationMemory(false, tempDir.resolve("translation-memory").toString(), 1000, 2000, new ObjectMapper());
+    }
+
+    private GoogleTranslateConcurrencyLimiter newGoogleConcurrencyLimiter() {
+        return new GoogleTranslateConcurrencyLimiter(true, 4, 1, 32, 0.5);
+    }
+
+    private LocaleFileCache newLocaleFileCache() {
+        return new LocaleFileCache(true, 16);
+    }
+
+    private TranslationExecutor newTranslationExecutor() {
+        return new TranslationExecutor(16);
+    }
+
+    private TranslationMetrics newTranslationMetrics() {
+        return new TranslationMetrics(meterRegistry);
+    }
+
+    private TranslationCheckpointStore newTranslationCheckpointStore() throws Exception {
+        return new TranslationCheckpointStore(false, tempDir.resolve("translation-checkpoints").toString(), 1440, new ObjectMapper());
+    }
+
     private OpenAiTranslationReviewService newOpenAiTranslationReviewService() {
         return newOpenAiTranslationReviewService(tempDir.resolve("openai-report.csv").toString());
     }
@@ -1293,7 +2435,8 @@ class TranslationServiceTest {
                 BigDecimal.ZERO,
                 BigDecimal.ZERO,
                 new ObjectMapper(),
-                new RestTemplateBuilder()
+                new RestTemplateBuilder(),
+                newTranslationMetrics()
         );
     }
 }
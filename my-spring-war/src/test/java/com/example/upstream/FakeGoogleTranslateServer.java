@@ -0,0 +1,56 @@
+package com.example.upstream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stand-in for the Cloud Translation v3 {@code translateText} and {@code adaptiveMtTranslate}
+ * endpoints. Each text comes back prefixed with {@code [target]} (or {@code [adaptive]}), so
+ * placeholder tokens survive the round trip the way they do with the real API.
+ */
+public class FakeGoogleTranslateServer extends FakeUpstreamServer {
+    private static final Pattern TRANSLATE_PATH = Pattern.compile("/v3/projects/[^/]+/locations/[^/:]+:(translateText|adaptiveMtTranslate)");
+
+    private final AtomicLong translatedTexts = new AtomicLong();
+
+    public FakeGoogleTranslateServer(Behavior behavior) throws IOException {
+        super(behavior);
+    }
+
+    /** Value for {@code myapp.google.apiBaseUrl}. */
+    public String apiBaseUrl() {
+        return rootUrl() + "/v3";
+    }
+
+    public long translatedTexts() {
+        return translatedTexts.get();
+    }
+
+    @Override
+    protected Response handle(String method, String path, JsonNode body) {
+        Matcher matcher = TRANSLATE_PATH.matcher(path);
+        if (!"POST".equals(method) || !matcher.matches()) {
+            return Response.error(404, "NOT_FOUND", "Unsupported fake endpoint " + method + " " + path);
+        }
+        boolean adaptive = "adaptiveMtTranslate".equals(matcher.group(1));
+        JsonNode contents = body.path(adaptive ? "content" : "contents");
+        if (!contents.isArray() || contents.isEmpty()) {
+            return Response.error(400, "INVALID_ARGUMENT", "No contents to translate");
+        }
+
+        String marker = adaptive ? "[adaptive] " : "[" + body.path("targetLanguageCode").asText("xx") + "] ";
+        List<Map<String, String>> translations = new ArrayList<>(contents.size());
+        for (JsonNode content : contents) {
+            translations.add(Map.of("translatedText", marker + content.asText()));
+        }
+        translatedTexts.addAndGet(translations.size());
+        return Response.ok(Map.of("translations", translations));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.upstream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for the OpenAI {@code /responses} endpoint as the translation review uses it:
+ * the review request is read from the user input message and every item is approved
+ * unchanged, with a structured {@code output_text} and token usage like the real API.
+ */
+public class FakeOpenAiServer extends FakeUpstreamServer {
+    private final AtomicLong responseIds = new AtomicLong();
+    private final AtomicLong reviewedItems = new AtomicLong();
+
+    public FakeOpenAiServer(Behavior behavior) throws IOException {
+        super(behavior);
+    }
+
+    /** Value for {@code openai.base-url}. */
+    public String baseUrl() {
+        return rootUrl() + "/v1";
+    }
+
+    public long reviewedItems() {
+        return reviewedItems.get();
+    }
+
+    @Override
+    protected Response handle(String method, String path, JsonNode body) throws Exception {
+        if (!"POST".equals(method) || !"/v1/responses".equals(path)) {
+            return Response.error(404, "not_found", "Unsupported fake endpoint " + method + " " + path);
+        }
+        JsonNode reviewRequest = null;
+        for (JsonNode message : body.path("input")) {
+            if ("user".equals(message.path("role").asText())) {
+                reviewRequest = mapper.readTree(message.path("content").path(0).path("text").asText("{}"));
+            }
+        }
+        if (reviewRequest == null) {
+            return Response.error(400, "invalid_request_error", "No user input message");
+        }
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (JsonNode item : reviewRequest.path("items")) {
+            items.add(Map.of(
+                    "key", item.path("key").asText(),
+                    "finalText", item.path("translatedText").asText(""),
+                    "changed", false,
+                    "reason", "",
+                    "issues", List.of()
+            ));
+        }
+        reviewedItems.addAndGet(items.size());
+        int inputTokens = body.toString().length() / 4;
+        int outputTokens = items.size() * 24;
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", "resp_fake_" + responseIds.incrementAndGet());
+        response.put("object", "response");
+        response.put("status", "completed");
+        response.put("output_text", mapper.writeValueAsString(Map.of("items", items)));
+        response.put("usage", Map.of(
+                "input_tokens", inputTokens,
+                "input_tokens_details", Map.of("cached_tokens", 0),
+                "output_tokens", outputTokens,
+                "total_tokens", inputTokens + outputTokens
+        ));
+        return Response.ok(response);
+    }
+}
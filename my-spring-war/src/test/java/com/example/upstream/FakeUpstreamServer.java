@@ -0,0 +1,202 @@
+package com.example.upstream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embeddable stand-in for an upstream HTTP API, backed by the JDK HTTP server on a random
+ * loopback port. Every request first passes the rate limit (rejected with 429 when the
+ * token bucket is empty), then waits a sampled latency, then may fail with an injected
+ * 429 or 503 before the subclass produces the real response. The {@link Behavior} can be
+ * swapped while the server runs.
+ */
+public abstract class FakeUpstreamServer implements AutoCloseable {
+    protected final ObjectMapper mapper = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong injectedTooManyRequests = new AtomicLong();
+    private final AtomicLong injectedServerErrors = new AtomicLong();
+    private final AtomicLong served = new AtomicLong();
+    private volatile Behavior behavior;
+    private volatile TokenBucket tokenBucket;
+
+    protected FakeUpstreamServer(Behavior behavior) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::exchange);
+        behavior(behavior);
+        server.start();
+    }
+
+    /** Answers a request that passed rate limiting and fault injection. */
+    protected abstract Response handle(String method, String path, JsonNode body) throws Exception;
+
+    public String rootUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public void behavior(Behavior behavior) {
+        this.behavior = behavior;
+        this.tokenBucket = behavior.maxRequestsPerSecond() > 0 ? new TokenBucket(behavior.maxRequestsPerSecond()) : null;
+    }
+
+    public Stats stats() {
+        return new Stats(requests.get(), rateLimited.get(), injectedTooManyRequests.get(), injectedServerErrors.get(), served.get());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void exchange(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            Behavior current = behavior;
+            TokenBucket bucket = tokenBucket;
+            if (bucket != null && !bucket.tryAcquire()) {
+                rateLimited.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                write(exchange, Response.error(429, "RESOURCE_EXHAUSTED", "Rate limit exceeded"));
+                return;
+            }
+
+            TimeUnit.MILLISECONDS.sleep(current.latency().sampleMillis());
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < current.tooManyRequestsRate()) {
+                injectedTooManyRequests.incrementAndGet();
+                write(exchange, Response.error(429, "RESOURCE_EXHAUSTED", "Injected rate limit response"));
+                return;
+            }
+            if (roll < current.tooManyRequestsRate() + current.serverErrorRate()) {
+                injectedServerErrors.incrementAndGet();
+                write(exchange, Response.error(503, "UNAVAILABLE", "Injected server error"));
+                return;
+            }
+
+            JsonNode body;
+            try (InputStream input = exchange.getRequestBody()) {
+                byte[] bytes = input.readAllBytes();
+                body = bytes.length == 0 ? mapper.createObjectNode() : mapper.readTree(bytes);
+            }
+            write(exchange, handle(exchange.getRequestMethod(), exchange.getRequestURI().getPath(), body));
+            served.incrementAndGet();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            write(exchange, Response.error(500, "INTERNAL", String.valueOf(ex.getMessage())));
+        }
+    }
+
+    private void write(HttpExchange exchange, Response response) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(response.body());
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(), bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    public record Response(int status, Object body) {
+        public static Response ok(Object body) {
+            return new Response(200, body);
+        }
+
+        public static Response error(int status, String code, String message) {
+            return new Response(status, Map.of("error", Map.of("code", status, "status", code, "message", message)));
+        }
+    }
+
+    /**
+     * @param tooManyRequestsRate fraction of admitted requests answered with an injected 429
+     * @param serverErrorRate fraction of admitted requests answered with an injected 503
+     * @param maxRequestsPerSecond token-bucket limit with a one-second burst; 0 disables it
+     */
+    public record Behavior(LatencyDistribution latency, double tooManyRequestsRate, double serverErrorRate, int maxRequestsPerSecond) {
+        public static Behavior healthy() {
+            return new Behavior(LatencyDistribution.none(), 0, 0, 0);
+        }
+
+        public Behavior withLatency(LatencyDistribution latency) {
+            return new Behavior(latency, tooManyRequestsRate, serverErrorRate, maxRequestsPerSecond);
+        }
+
+        public Behavior withTooManyRequestsRate(double rate) {
+            return new Behavior(latency, rate, serverErrorRate, maxRequestsPerSecond);
+        }
+
+        public Behavior withServerErrorRate(double rate) {
+            return new Behavior(latency, tooManyRequestsRate, rate, maxRequestsPerSecond);
+        }
+
+        public Behavior withMaxRequestsPerSecond(int limit) {
+            return new Behavior(latency, tooManyRequestsRate, serverErrorRate, limit);
+        }
+    }
+
+    @FunctionalInterface
+    public interface LatencyDistribution {
+        long sampleMillis();
+
+        static LatencyDistribution none() {
+            return () -> 0;
+        }
+
+        static LatencyDistribution fixed(long millis) {
+            return () -> millis;
+        }
+
+        static LatencyDistribution uniform(long minMillis, long maxMillis) {
+            return () -> ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+        }
+
+        /** Long-tailed latency with the given median and 99th percentile. */
+        static LatencyDistribution logNormal(long medianMillis, long p99Millis) {
+            double sigma = Math.log((double) p99Millis / medianMillis) / 2.326;
+            return () -> Math.round(medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+        }
+    }
+
+    public record Stats(long requests, long rateLimited, long injectedTooManyRequests, long injectedServerErrors, long served) {
+    }
+
+    private static final class TokenBucket {
+        private final int capacity;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        private TokenBucket(int perSecond) {
+            this.capacity = perSecond;
+            this.tokens = perSecond;
+        }
+
+        private synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * capacity / 1e9);
+            refilledAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}